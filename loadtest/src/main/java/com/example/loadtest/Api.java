@@ -0,0 +1,111 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Thin HTTP client for the application's REST API that times every call.
+ * <p>
+ * Calls are grouped by an operation name chosen by the caller. While
+ * {@link #startRecording()} is in effect, every call is added to the stats
+ * of its operation; calls made during seeding and warm-up are not recorded.
+ * </p>
+ */
+final class Api {
+
+    private static final Pattern ENTITY_ID = Pattern.compile("\"responseEntity\"\\s*:\\s*\\{\\s*\"id\"\\s*:\\s*(\\d+)");
+
+    /** Status and body of a completed call; status is -1 when no response arrived. */
+    record Response(int status, String body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        /** @return the {@code id} of the entity wrapped in the response, or -1 */
+        long entityId() {
+            Matcher m = ENTITY_ID.matcher(body);
+            return m.find() ? Long.parseLong(m.group(1)) : -1;
+        }
+    }
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private volatile Map<String, OperationStats> stats;
+
+    Api(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Starts recording into a fresh set of operation stats.
+     *
+     * @return the stats that calls will be recorded into, keyed by operation name
+     */
+    Map<String, OperationStats> startRecording() {
+        Map<String, OperationStats> fresh = new ConcurrentHashMap<>();
+        stats = fresh;
+        return fresh;
+    }
+
+    /** Stops recording; later calls are not counted. */
+    void stopRecording() {
+        stats = null;
+    }
+
+    Response get(String operation, String path) {
+        return send(operation, HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    Response post(String operation, String path, String json) {
+        return send(operation, HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    Response put(String operation, String path, String json) {
+        return send(operation, HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private Response send(String operation, HttpRequest.Builder builder) {
+        HttpRequest request = builder.timeout(timeout).build();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            HttpResponse<String> r = client.send(request, HttpResponse.BodyHandlers.ofString());
+            response = new Response(r.statusCode(), r.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response = new Response(-1, "");
+        } catch (Exception e) {
+            response = new Response(-1, "");
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, OperationStats> current = stats;
+        if (current != null) {
+            current.computeIfAbsent(operation, OperationStats::new).record(elapsed, response.status());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes scenario results as a JSON baseline file and a console summary.
+ * <p>
+ * Per scenario and per operation the file holds request count, throughput
+ * (requests/s), error and rejection rates, and p50/p99/p99.9/max latency in
+ * milliseconds, so two baselines can be diffed directly.
+ * </p>
+ */
+final class BaselineReport {
+
+    private BaselineReport() {
+    }
+
+    static void write(Path file, String baseUrl, List<ScenarioResult> results) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"baseUrl\": ").append(quote(baseUrl)).append(",\n");
+        json.append("  \"recordedAt\": ").append(quote(Instant.now().toString())).append(",\n");
+        json.append("  \"javaVersion\": ").append(quote(System.getProperty("java.version"))).append(",\n");
+        json.append("  \"scenarios\": [");
+        for (int i = 0; i < results.size(); i++) {
+            ScenarioResult r = results.get(i);
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\n");
+            json.append("      \"name\": ").append(quote(r.scenario())).append(",\n");
+            json.append("      \"concurrency\": ").append(r.concurrency()).append(",\n");
+            json.append("      \"durationSeconds\": ").append(number(r.durationSeconds())).append(",\n");
+            json.append("      \"overall\": ");
+            appendStats(json, r.overall(), r.durationSeconds(), "      ");
+            json.append(",\n      \"operations\": [");
+            for (int j = 0; j < r.operations().size(); j++) {
+                json.append(j == 0 ? "\n        " : ",\n        ");
+                appendStats(json, r.operations().get(j), r.durationSeconds(), "        ");
+            }
+            json.append("\n      ]\n    }");
+        }
+        json.append("\n  ]\n}\n");
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, json);
+    }
+
+    static void print(ScenarioResult r) {
+        System.out.printf(Locale.ROOT, "%n%s (%d clients, %.0f s)%n", r.scenario(), r.concurrency(), r.durationSeconds());
+        System.out.printf(Locale.ROOT, "  %-30s %9s %9s %8s %8s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "err%", "rej%", "p50 ms", "p99 ms", "p999 ms");
+        for (OperationStats op : r.operations()) {
+            printRow(op, r.durationSeconds());
+        }
+        printRow(r.overall(), r.durationSeconds());
+    }
+
+    private static void printRow(OperationStats op, double seconds) {
+        long n = op.latency.count();
+        System.out.printf(Locale.ROOT, "  %-30s %9d %9.1f %8.2f %8.2f %9.2f %9.2f %9.2f%n",
+                op.name, n, n / seconds, rate(op.errors.sum(), n) * 100, rate(op.rejected.sum(), n) * 100,
+                op.latency.percentileMillis(50), op.latency.percentileMillis(99), op.latency.percentileMillis(99.9));
+    }
+
+    private static void appendStats(StringBuilder json, OperationStats op, double seconds, String indent) {
+        long n = op.latency.count();
+        json.append("{\n");
+        json.append(indent).append("  \"name\": ").append(quote(op.name)).append(",\n");
+        json.append(indent).append("  \"requests\": ").append(n).append(",\n");
+        json.append(indent).append("  \"throughput\": ").append(number(n / seconds)).append(",\n");
+        json.append(indent).append("  \"errorRate\": ").append(number(rate(op.errors.sum(), n))).append(",\n");
+        json.append(indent).append("  \"rejectedRate\": ").append(number(rate(op.rejected.sum(), n))).append(",\n");
+        json.append(indent).append("  \"latencyMs\": {")
+                .append("\"p50\": ").append(number(op.latency.percentileMillis(50)))
+                .append(", \"p99\": ").append(number(op.latency.percentileMillis(99)))
+                .append(", \"p999\": ").append(number(op.latency.percentileMillis(99.9)))
+                .append(", \"max\": ").append(number(op.latency.maxMillis()))
+                .append("}\n");
+        json.append(indent).append("}");
+    }
+
+    private static double rate(long part, long total) {
+        return total == 0 ? 0 : part / (double) total;
+    }
+
+    private static String number(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk catalog import: each step creates a batch of courses, publishes them
+ * as a new platform, and registers a few users enrolled in the new courses.
+ * Created IDs are added to the dataset so concurrent scenarios see them.
+ */
+final class CatalogImport implements Scenario {
+
+    private static final int COURSES_PER_PLATFORM = 5;
+    private static final int USERS_PER_PLATFORM = 3;
+
+    @Override
+    public String name() {
+        return "catalog-import";
+    }
+
+    @Override
+    public void step(Api api, Dataset data, RandomGenerator rnd) {
+        List<Long> courseIds = new ArrayList<>();
+        for (int i = 0; i < COURSES_PER_PLATFORM; i++) {
+            long id = api.post("POST course", "/api/courses",
+                    "{\"title\":\"" + data.uniqueName("course") + "\"}").entityId();
+            if (id >= 0) courseIds.add(id);
+        }
+        if (courseIds.isEmpty()) return;
+
+        String courses = courseIds.stream()
+                .map(id -> "{\"id\":" + id + ",\"title\":\"c" + id + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        long platformId = api.post("POST platform", "/api/platforms",
+                "{\"name\":\"" + data.uniqueName("platform") + "\",\"courses\":" + courses + "}").entityId();
+        data.platforms.add(platformId);
+        courseIds.forEach(data.courses::add);
+
+        for (int i = 0; i < USERS_PER_PLATFORM; i++) {
+            String name = data.uniqueName("user");
+            long userId = api.post("POST user", "/api/users",
+                    "{\"name\":\"" + name + "\",\"email\":\"" + name + "@example.com\"}").entityId();
+            if (userId < 0) continue;
+            data.users.add(userId);
+
+            long courseId = courseIds.get(rnd.nextInt(courseIds.size()));
+            api.post("POST enroll (sync)", "/api/users/" + userId + "/courses", "[" + courseId + "]");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IDs of the platforms, courses and users the scenarios operate on, plus a
+ * generator of names that are unique across runs against the same database.
+ */
+final class Dataset {
+
+    final IdPool platforms = new IdPool();
+    final IdPool courses = new IdPool();
+    final IdPool users = new IdPool();
+
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param prefix kind of entity, e.g. {@code course}
+     * @return a name unique to this run, e.g. {@code course-lq2x9a-42}
+     */
+    String uniqueName(String prefix) {
+        return prefix + "-" + runId + "-" + sequence.incrementAndGet();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.loadtest;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+
+/**
+ * Registration opening: many users enrolling at once, concentrated on a few
+ * popular courses. Two thirds of the requests use the asynchronous enrollment
+ * path ({@code ?async=true}) and one third the synchronous one; a small share
+ * of reads polls user profiles in between.
+ */
+final class EnrollmentStorm implements Scenario {
+
+    @Override
+    public String name() {
+        return "enrollment-storm";
+    }
+
+    @Override
+    public void step(Api api, Dataset data, RandomGenerator rnd) {
+        long userId = data.users.any(rnd);
+        int roll = rnd.nextInt(100);
+        if (roll < 10) {
+            api.get("GET user", "/api/users/" + userId);
+            return;
+        }
+
+        Set<Long> courseIds = new LinkedHashSet<>();
+        int wanted = 1 + rnd.nextInt(3);
+        for (int i = 0; i < wanted; i++) {
+            courseIds.add(data.courses.hot(rnd));
+        }
+        String body = courseIds.stream().map(String::valueOf).collect(Collectors.joining(",", "[", "]"));
+
+        if (roll < 70) {
+            api.post("POST enroll (async)", "/api/users/" + userId + "/courses?async=true", body);
+        } else {
+            api.post("POST enroll (sync)", "/api/users/" + userId + "/courses", body);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Append-only pool of entity IDs that many client threads pick from while
+ * the catalog import scenario keeps adding to it.
+ */
+final class IdPool {
+
+    private long[] ids = new long[1024];
+    private volatile int size;
+
+    synchronized void add(long id) {
+        if (id < 0) return;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size] = id;
+        size = size + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** @return a uniformly chosen ID */
+    long any(RandomGenerator rnd) {
+        return at(rnd.nextInt(size()));
+    }
+
+    /**
+     * Picks an ID with a strong bias towards the oldest entries, so a few
+     * entries (e.g. mega-courses) receive most of the traffic.
+     *
+     * @return a skewed choice of ID
+     */
+    long hot(RandomGenerator rnd) {
+        double u = rnd.nextDouble();
+        return at((int) (size() * u * u * u));
+    }
+
+    private synchronized long at(int index) {
+        return ids[index];
+    }
+}
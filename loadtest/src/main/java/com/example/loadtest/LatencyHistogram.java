@@ -0,0 +1,96 @@
+package com.example.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with microsecond resolution and roughly 1.5%
+ * relative precision.
+ * <p>
+ * Values below 128 µs get one bucket each; above that every power of two is
+ * split into 64 linear sub-buckets. Recording is a single atomic increment, so
+ * all client threads can share one histogram per operation.
+ * </p>
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR + MAX_SHIFT * SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency sample.
+     *
+     * @param nanos elapsed time in nanoseconds
+     */
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        total.incrementAndGet();
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /** @return number of recorded samples */
+    long count() {
+        return total.get();
+    }
+
+    /** @return largest recorded value in milliseconds */
+    double maxMillis() {
+        return max.get() / 1_000.0;
+    }
+
+    /**
+     * Returns the value at the given percentile.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return lower bound of the bucket holding the percentile, in milliseconds
+     */
+    double percentileMillis(double percentile) {
+        long n = total.get();
+        if (n == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return valueOf(i) / 1_000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    /**
+     * Adds all samples of another histogram to this one.
+     *
+     * @param other histogram to merge
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long c = other.counts.get(i);
+            if (c != 0) counts.addAndGet(i, c);
+        }
+        total.addAndGet(other.total.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    static int indexOf(long micros) {
+        if (micros < LINEAR) return (int) micros;
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 6;
+        if (shift > MAX_SHIFT) return LINEAR + MAX_SHIFT * SUB_BUCKETS - 1;
+        int mantissa = (int) (micros >>> shift);
+        return LINEAR + (shift - 1) * SUB_BUCKETS + (mantissa - SUB_BUCKETS);
+    }
+
+    static long valueOf(int index) {
+        if (index < LINEAR) return index;
+        int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+        int mantissa = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        return (long) mantissa << shift;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry point of the load generator.
+ * <p>
+ * Seeds a catalog through the API, then runs each selected scenario with a
+ * fixed number of closed-loop clients on virtual threads: an unrecorded
+ * warm-up followed by a measured run. Results go to the console and to a
+ * JSON baseline file.
+ * </p>
+ *
+ * <pre>
+ * java -jar loadtest.jar [--option=value ...]
+ *
+ *   --base-url=http://localhost:8080
+ *   --scenarios=read-heavy,enrollment-storm,catalog-import
+ *   --concurrency=64            closed-loop clients per scenario
+ *   --duration=60               measured seconds per scenario
+ *   --warmup=10                 unrecorded seconds per scenario
+ *   --seed-platforms=20
+ *   --seed-courses-per-platform=10
+ *   --seed-users=2000
+ *   --timeout=30                per-request timeout in seconds
+ *   --out=loadtest-baseline.json
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final Map<String, Scenario> SCENARIOS = Map.of(
+            "read-heavy", new ReadHeavyBrowsing(),
+            "enrollment-storm", new EnrollmentStorm(),
+            "catalog-import", new CatalogImport());
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "30")));
+        Path out = Path.of(options.getOrDefault("out", "loadtest-baseline.json"));
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : options.getOrDefault("scenarios", "read-heavy,enrollment-storm,catalog-import").split(",")) {
+            Scenario scenario = SCENARIOS.get(name.trim());
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + SCENARIOS.keySet());
+            }
+            scenarios.add(scenario);
+        }
+
+        Api api = new Api(baseUrl, timeout);
+        Dataset data = new Dataset();
+
+        long seedStart = System.nanoTime();
+        new Seeder(api, data, Math.min(concurrency, 32)).seed(
+                Integer.parseInt(options.getOrDefault("seed-platforms", "20")),
+                Integer.parseInt(options.getOrDefault("seed-courses-per-platform", "10")),
+                Integer.parseInt(options.getOrDefault("seed-users", "2000")));
+        System.out.printf("Seeded %d platforms, %d courses, %d users in %.1f s%n",
+                data.platforms.size(), data.courses.size(), data.users.size(),
+                (System.nanoTime() - seedStart) / 1e9);
+
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            drive(scenario, api, data, concurrency, warmup);
+
+            var stats = api.startRecording();
+            long start = System.nanoTime();
+            drive(scenario, api, data, concurrency, duration);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            api.stopRecording();
+
+            ScenarioResult result = ScenarioResult.of(scenario.name(), concurrency, seconds, stats.values());
+            BaselineReport.print(result);
+            results.add(result);
+        }
+
+        BaselineReport.write(out, baseUrl, results);
+        System.out.println("\nBaseline written to " + out.toAbsolutePath());
+    }
+
+    /**
+     * Runs a scenario with closed-loop clients for a fixed time.
+     */
+    private static void drive(Scenario scenario, Api api, Dataset data, int concurrency, Duration duration) {
+        long end = System.nanoTime() + duration.toNanos();
+        AtomicLong failures = new AtomicLong();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    while (System.nanoTime() < end) {
+                        try {
+                            scenario.step(api, data, rnd);
+                        } catch (RuntimeException e) {
+                            // A broken step must not stop the client; the failed call is already recorded
+                            failures.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            System.err.printf("%s: %d steps aborted by client-side exceptions%n", scenario.name(), failures.get());
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --option=value, got '" + arg + "'");
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
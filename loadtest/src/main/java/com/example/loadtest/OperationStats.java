@@ -0,0 +1,38 @@
+package com.example.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters for one named operation, e.g. {@code GET user}.
+ * <p>
+ * A response is counted as <em>rejected</em> when the server shed it on purpose
+ * ({@code 429} or {@code 503}), and as an <em>error</em> for any other status
+ * of 400 and above or when the request failed before a response arrived.
+ * </p>
+ */
+final class OperationStats {
+
+    final String name;
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LongAdder errors = new LongAdder();
+    final LongAdder rejected = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param nanos  elapsed time in nanoseconds
+     * @param status HTTP status, or -1 if the request failed without a response
+     */
+    void record(long nanos, int status) {
+        latency.record(nanos);
+        if (status == 429 || status == 503) {
+            rejected.increment();
+        } else if (status < 0 || status >= 400) {
+            errors.increment();
+        }
+    }
+}
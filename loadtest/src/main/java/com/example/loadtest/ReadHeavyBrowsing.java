@@ -0,0 +1,41 @@
+package com.example.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Catalog browsing: 95% reads spread over the SQL and Mongo read endpoints,
+ * with popular platforms and courses read far more often than the rest,
+ * and 5% profile updates.
+ */
+final class ReadHeavyBrowsing implements Scenario {
+
+    @Override
+    public String name() {
+        return "read-heavy";
+    }
+
+    @Override
+    public void step(Api api, Dataset data, RandomGenerator rnd) {
+        int roll = rnd.nextInt(100);
+        if (roll < 25) {
+            api.get("GET platform users (mongo)", "/api/platforms/" + data.platforms.hot(rnd) + "/users");
+        } else if (roll < 40) {
+            api.get("GET platform courses (mongo)", "/api/platforms/" + data.platforms.hot(rnd) + "/courses");
+        } else if (roll < 55) {
+            api.get("GET platform", "/api/platforms/" + data.platforms.hot(rnd));
+        } else if (roll < 70) {
+            api.get("GET user", "/api/users/" + data.users.any(rnd));
+        } else if (roll < 80) {
+            api.get("GET course", "/api/courses/" + data.courses.hot(rnd));
+        } else if (roll < 88) {
+            api.get("GET courses page", "/api/courses?page=" + rnd.nextInt(10) + "&size=20");
+        } else if (roll < 95) {
+            api.get("GET platforms page", "/api/platforms?page=" + rnd.nextInt(5) + "&size=10");
+        } else {
+            long id = data.users.any(rnd);
+            String name = data.uniqueName("user");
+            api.put("PUT user", "/api/users/" + id,
+                    "{\"name\":\"" + name + "\",\"email\":\"" + name + "@example.com\"}");
+        }
+    }
+}
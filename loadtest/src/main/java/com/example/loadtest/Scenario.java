@@ -0,0 +1,22 @@
+package com.example.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * One traffic pattern. Each client thread calls {@link #step} back to back
+ * for the duration of the run; a step issues one or more requests.
+ */
+interface Scenario {
+
+    /** @return name used on the command line and in the baseline file */
+    String name();
+
+    /**
+     * Issues the next request(s) of this scenario.
+     *
+     * @param api  client recording every call
+     * @param data IDs to operate on
+     * @param rnd  per-thread random source
+     */
+    void step(Api api, Dataset data, RandomGenerator rnd);
+}
@@ -0,0 +1,32 @@
+package com.example.loadtest;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outcome of one measured scenario run.
+ *
+ * @param scenario        scenario name
+ * @param concurrency     number of closed-loop clients
+ * @param durationSeconds measured wall-clock time
+ * @param operations      per-operation stats, sorted by name
+ */
+record ScenarioResult(String scenario, int concurrency, double durationSeconds, List<OperationStats> operations) {
+
+    static ScenarioResult of(String scenario, int concurrency, double durationSeconds, Collection<OperationStats> stats) {
+        return new ScenarioResult(scenario, concurrency, durationSeconds,
+                stats.stream().sorted(Comparator.comparing(s -> s.name)).toList());
+    }
+
+    /** @return stats of all operations combined */
+    OperationStats overall() {
+        OperationStats all = new OperationStats("all");
+        for (OperationStats op : operations) {
+            all.latency.add(op.latency);
+            all.errors.add(op.errors.sum());
+            all.rejected.add(op.rejected.sum());
+        }
+        return all;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the starting catalog through the public API: platforms with their
+ * courses, then users enrolled in one to three courses each, skewed towards
+ * the first courses created.
+ */
+final class Seeder {
+
+    private final Api api;
+    private final Dataset data;
+    private final int parallelism;
+
+    Seeder(Api api, Dataset data, int parallelism) {
+        this.api = api;
+        this.data = data;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Seeds the catalog.
+     *
+     * @param platforms          number of platforms to create
+     * @param coursesPerPlatform number of courses per platform
+     * @param users              number of users to create and enroll
+     */
+    void seed(int platforms, int coursesPerPlatform, int users) throws InterruptedException {
+        inParallel(platforms, () -> {
+            List<Long> courseIds = new ArrayList<>();
+            for (int c = 0; c < coursesPerPlatform; c++) {
+                long id = api.post("seed", "/api/courses", "{\"title\":\"" + data.uniqueName("course") + "\"}").entityId();
+                if (id >= 0) courseIds.add(id);
+            }
+            String courses = courseIds.stream()
+                    .map(id -> "{\"id\":" + id + ",\"title\":\"c" + id + "\"}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            long platformId = api.post("seed", "/api/platforms",
+                    "{\"name\":\"" + data.uniqueName("platform") + "\",\"courses\":" + courses + "}").entityId();
+            data.platforms.add(platformId);
+            courseIds.forEach(data.courses::add);
+        });
+        if (data.courses.size() == 0 || data.platforms.size() == 0) {
+            throw new IllegalStateException("Seeding created no platforms or courses; is the application reachable?");
+        }
+
+        inParallel(users, () -> {
+            String name = data.uniqueName("user");
+            long userId = api.post("seed", "/api/users",
+                    "{\"name\":\"" + name + "\",\"email\":\"" + name + "@example.com\"}").entityId();
+            if (userId < 0) return;
+            data.users.add(userId);
+
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            Set<Long> courseIds = new LinkedHashSet<>();
+            int wanted = 1 + rnd.nextInt(3);
+            for (int c = 0; c < wanted; c++) {
+                courseIds.add(data.courses.hot(rnd));
+            }
+            api.post("seed", "/api/users/" + userId + "/courses",
+                    courseIds.stream().map(String::valueOf).collect(Collectors.joining(",", "[", "]")));
+        });
+        if (data.users.size() == 0) {
+            throw new IllegalStateException("Seeding created no users");
+        }
+    }
+
+    private void inParallel(int tasks, Runnable task) throws InterruptedException {
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < tasks; i++) {
+                permits.acquire();
+                executor.submit(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+}
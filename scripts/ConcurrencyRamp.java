@@ -0,0 +1,145 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop concurrency ramp against a running instance (Java 21 single-file program).
+ * <p>
+ * For each concurrency level, that many virtual-thread clients issue GET requests
+ * back to back for a fixed duration. The highest level whose p99 stays under the
+ * SLO with less than 1% errors is reported as the max sustainable concurrency.
+ * </p>
+ *
+ * Usage: java ConcurrencyRamp.java baseUrl path[,path...] levels durationSec p99SloMs label
+ */
+public class ConcurrencyRamp {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        String[] paths = args[1].split(",");
+        int[] levels = Arrays.stream(args[2].split(",")).mapToInt(Integer::parseInt).toArray();
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[3]));
+        double sloMs = Double.parseDouble(args[4]);
+        String label = args[5];
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        int sustainable = 0;
+        System.out.printf("%-10s %8s %10s %10s %10s %8s%n", label, "conc", "req/s", "p50(ms)", "p99(ms)", "err%");
+        for (int level : levels) {
+            Result r = runLevel(client, baseUrl, paths, level, duration);
+            System.out.printf("%-10s %8d %10.1f %10.2f %10.2f %8.2f%n",
+                    label, level, r.throughput, r.p50, r.p99, r.errorRate * 100);
+            if (r.p99 <= sloMs && r.errorRate < 0.01) {
+                sustainable = level;
+            }
+        }
+        System.out.printf("%s max sustainable concurrency (p99 <= %.0f ms, errors < 1%%): %d%n", label, sloMs, sustainable);
+    }
+
+    private static Result runLevel(HttpClient client, String baseUrl, String[] paths, int level, Duration duration)
+            throws InterruptedException {
+        long begin = System.nanoTime();
+        long end = begin + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        Histogram latencies = new Histogram();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < level; w++) {
+                int offset = w;
+                workers.submit(() -> {
+                    for (int n = 0; System.nanoTime() < end; n++) {
+                        String path = paths[(offset + n) % paths.length];
+                        HttpRequest req = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(Duration.ofSeconds(30)).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> resp = client.send(req, HttpResponse.BodyHandlers.discarding());
+                            if (resp.statusCode() >= 500) errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies.record(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+        // Requests still in flight at the deadline finish afterwards, so divide by the time actually taken
+        double elapsedSeconds = (System.nanoTime() - begin) / 1e9;
+
+        long total = latencies.count();
+        Result r = new Result();
+        r.throughput = total / elapsedSeconds;
+        r.p50 = latencies.percentile(0.50) / 1e6;
+        r.p99 = latencies.percentile(0.99) / 1e6;
+        r.errorRate = total == 0 ? 1 : errors.get() / (double) total;
+        return r;
+    }
+
+    /**
+     * Latency histogram shared by all workers of a level, so memory does not
+     * grow with concurrency or request count. Values below 256 µs are exact;
+     * above, each power of two is split into 128 buckets (under 0.8% error).
+     */
+    private static final class Histogram {
+        private static final int SUB_BITS = 8;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+        private static final int HALF = SUB_COUNT / 2;
+
+        private final AtomicLongArray counts = new AtomicLongArray(SUB_COUNT + (64 - SUB_BITS) * HALF);
+        private final AtomicLong count = new AtomicLong();
+
+        void record(long nanos) {
+            counts.incrementAndGet(index(Math.max(0, nanos / 1000)));
+            count.incrementAndGet();
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        /** Returns the latency at a quantile in nanoseconds, 0 if nothing was recorded. */
+        double percentile(double quantile) {
+            long total = count.get();
+            if (total == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank) return micros(i) * 1000.0;
+            }
+            return micros(counts.length() - 1) * 1000.0;
+        }
+
+        private static int index(long micros) {
+            if (micros < SUB_COUNT) return (int) micros;
+            int shift = 64 - Long.numberOfLeadingZeros(micros) - SUB_BITS;
+            return SUB_COUNT + (shift - 1) * HALF + (int) (micros >>> shift) - HALF;
+        }
+
+        /** Midpoint of a bucket in microseconds. */
+        private static double micros(int index) {
+            if (index < SUB_COUNT) return index;
+            int shift = (index - SUB_COUNT) / HALF + 1;
+            long lower = (long) ((index - SUB_COUNT) % HALF + HALF) << shift;
+            return lower + (1L << shift) / 2.0;
+        }
+    }
+
+    private static final class Result {
+        double throughput;
+        double p50;
+        double p99;
+        double errorRate;
+    }
+}
@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Builds the fast-startup variant of the service: AOT-processed jar (faststart Maven
+# profile), extracted into the CDS-friendly layout, plus an AppCDS archive recorded
+# by a training run that stops right after the application context is refreshed.
+#
+# The training run does not need MySQL or MongoDB (faststart disables JDBC metadata
+# access at boot). Afterwards start the instance with the command printed at the end.
+#
+#   ./scripts/faststart.sh
+#   PROFILES=faststart,prod ./scripts/faststart.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PROFILES=${PROFILES:-faststart}
+MVN_ARGS=${MVN_ARGS:-}
+APP_ARGS=${APP_ARGS:-}
+OUT=${OUT:-target/faststart}
+
+if [ "${SKIP_BUILD:-0}" != "1" ]; then
+  # shellcheck disable=SC2086
+  ./mvnw -q -B -Pfaststart -Daot.profiles="$PROFILES" -DskipTests $MVN_ARGS package
+fi
+JAR=$(ls target/demo-*.jar | head -n 1)
+
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+APP_JAR="$OUT/$(basename "$JAR")"
+
+# Training run: loads the startup classes and dumps them into the archive on exit
+# shellcheck disable=SC2086
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+  -jar "$APP_JAR" --spring.profiles.active="$PROFILES" $APP_ARGS > "$OUT/training.log" 2>&1
+
+echo "AppCDS archive: $OUT/app.jsa ($(du -h "$OUT/app.jsa" | cut -f1))"
+echo "Run with:"
+echo "  java -XX:SharedArchiveFile=$OUT/app.jsa -Dspring.aot.enabled=true -jar $APP_JAR --spring.profiles.active=$PROFILES"
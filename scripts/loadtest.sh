@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Runs the load-test harness (loadtest/) against a self-contained instance:
+# the app is built with -Ploadtest and started with the "loadtest" profile,
+# so it uses in-memory H2 and an embedded MongoDB instead of MySQL/MongoDB.
+#
+# Requires JDK 21 for the harness. The first run downloads the MongoDB binary.
+#
+#   SCENARIOS=read-heavy CONCURRENCY=128 ./scripts/loadtest.sh
+#
+# The baseline is written to target/loadtest-baseline.json.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+SCENARIOS=${SCENARIOS:-read-heavy,enrollment-storm,catalog-import}
+CONCURRENCY=${CONCURRENCY:-64}
+DURATION=${DURATION:-60}
+WARMUP=${WARMUP:-10}
+SEED_PLATFORMS=${SEED_PLATFORMS:-20}
+SEED_USERS=${SEED_USERS:-2000}
+OUT=${OUT:-target/loadtest-baseline.json}
+
+./mvnw -q -B -Ploadtest -DskipTests package
+./mvnw -q -B -f loadtest/pom.xml package
+JAR=$(ls target/demo-*.jar | head -n 1)
+
+java -jar "$JAR" --server.port="$PORT" --spring.profiles.active=loadtest > target/loadtest-console.log 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+until curl -sf "http://localhost:$PORT/api/courses?size=1" > /dev/null; do
+  kill -0 $APP_PID 2>/dev/null || { echo "Application failed to start, see target/loadtest-console.log"; exit 1; }
+  sleep 1
+done
+
+java -jar loadtest/target/loadtest.jar \
+  --base-url="http://localhost:$PORT" \
+  --scenarios="$SCENARIOS" \
+  --concurrency="$CONCURRENCY" \
+  --duration="$DURATION" \
+  --warmup="$WARMUP" \
+  --seed-platforms="$SEED_PLATFORMS" \
+  --seed-users="$SEED_USERS" \
+  --out="$OUT"
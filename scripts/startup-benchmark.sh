@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the plain jar against the fast-startup variant
+# (AOT + AppCDS + faststart profile, see scripts/faststart.sh).
+#
+# Each run launches a fresh JVM and polls PATH every 10 ms; the time until the first
+# HTTP response (any status) is recorded together with Spring's own "Started ... in"
+# figure. Results go to target/startup-benchmark.csv.
+#
+# Requires MySQL/MongoDB reachable with the usual DB_USERNAME/DB_PASSWORD, or other
+# datasource settings passed through APP_ARGS.
+#
+#   RUNS=10 ./scripts/startup-benchmark.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+PATH_TO_HIT=${PATH_TO_HIT:-/api/courses?size=1}
+PROFILES=${PROFILES:-faststart}
+BASE_PROFILES=${BASE_PROFILES:-default}
+APP_ARGS=${APP_ARGS:-}
+CSV=target/startup-benchmark.csv
+
+PROFILES="$PROFILES" APP_ARGS="$APP_ARGS" ./scripts/faststart.sh > /dev/null
+JAR=$(ls target/demo-*.jar | head -n 1)
+FAST_JAR="target/faststart/$(basename "$JAR")"
+
+# measure <label> <command...>: prints "<first request ms> <started in s>"
+measure() {
+  local label=$1; shift
+  local log="target/startup-$label.log"
+  local start_ns now_ns
+  start_ns=$(date +%s%N)
+  "$@" > "$log" 2>&1 &
+  local pid=$!
+
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$PATH_TO_HIT")" != "000" ]; do
+    kill -0 $pid 2>/dev/null || { echo "$label instance failed to start, see $log" >&2; exit 1; }
+    sleep 0.01
+  done
+  now_ns=$(date +%s%N)
+
+  kill $pid
+  wait $pid 2>/dev/null || true
+  local started
+  started=$(grep -o 'Started DemoApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' | head -n 1)
+  echo "$(( (now_ns - start_ns) / 1000000 )) ${started:-?}"
+}
+
+echo "mode,run,first_request_ms,started_in_s" > "$CSV"
+printf "%-10s %4s %18s %14s\n" mode run first_request_ms started_in_s
+for run in $(seq 1 "$RUNS"); do
+  # shellcheck disable=SC2086
+  read -r ms started < <(measure baseline java -jar "$JAR" --server.port="$PORT" \
+    --spring.profiles.active="$BASE_PROFILES" $APP_ARGS)
+  printf "%-10s %4d %18d %14s\n" baseline "$run" "$ms" "$started"
+  echo "baseline,$run,$ms,$started" >> "$CSV"
+
+  # shellcheck disable=SC2086
+  read -r ms started < <(measure faststart java -XX:SharedArchiveFile=target/faststart/app.jsa -Dspring.aot.enabled=true \
+    -jar "$FAST_JAR" --server.port="$PORT" --spring.profiles.active="$PROFILES" $APP_ARGS)
+  printf "%-10s %4d %18d %14s\n" faststart "$run" "$ms" "$started"
+  echo "faststart,$run,$ms,$started" >> "$CSV"
+done
+
+echo "Results written to $CSV"
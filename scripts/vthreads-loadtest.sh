@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Compares max sustainable concurrency and p99 latency between the default
+# platform-thread setup and the virtual-thread ("vthreads") setup.
+#
+# Requires JDK 21, and MySQL/MongoDB reachable with the usual DB_USERNAME/DB_PASSWORD.
+# Seed some data first (e.g. a platform with courses and enrolled users), then:
+#
+#   PATHS=/api/users,/api/platforms,/api/platforms/1/users ./scripts/vthreads-loadtest.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+PATHS=${PATHS:-/api/users,/api/courses,/api/platforms}
+LEVELS=${LEVELS:-50,100,200,400,800,1600,3200}
+DURATION=${DURATION:-20}
+P99_SLO_MS=${P99_SLO_MS:-250}
+
+./mvnw -q -B -Pvthreads -DskipTests package
+JAR=$(ls target/demo-*.jar | head -n 1)
+
+# run_mode <label> <jvm options> <application arguments>
+run_mode() {
+  local label=$1 jvm_opts=$2 app_args=$3
+  # shellcheck disable=SC2086
+  java $jvm_opts -jar "$JAR" --server.port="$PORT" $app_args > "target/loadtest-$label.log" 2>&1 &
+  local pid=$!
+
+  until curl -sf "http://localhost:$PORT/api/courses?size=1" > /dev/null; do
+    kill -0 $pid 2>/dev/null || { echo "$label instance failed to start, see target/loadtest-$label.log"; exit 1; }
+    sleep 1
+  done
+
+  java scripts/ConcurrencyRamp.java "http://localhost:$PORT" "$PATHS" "$LEVELS" "$DURATION" "$P99_SLO_MS" "$label"
+  kill $pid
+  wait $pid 2>/dev/null || true
+}
+
+run_mode platform "" "--spring.threads.virtual.enabled=false"
+run_mode virtual "-Djdk.tracePinnedThreads=short" "--spring.profiles.active=vthreads"
+
+echo "Pinning reports (if any) are in target/loadtest-virtual.log"
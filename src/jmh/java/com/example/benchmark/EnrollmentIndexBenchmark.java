@@ -0,0 +1,90 @@
+package com.example.benchmark;
+
+// Zipf-skewed course popularity
+import com.example.datagen.ZipfSampler;
+// Index under test
+import com.example.index.EnrollmentIndex;
+
+// JMH
+import org.openjdk.jmh.annotations.*;
+
+// Compressed bitmaps
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures membership checks, counts and set operations on the enrollment
+ * index. Each user takes five Zipf-distributed courses out of 1,000 spread
+ * over 50 platforms; the memory footprint per million enrollments is printed
+ * once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrollmentIndexBenchmark {
+
+    private static final int COURSES = 1_000;
+    private static final int PLATFORMS = 50;
+    private static final int COURSES_PER_USER = 5;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int enrollments;
+
+    private EnrollmentIndex index;
+    private int users;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        index = new EnrollmentIndex();
+        users = enrollments / COURSES_PER_USER;
+        ZipfSampler popularity = new ZipfSampler(COURSES, 1.0);
+        SplittableRandom rnd = new SplittableRandom(42);
+        for (long user = 0; user < users; user++) {
+            for (int i = 0; i < COURSES_PER_USER; i++) {
+                long course = popularity.sample(rnd);
+                index.add(user, course, course % PLATFORMS);
+            }
+        }
+        index.optimize();
+
+        EnrollmentIndex.Stats stats = index.stats();
+        System.out.printf("%n%d enrollments, %d bytes, %.0f bytes per million enrollments%n",
+                stats.enrollments(), stats.sizeBytes(), stats.bytesPerMillionEnrollments());
+    }
+
+    @Benchmark
+    public boolean courseMembership() {
+        probe = (probe + 7919) % users;
+        return index.isEnrolledInCourse(probe, 3);
+    }
+
+    @Benchmark
+    public boolean platformMembership() {
+        probe = (probe + 7919) % users;
+        return index.isEnrolledInPlatform(probe, 3);
+    }
+
+    @Benchmark
+    public long platformCount() {
+        return index.countPlatformUsers(0);
+    }
+
+    /** Users in both of the two most popular courses. */
+    @Benchmark
+    public RoaringBitmap intersectPopularCourses() {
+        return index.combine(EnrollmentIndex.Operation.AND, List.of(0L, 1L));
+    }
+
+    /** Users in any of the ten most popular courses. */
+    @Benchmark
+    public RoaringBitmap unionTopTenCourses() {
+        return index.combine(EnrollmentIndex.Operation.OR, List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.benchmark;
+
+// DTOs
+import com.example.dto.PlatformDTO;
+import com.example.dto.UserDTO;
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+// Entities
+import com.example.entity.User;
+// Mappers under test
+import com.example.mapper.PlatformMapper;
+import com.example.mapper.UserMapper;
+
+// JMH
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity/document to DTO mappers used by the read endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int enrollments;
+
+    private SyntheticPlatform data;
+    private PlatformDocument document;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticPlatform.of(enrollments);
+        document = PlatformMapper.toDocument(data.platform, data.users);
+    }
+
+    /** GET /api/platforms/{id}: entity to DTO. */
+    @Benchmark
+    public PlatformDTO platformEntityToDTO() {
+        return PlatformMapper.toDTO(data.platform);
+    }
+
+    /** GET /api/platforms/mongo/{id}: document to DTO. */
+    @Benchmark
+    public PlatformDTO platformDocumentToDTO() {
+        return PlatformMapper.toDTO(document);
+    }
+
+    /** GET /api/users: one UserDTO per enrolled user. */
+    @Benchmark
+    public void userEntitiesToDTOs(Blackhole bh) {
+        for (User user : data.users) {
+            UserDTO dto = UserMapper.toDTO(user);
+            bh.consume(dto);
+        }
+    }
+}
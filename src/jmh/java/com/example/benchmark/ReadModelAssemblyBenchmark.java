@@ -0,0 +1,51 @@
+package com.example.benchmark;
+
+// DTOs
+import com.example.dto.UserDTO;
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+// Mapper under test
+import com.example.mapper.PlatformMapper;
+
+// JMH
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the two halves of the Mongo read model: building the platform
+ * document during sync, and de-duplicating its embedded users on read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadModelAssemblyBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int enrollments;
+
+    private SyntheticPlatform data;
+    private PlatformDocument document;
+
+    @Setup
+    public void setUp() {
+        data = SyntheticPlatform.of(enrollments);
+        document = PlatformMapper.toDocument(data.platform, data.users);
+    }
+
+    /** PlatformSyncService.syncToMongo: document assembly, excluding the query and the write. */
+    @Benchmark
+    public PlatformDocument syncAssembly() {
+        return PlatformMapper.toDocument(data.platform, data.users);
+    }
+
+    /** PlatformService.getUsersByPlatformIdFromMongo: user de-duplication. */
+    @Benchmark
+    public List<UserDTO> usersFromDocument() {
+        return PlatformMapper.toUserDTOs(document);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.benchmark;
+
+// Constants for messages
+import com.example.constants.Constants;
+// DTOs
+import com.example.dto.UserDTO;
+// Mapper producing the payload
+import com.example.mapper.PlatformMapper;
+// Response wrapper
+import com.example.response.ResponseClass;
+
+// Jackson
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+// JMH
+import org.openjdk.jmh.annotations.*;
+
+// Spring HTTP status enum and Jackson builder
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON with the binary formats offered through content negotiation
+ * on the {@code GET /api/platforms/{mongoId}/users} payload: encode and
+ * decode time per response, with the encoded size printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    private static final TypeReference<ResponseClass<List<UserDTO>>> USERS_RESPONSE = new TypeReference<>() {};
+
+    @Param({"1000", "10000", "100000"})
+    public int enrollments;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private ResponseClass<List<UserDTO>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticPlatform data = SyntheticPlatform.of(enrollments);
+        List<UserDTO> users = PlatformMapper.toUserDTOs(PlatformMapper.toDocument(data.platform, data.users));
+        response = new ResponseClass<>(HttpStatus.OK, Constants.RETRIEVAL, users);
+
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        encoded = mapper.writeValueAsBytes(response);
+        System.out.printf("%n%s, %d users: %d bytes%n", format, users.size(), encoded.length);
+    }
+
+    /** Server side: serializing the response body. */
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    /** Client side: parsing the response body back into DTOs. */
+    @Benchmark
+    public ResponseClass<List<UserDTO>> deserialize() throws IOException {
+        return mapper.readValue(encoded, USERS_RESPONSE);
+    }
+}
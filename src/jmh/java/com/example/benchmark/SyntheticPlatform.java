@@ -0,0 +1,66 @@
+package com.example.benchmark;
+
+// Entities
+import com.example.entity.Course;
+import com.example.entity.Platform;
+import com.example.entity.User;
+
+import java.util.*;
+
+/**
+ * Builds an in-memory platform of a given enrollment size for the benchmarks.
+ * <p>
+ * Every user is enrolled in two consecutive courses, and there is roughly one
+ * course per 200 enrollments, so course and user counts grow with the
+ * enrollment count the same way a real catalog does.
+ * </p>
+ */
+final class SyntheticPlatform {
+
+    final Platform platform;
+    final List<User> users;
+
+    private SyntheticPlatform(Platform platform, List<User> users) {
+        this.platform = platform;
+        this.users = users;
+    }
+
+    /**
+     * Creates a platform with approximately the requested number of enrollments.
+     *
+     * @param enrollments total number of (user, course) pairs
+     * @return the platform and its enrolled users
+     */
+    static SyntheticPlatform of(int enrollments) {
+        int courseCount = Math.max(2, enrollments / 200);
+        int userCount = Math.max(1, enrollments / 2);
+
+        Platform platform = new Platform("platform-" + enrollments);
+        platform.setId(1L);
+
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int c = 0; c < courseCount; c++) {
+            Course course = new Course("Course " + c, platform);
+            course.setId((long) c + 1);
+            course.setUsers(new HashSet<>());
+            courses.add(course);
+        }
+        platform.setCourses(new LinkedHashSet<>(courses));
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int u = 0; u < userCount; u++) {
+            User user = new User("User " + u, "user" + u + "@example.com");
+            user.setId((long) u + 1);
+
+            Set<Course> enrolled = new HashSet<>();
+            enrolled.add(courses.get(u % courseCount));
+            enrolled.add(courses.get((u + 1) % courseCount));
+            user.setCourses(enrolled);
+            enrolled.forEach(course -> course.getUsers().add(user));
+
+            users.add(user);
+        }
+
+        return new SyntheticPlatform(platform, users);
+    }
+}
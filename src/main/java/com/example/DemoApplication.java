@@ -1,11 +1,14 @@
 package com.example;
 
+import com.example.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
 @EnableAsync
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class DemoApplication {
 
 	public static void main(String[] args) {
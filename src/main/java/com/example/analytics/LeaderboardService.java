@@ -0,0 +1,417 @@
+package com.example.analytics;
+
+// DTOs
+import com.example.dto.RankingDTO;
+// Document classes for MongoDB
+import com.example.document.CourseRankingDocument;
+import com.example.document.PlatformDocument;
+import com.example.document.PlatformDocument.CourseEmbed;
+import com.example.document.PlatformRankingDocument;
+// Exceptions
+import com.example.exceptions.ServiceOverloadedException;
+
+// Lifecycle annotation
+import jakarta.annotation.PreDestroy;
+
+// BSON document
+import org.bson.Document;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, MongoDB and task execution
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Course and platform leaderboards materialized from platform syncs.
+ * <p>
+ * Every sync reports the platform document it wrote. Course counts that
+ * changed since the previous sync are upserted into {@code course_rankings},
+ * and the platform's total and growth into {@code platform_rankings}, so the
+ * leaderboards never group over {@code user_course}. A background loop reads
+ * the top entries of both collections every
+ * {@code app.analytics.refresh-interval-ms}, and the endpoints answer from
+ * that in-memory copy.
+ * </p>
+ * <p>
+ * The enrollments each sync adds to a course also feed a {@link SpaceSaving}
+ * summary for the trending view. It covers the current and the previous
+ * trending window and lives in memory only.
+ * </p>
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    /** Last synced state of a course. */
+    private record CourseState(String title, Long platformId, long enrollments) {}
+
+    /** Last synced state of a platform. */
+    private record PlatformState(String name, long enrollments, Set<Long> courseIds) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor syncTaskExecutor;
+    private final int topSize;
+    private final long refreshIntervalMs;
+    private final Duration growthWindow;
+    private final Duration trendingWindow;
+    private final int trendingCapacity;
+
+    private final Map<Long, CourseState> courses = new ConcurrentHashMap<>();
+    private final Map<Long, PlatformState> platforms = new ConcurrentHashMap<>();
+    private final Object trendingLock = new Object();
+    private SpaceSaving<Long> currentTrending;
+    private SpaceSaving<Long> previousTrending;
+    private Instant trendingWindowStart = Instant.now();
+
+    private volatile boolean running = true;
+    private boolean refreshFailing;
+    private volatile List<RankingDTO> topCourses;
+    private volatile List<RankingDTO> topPlatforms;
+    private volatile List<RankingDTO> growingPlatforms;
+
+    /**
+     * Constructor for LeaderboardService.
+     *
+     * @param mongoTemplate template for the ranking collections
+     * @param syncTaskExecutor executor running the refresh loop
+     * @param topSize number of entries kept per leaderboard
+     * @param refreshIntervalMs pause between leaderboard refreshes
+     * @param growthWindow length of a platform growth window
+     * @param trendingWindow length of a trending window
+     * @param trendingCapacity number of courses tracked by the trending summary
+     */
+    public LeaderboardService(MongoTemplate mongoTemplate,
+                              @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                              @Value("${app.analytics.top-size:100}") int topSize,
+                              @Value("${app.analytics.refresh-interval-ms:1000}") long refreshIntervalMs,
+                              @Value("${app.analytics.growth-window:24h}") Duration growthWindow,
+                              @Value("${app.analytics.trending-window:1h}") Duration trendingWindow,
+                              @Value("${app.analytics.trending-capacity:1000}") int trendingCapacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.topSize = topSize;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.growthWindow = growthWindow;
+        this.trendingWindow = trendingWindow;
+        this.trendingCapacity = trendingCapacity;
+        this.currentTrending = new SpaceSaving<>(trendingCapacity);
+        this.previousTrending = new SpaceSaving<>(trendingCapacity);
+    }
+
+    /**
+     * Creates the leaderboard indexes and starts the refresh loop. Index
+     * failures are logged rather than fatal, so the service still starts
+     * while MongoDB is unreachable.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            mongoTemplate.indexOps(CourseRankingDocument.class)
+                    .createIndex(new Index().on("enrollments", Sort.Direction.DESC));
+            mongoTemplate.indexOps(CourseRankingDocument.class)
+                    .createIndex(new Index().on("platformId", Sort.Direction.ASC));
+            mongoTemplate.indexOps(PlatformRankingDocument.class)
+                    .createIndex(new Index().on("enrollments", Sort.Direction.DESC));
+            mongoTemplate.indexOps(PlatformRankingDocument.class)
+                    .createIndex(new Index().on("growth", Sort.Direction.DESC));
+        } catch (RuntimeException e) {
+            logger.warn("Could not create leaderboard indexes: {}", e.getMessage());
+        }
+        syncTaskExecutor.execute(this::refreshLoop);
+    }
+
+    /** Stops the refresh loop after its current pause. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Materializes the counts of a synced platform document. Only courses
+     * whose count, title or platform changed are written; failures are logged
+     * and the platform is rewritten in full on its next sync.
+     *
+     * @param doc platform document written by the sync
+     */
+    public void platformSynced(PlatformDocument doc) {
+        Long platformId = doc.getId();
+        Instant now = Instant.now();
+        List<CourseRankingDocument> changed = new ArrayList<>();
+        Set<Long> courseIds = new HashSet<>();
+        long total = 0;
+
+        List<CourseEmbed> embeds = doc.getCourses() == null ? List.of() : doc.getCourses();
+        for (CourseEmbed course : embeds) {
+            long enrollments = course.countEnrollments();
+            total += enrollments;
+            courseIds.add(course.getId());
+
+            CourseState current = new CourseState(course.getTitle(), platformId, enrollments);
+            CourseState previous = courses.put(course.getId(), current);
+            if (!current.equals(previous)) {
+                changed.add(new CourseRankingDocument(course.getId(), course.getTitle(), platformId, enrollments, now));
+            }
+            if (previous != null && enrollments > previous.enrollments()) {
+                trend(course.getId(), enrollments - previous.enrollments(), now);
+            }
+        }
+
+        PlatformState previous = platforms.put(platformId, new PlatformState(doc.getName(), total, courseIds));
+        Set<Long> removed = previous == null ? Set.of() : new HashSet<>(previous.courseIds());
+        removed.removeAll(courseIds);
+        removed.forEach(id -> forgetCourse(id, platformId));
+
+        try {
+            if (!changed.isEmpty()) {
+                var bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, CourseRankingDocument.class);
+                changed.forEach(c -> bulk.replaceOne(query(where("id").is(c.getId())), c,
+                        FindAndReplaceOptions.options().upsert()));
+                bulk.execute();
+            }
+            if (!removed.isEmpty()) {
+                // A course moved to another platform keeps the entry written by its new platform
+                mongoTemplate.remove(query(where("id").in(removed).and("platformId").is(platformId)),
+                        CourseRankingDocument.class);
+            }
+            if (previous == null || previous.enrollments() != total || !Objects.equals(previous.name(), doc.getName())) {
+                mongoTemplate.upsert(query(where("id").is(platformId)), platformUpdate(doc.getName(), total, now),
+                        PlatformRankingDocument.class);
+            }
+        } catch (RuntimeException e) {
+            platforms.remove(platformId);
+            courseIds.forEach(id -> forgetCourse(id, platformId));
+            logger.warn("Leaderboard update for platform {} failed: {}", platformId, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a deleted platform and its courses from the leaderboards.
+     *
+     * @param platformId deleted platform
+     */
+    public void platformDeleted(Long platformId) {
+        PlatformState previous = platforms.remove(platformId);
+        if (previous != null) {
+            previous.courseIds().forEach(id -> forgetCourse(id, platformId));
+        }
+        try {
+            mongoTemplate.remove(query(where("platformId").is(platformId)), CourseRankingDocument.class);
+            mongoTemplate.remove(query(where("id").is(platformId)), PlatformRankingDocument.class);
+        } catch (RuntimeException e) {
+            logger.warn("Leaderboard removal of platform {} failed: {}", platformId, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the most enrolled courses.
+     *
+     * @param limit maximum number of entries
+     * @return leaderboard entries
+     * @throws IllegalArgumentException if limit is out of range
+     * @throws ServiceOverloadedException if the leaderboards have not been loaded yet
+     */
+    public List<RankingDTO> getTopCourses(int limit) {
+        return head(topCourses, limit);
+    }
+
+    /**
+     * Returns the most enrolled platforms.
+     *
+     * @param limit maximum number of entries
+     * @return leaderboard entries
+     * @throws IllegalArgumentException if limit is out of range
+     * @throws ServiceOverloadedException if the leaderboards have not been loaded yet
+     */
+    public List<RankingDTO> getTopPlatforms(int limit) {
+        return head(topPlatforms, limit);
+    }
+
+    /**
+     * Returns the platforms that gained the most enrollments in their current growth window.
+     *
+     * @param limit maximum number of entries
+     * @return leaderboard entries
+     * @throws IllegalArgumentException if limit is out of range
+     * @throws ServiceOverloadedException if the leaderboards have not been loaded yet
+     */
+    public List<RankingDTO> getGrowingPlatforms(int limit) {
+        return head(growingPlatforms, limit);
+    }
+
+    /**
+     * Returns the courses that gained the most enrollments over the current
+     * and previous trending windows, as estimated by the streaming summary.
+     *
+     * @param limit maximum number of entries
+     * @return trending entries; growth may overestimate by at most error
+     * @throws IllegalArgumentException if limit is out of range
+     */
+    public List<RankingDTO> getTrendingCourses(int limit) {
+        checkLimit(limit);
+        List<SpaceSaving.Entry<Long>> entries = new ArrayList<>();
+        synchronized (trendingLock) {
+            rotateTrending(Instant.now());
+            Map<Long, long[]> merged = new HashMap<>();
+            for (SpaceSaving<Long> window : List.of(previousTrending, currentTrending)) {
+                for (SpaceSaving.Entry<Long> e : window.entries()) {
+                    long[] sum = merged.computeIfAbsent(e.key(), k -> new long[2]);
+                    sum[0] += e.count();
+                    sum[1] += e.error();
+                }
+            }
+            merged.forEach((id, sum) -> entries.add(new SpaceSaving.Entry<>(id, sum[0], sum[1])));
+        }
+        entries.sort(Comparator.comparingLong(SpaceSaving.Entry<Long>::count).reversed());
+
+        List<RankingDTO> trending = new ArrayList<>(Math.min(limit, entries.size()));
+        for (SpaceSaving.Entry<Long> e : entries) {
+            if (trending.size() >= limit) break;
+            CourseState course = courses.get(e.key());
+            if (course == null) continue;
+            trending.add(new RankingDTO(trending.size() + 1, e.key(), course.title(), course.platformId(),
+                    course.enrollments(), e.count(), e.error()));
+        }
+        return trending;
+    }
+
+    /** Refresh loop body, run until {@link #stop()}. */
+    private void refreshLoop() {
+        while (running) {
+            try {
+                refresh();
+                if (refreshFailing) {
+                    logger.info("Leaderboard refresh recovered");
+                    refreshFailing = false;
+                }
+            } catch (RuntimeException e) {
+                // Logged once per outage, the loop keeps retrying
+                if (!refreshFailing) {
+                    logger.warn("Leaderboard refresh failed: {}", e.getMessage());
+                    refreshFailing = true;
+                }
+            }
+            try {
+                Thread.sleep(refreshIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** Reloads the top entries of each leaderboard from the ranking collections. */
+    private void refresh() {
+        Query byEnrollments = new Query().with(Sort.by(Sort.Direction.DESC, "enrollments")).limit(topSize);
+        List<CourseRankingDocument> courseDocs = mongoTemplate.find(byEnrollments, CourseRankingDocument.class);
+        List<PlatformRankingDocument> platformDocs = mongoTemplate.find(byEnrollments, PlatformRankingDocument.class);
+
+        Query byGrowth = query(where("windowStart").gte(Instant.now().minus(growthWindow)).and("growth").gt(0))
+                .with(Sort.by(Sort.Direction.DESC, "growth"))
+                .limit(topSize);
+        List<PlatformRankingDocument> growingDocs = mongoTemplate.find(byGrowth, PlatformRankingDocument.class);
+
+        List<RankingDTO> courseRanks = new ArrayList<>(courseDocs.size());
+        for (CourseRankingDocument c : courseDocs) {
+            courseRanks.add(new RankingDTO(courseRanks.size() + 1, c.getId(), c.getTitle(), c.getPlatformId(),
+                    c.getEnrollments(), 0, 0));
+        }
+        topCourses = List.copyOf(courseRanks);
+        topPlatforms = toPlatformRanks(platformDocs);
+        growingPlatforms = toPlatformRanks(growingDocs);
+    }
+
+    private static List<RankingDTO> toPlatformRanks(List<PlatformRankingDocument> docs) {
+        List<RankingDTO> ranks = new ArrayList<>(docs.size());
+        for (PlatformRankingDocument p : docs) {
+            ranks.add(new RankingDTO(ranks.size() + 1, p.getId(), p.getName(), null,
+                    p.getEnrollments(), p.getGrowth(), 0));
+        }
+        return List.copyOf(ranks);
+    }
+
+    /**
+     * Builds the platform upsert. The first stage starts a new growth window
+     * when the current one has expired (or the document is new), taking the
+     * enrollments stored so far as its baseline; the second stage stores the
+     * new total and its growth over that baseline.
+     */
+    private AggregationUpdate platformUpdate(String name, long enrollments, Instant now) {
+        Date nowDate = Date.from(now);
+        // A missing windowStart compares lower than any date, so new documents start a window
+        Document expired = new Document("$lt", List.of("$windowStart", Date.from(now.minus(growthWindow))));
+        Document startWindow = new Document("$set", new Document()
+                .append("windowStartEnrollments", new Document("$cond",
+                        List.of(expired, new Document("$ifNull", List.of("$enrollments", enrollments)),
+                                "$windowStartEnrollments")))
+                .append("windowStart", new Document("$cond", List.of(expired, nowDate, "$windowStart"))));
+        Document setTotals = new Document("$set", new Document()
+                .append("name", name)
+                .append("enrollments", enrollments)
+                .append("growth", new Document("$subtract", List.of(enrollments, "$windowStartEnrollments")))
+                .append("updatedAt", nowDate));
+        return AggregationUpdate.from(List.of(stage(startWindow), stage(setTotals)));
+    }
+
+    private static AggregationOperation stage(Document stage) {
+        return context -> stage;
+    }
+
+    /** Drops the state of a course unless it now belongs to another platform. */
+    private void forgetCourse(Long courseId, Long platformId) {
+        courses.computeIfPresent(courseId, (id, state) -> platformId.equals(state.platformId()) ? null : state);
+    }
+
+    private void trend(Long courseId, long gained, Instant now) {
+        synchronized (trendingLock) {
+            rotateTrending(now);
+            currentTrending.offer(courseId, gained);
+        }
+    }
+
+    /** Starts a new trending window once the current one has expired. Caller holds trendingLock. */
+    private void rotateTrending(Instant now) {
+        if (now.isBefore(trendingWindowStart.plus(trendingWindow))) return;
+        boolean skippedWindow = now.isAfter(trendingWindowStart.plus(trendingWindow.multipliedBy(2)));
+        previousTrending = skippedWindow ? new SpaceSaving<>(trendingCapacity) : currentTrending;
+        currentTrending = new SpaceSaving<>(trendingCapacity);
+        trendingWindowStart = now;
+    }
+
+    private List<RankingDTO> head(List<RankingDTO> ranks, int limit) {
+        checkLimit(limit);
+        if (ranks == null) {
+            throw new ServiceOverloadedException("Leaderboards are not available", 5);
+        }
+        return ranks.subList(0, Math.min(limit, ranks.size()));
+    }
+
+    private void checkLimit(int limit) {
+        if (limit < 1 || limit > topSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + topSize);
+        }
+    }
+}
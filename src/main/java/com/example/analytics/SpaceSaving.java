@@ -0,0 +1,126 @@
+package com.example.analytics;
+
+import java.util.*;
+
+/**
+ * Streaming top-K summary using the Space-Saving algorithm (Metwally et al.).
+ * <p>
+ * Tracks at most {@code capacity} keys. A new key arriving when the summary is
+ * full replaces the key with the smallest count and inherits that count as its
+ * overestimation {@code error}. Any key whose true weight exceeds
+ * {@code total / capacity} is guaranteed to be tracked, and a tracked key's
+ * true weight lies between {@code count - error} and {@code count}.
+ * Updates cost O(log capacity). Not thread-safe.
+ * </p>
+ *
+ * @param <K> key type
+ */
+public class SpaceSaving<K> {
+
+    /**
+     * A tracked key with its estimated weight.
+     *
+     * @param key tracked key
+     * @param count estimated weight, never below the true weight
+     * @param error maximum overestimation of {@code count}
+     */
+    public record Entry<K>(K key, long count, long error) {}
+
+    private static final class Counter<K> {
+        final K key;
+        final long seq;
+        long count;
+        long error;
+
+        Counter(K key, long seq) {
+            this.key = key;
+            this.seq = seq;
+        }
+    }
+
+    private static final Comparator<Counter<?>> ORDER =
+            Comparator.<Counter<?>>comparingLong(c -> c.count).thenComparingLong(c -> c.seq);
+
+    private final int capacity;
+    private final Map<K, Counter<K>> counters = new HashMap<>();
+    private final TreeSet<Counter<K>> byCount = new TreeSet<>(ORDER);
+    private long seq;
+    private long total;
+
+    /**
+     * Creates an empty summary.
+     *
+     * @param capacity maximum number of tracked keys
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Adds weight to a key.
+     *
+     * @param key key observed
+     * @param weight positive weight
+     */
+    public void offer(K key, long weight) {
+        if (weight <= 0) return;
+        total += weight;
+
+        Counter<K> counter = counters.get(key);
+        if (counter == null) {
+            counter = new Counter<>(key, seq++);
+            if (counters.size() >= capacity) {
+                Counter<K> min = byCount.pollFirst();
+                counters.remove(min.key);
+                counter.count = min.count;
+                counter.error = min.count;
+            }
+            counters.put(key, counter);
+        } else {
+            byCount.remove(counter);
+        }
+        counter.count += weight;
+        byCount.add(counter);
+    }
+
+    /**
+     * Returns the tracked keys with the highest counts.
+     *
+     * @param k maximum number of entries
+     * @return entries in descending count order
+     */
+    public List<Entry<K>> top(int k) {
+        List<Entry<K>> top = new ArrayList<>(Math.min(k, counters.size()));
+        Iterator<Counter<K>> it = byCount.descendingIterator();
+        while (it.hasNext() && top.size() < k) {
+            Counter<K> c = it.next();
+            top.add(new Entry<>(c.key, c.count, c.error));
+        }
+        return top;
+    }
+
+    /**
+     * Returns all tracked keys.
+     *
+     * @return entries in no particular order
+     */
+    public List<Entry<K>> entries() {
+        List<Entry<K>> entries = new ArrayList<>(counters.size());
+        counters.values().forEach(c -> entries.add(new Entry<>(c.key, c.count, c.error)));
+        return entries;
+    }
+
+    /** Returns the total weight offered. */
+    public long total() {
+        return total;
+    }
+
+    /** Returns the number of tracked keys. */
+    public int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,454 @@
+package com.example.changes;
+
+// DTOs
+import com.example.dto.ChangesDTO;
+import com.example.dto.CourseDTO;
+import com.example.dto.EnrollmentDTO;
+import com.example.dto.PlatformDTO;
+// Entities
+import com.example.entity.ChangeLogEntry;
+import com.example.entity.ChangeLogEntry.EntityType;
+import com.example.entity.ChangeLogSequence;
+import com.example.entity.Course;
+import com.example.entity.Platform;
+// Exceptions
+import com.example.exceptions.ServiceOverloadedException;
+// Mappers
+import com.example.mapper.CourseMapper;
+import com.example.mapper.PlatformMapper;
+// Repositories
+import com.example.repo.ChangeLogRepository;
+import com.example.repo.CourseRepository;
+import com.example.repo.PlatformRepository;
+import com.example.repo.UserRepository;
+
+// Lifecycle annotations and JPA
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, JDBC, task execution and transactions
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Records platform, course and enrollment changes in the {@code change_log}
+ * table and answers delta sync requests from it.
+ * <p>
+ * The services report each change; the entries of a transaction are inserted
+ * in one batch just before it commits. Their sequences come from the single
+ * {@code change_log_sequence} row, incremented after the persistence context
+ * is flushed, so nothing but the insert runs between taking the row lock and
+ * the commit that releases it. A later transaction blocks on that row until
+ * the earlier one commits, so sequences become visible in commit order and a
+ * client never moves its token past a change that is not visible yet.
+ * Writers recording changes commit one at a time as the cost, so the log can
+ * be switched off with {@code app.changes.enabled=false}. Responses carry the
+ * current state of the changed records rather than the individual operations,
+ * so applying a response twice is harmless. Entries older than
+ * {@code app.changes.retention} are pruned; clients with older tokens are
+ * asked to reload everything.
+ * </p>
+ */
+@Service
+public class ChangeLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO change_log (id, entity_type, entity_id, user_id, changed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String ALLOCATE_SQL =
+            "UPDATE change_log_sequence SET last_id = last_id + ? WHERE id = " + ChangeLogSequence.ROW_ID;
+
+    private static final String LAST_ID_SQL =
+            "SELECT last_id FROM change_log_sequence WHERE id = " + ChangeLogSequence.ROW_ID;
+
+    /** Creates the counter row, continuing after entries written before it existed. */
+    private static final String INIT_SQL = "INSERT INTO change_log_sequence (id, last_id) SELECT "
+            + ChangeLogSequence.ROW_ID + ", COALESCE(MAX(id), 0) FROM change_log";
+
+    /** A change reported within a transaction. */
+    private record Change(EntityType type, Long entityId, Long userId) {}
+
+    private final ChangeLogRepository changeLogRepository;
+    private final PlatformRepository platformRepository;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor syncTaskExecutor;
+    private final int maxLimit;
+    private final Duration retention;
+    private final long pruneIntervalMs;
+    private final boolean enabled;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructor for ChangeLogService.
+     *
+     * @param changeLogRepository repository for the change log
+     * @param platformRepository repository used to load changed platforms
+     * @param courseRepository repository used to load changed courses
+     * @param userRepository repository used to look up changed enrollments
+     * @param jdbcTemplate template for batched inserts into the change log
+     * @param entityManager shared entity manager, flushed before sequences are taken
+     * @param transactionManager transaction manager for pruning and changes recorded outside a transaction
+     * @param syncTaskExecutor executor running the prune loop
+     * @param maxLimit maximum number of entries read per request
+     * @param retention age after which entries are pruned
+     * @param pruneIntervalMs pause between prune runs
+     * @param enabled whether to record changes and answer delta sync requests at all
+     */
+    public ChangeLogService(ChangeLogRepository changeLogRepository,
+                            PlatformRepository platformRepository,
+                            CourseRepository courseRepository,
+                            UserRepository userRepository,
+                            JdbcTemplate jdbcTemplate,
+                            EntityManager entityManager,
+                            PlatformTransactionManager transactionManager,
+                            @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                            @Value("${app.changes.max-limit:5000}") int maxLimit,
+                            @Value("${app.changes.retention:30d}") Duration retention,
+                            @Value("${app.changes.prune-interval-ms:3600000}") long pruneIntervalMs,
+                            @Value("${app.changes.enabled:true}") boolean enabled) {
+        this.changeLogRepository = changeLogRepository;
+        this.platformRepository = platformRepository;
+        this.courseRepository = courseRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.maxLimit = maxLimit;
+        this.retention = retention;
+        this.pruneIntervalMs = pruneIntervalMs;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts the prune loop. When the log is disabled, clears it instead and
+     * skips a sequence, so tokens handed out before get a full reload once
+     * it is enabled again rather than missing the changes made meanwhile.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            transactionTemplate.executeWithoutResult(status -> {
+                changeLogRepository.deleteAllInBatch();
+                allocate(1);
+            });
+            logger.info("Change log disabled, delta sync answers 503");
+            return;
+        }
+        syncTaskExecutor.execute(this::pruneLoop);
+    }
+
+    /** Stops the prune loop. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Records that a platform and its courses were created or changed.
+     *
+     * @param platform saved platform with its courses
+     */
+    public void platformChanged(Platform platform) {
+        record(new Change(EntityType.PLATFORM, platform.getId(), null));
+        if (platform.getCourses() != null) {
+            platform.getCourses().forEach(course -> record(new Change(EntityType.COURSE, course.getId(), null)));
+        }
+    }
+
+    /**
+     * Records that a platform and its courses were deleted.
+     *
+     * @param platform deleted platform with its courses
+     */
+    public void platformDeleted(Platform platform) {
+        platformChanged(platform);
+    }
+
+    /**
+     * Records that a course was created, changed or deleted; its platform's
+     * course list changes with it.
+     *
+     * @param course affected course
+     */
+    public void courseChanged(Course course) {
+        record(new Change(EntityType.COURSE, course.getId(), null));
+        if (course.getPlatform() != null) {
+            record(new Change(EntityType.PLATFORM, course.getPlatform().getId(), null));
+        }
+    }
+
+    /**
+     * Records that a user's enrollments changed from one set of courses to another.
+     *
+     * @param userId ID of the user
+     * @param before courses before the change
+     * @param after courses after the change
+     */
+    public void enrollmentsChanged(Long userId, Collection<Course> before, Collection<Course> after) {
+        Set<Long> beforeIds = courseIds(before);
+        Set<Long> afterIds = courseIds(after);
+        Set<Long> changed = new TreeSet<>(beforeIds);
+        changed.addAll(afterIds);
+        beforeIds.retainAll(afterIds);
+        changed.removeAll(beforeIds);
+        changed.forEach(courseId -> record(new Change(EntityType.ENROLLMENT, courseId, userId)));
+    }
+
+    private static Set<Long> courseIds(Collection<Course> courses) {
+        Set<Long> ids = new HashSet<>();
+        if (courses != null) {
+            courses.forEach(course -> ids.add(course.getId()));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the platforms, courses and enrollments changed since a token.
+     * Without a token, only a token is returned: the client downloads the
+     * catalog the usual way and syncs from that token afterwards.
+     *
+     * @param since token of the previous response, or null for a first sync
+     * @param limit maximum number of change log entries read
+     * @return current state of the changed records and the next token
+     * @throws IllegalArgumentException if the token is malformed or the limit out of range
+     * @throws ServiceOverloadedException if the change log is disabled
+     */
+    @Transactional(readOnly = true)
+    public ChangesDTO getChanges(String since, int limit) {
+        if (!enabled) {
+            throw new ServiceOverloadedException("Delta sync is disabled", 3600);
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        if (since == null || since.isBlank()) {
+            return fullSync(max());
+        }
+
+        long sequence = parseToken(since);
+        Long min = changeLogRepository.findMinId();
+        long max = max();
+        if (sequence > max || (min != null && sequence + 1 < min)) {
+            logger.info("Delta sync token {} is outside the retained change log", since);
+            return fullSync(max);
+        }
+
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        boolean hasMore = false;
+        for (ChangeLogEntry entry : changeLogRepository.findByIdGreaterThanOrderByIdAsc(sequence, Limit.of(limit + 1))) {
+            if (entries.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            entries.add(entry);
+        }
+        long next = entries.isEmpty() ? sequence : entries.get(entries.size() - 1).getId();
+
+        ChangesDTO changes = resolve(entries);
+        changes.setToken(Long.toString(next));
+        changes.setHasMore(hasMore);
+        logger.debug("Delta sync from {} to {}: {} entries", sequence, next, entries.size());
+        return changes;
+    }
+
+    /** Current state of the records named by the entries. */
+    private ChangesDTO resolve(List<ChangeLogEntry> entries) {
+        Set<Long> platformIds = new TreeSet<>();
+        Set<Long> courseIds = new TreeSet<>();
+        Set<Change> enrollments = new LinkedHashSet<>();
+        for (ChangeLogEntry entry : entries) {
+            switch (entry.getEntityType()) {
+                case PLATFORM -> platformIds.add(entry.getEntityId());
+                case COURSE -> courseIds.add(entry.getEntityId());
+                case ENROLLMENT -> enrollments.add(new Change(EntityType.ENROLLMENT, entry.getEntityId(), entry.getUserId()));
+            }
+        }
+
+        List<PlatformDTO> platforms = new ArrayList<>();
+        List<Long> deletedPlatformIds = new ArrayList<>(platformIds);
+        if (!platformIds.isEmpty()) {
+            platformRepository.findAllById(platformIds).stream()
+                    .sorted(Comparator.comparing(Platform::getId))
+                    .forEach(platform -> {
+                        platforms.add(PlatformMapper.toDTO(platform));
+                        deletedPlatformIds.remove(platform.getId());
+                    });
+        }
+
+        List<CourseDTO> courses = new ArrayList<>();
+        List<Long> deletedCourseIds = new ArrayList<>(courseIds);
+        if (!courseIds.isEmpty()) {
+            courseRepository.findAllById(courseIds).stream()
+                    .sorted(Comparator.comparing(Course::getId))
+                    .forEach(course -> {
+                        courses.add(CourseMapper.toDTO(course));
+                        deletedCourseIds.remove(course.getId());
+                    });
+        }
+
+        List<EnrollmentDTO> added = new ArrayList<>();
+        List<EnrollmentDTO> removed = new ArrayList<>();
+        if (!enrollments.isEmpty()) {
+            Set<Long> userIds = new HashSet<>();
+            Set<Long> enrollmentCourseIds = new HashSet<>();
+            enrollments.forEach(change -> {
+                userIds.add(change.userId());
+                enrollmentCourseIds.add(change.entityId());
+            });
+            Map<Change, Long> existing = new HashMap<>();
+            for (Object[] row : userRepository.findEnrollments(userIds, enrollmentCourseIds)) {
+                existing.put(new Change(EntityType.ENROLLMENT, (Long) row[1], (Long) row[0]), (Long) row[2]);
+            }
+            for (Change change : enrollments) {
+                if (existing.containsKey(change)) {
+                    added.add(new EnrollmentDTO(change.userId(), change.entityId(), existing.get(change)));
+                } else {
+                    removed.add(new EnrollmentDTO(change.userId(), change.entityId(), null));
+                }
+            }
+        }
+
+        return new ChangesDTO(null, false, false, platforms, deletedPlatformIds, courses, deletedCourseIds,
+                added, removed);
+    }
+
+    private long max() {
+        Long max = changeLogRepository.findMaxId();
+        return max == null ? 0 : max;
+    }
+
+    private ChangesDTO fullSync(long latest) {
+        return new ChangesDTO(Long.toString(latest), true, false,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    private static long parseToken(String token) {
+        try {
+            long sequence = Long.parseLong(token);
+            if (sequence >= 0) return sequence;
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid sync token: " + token);
+    }
+
+    /**
+     * Adds a change to the current transaction's batch, or writes it right
+     * away in its own transaction.
+     */
+    @SuppressWarnings("unchecked")
+    private void record(Change change) {
+        if (!enabled || change.entityId() == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(change)));
+            return;
+        }
+
+        Set<Change> pending = (Set<Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Change> batch = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // Run the transaction's own statements first, so the sequence row is locked only until commit
+                    entityManager.flush();
+                    insert(batch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogService.this);
+                }
+            });
+            pending = batch;
+        }
+        pending.add(change);
+    }
+
+    /** Inserts changes with sequences taken from the counter row; must run inside a transaction. */
+    private void insert(Collection<Change> changes) {
+        if (changes.isEmpty()) return;
+        long id = allocate(changes.size()) - changes.size();
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            rows.add(new Object[]{++id, change.type().name(), change.entityId(), change.userId(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows,
+                new int[]{Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP});
+    }
+
+    /**
+     * Takes sequences from the counter row, locking it until the transaction ends.
+     *
+     * @param count number of sequences needed
+     * @return last sequence taken
+     */
+    private long allocate(int count) {
+        if (jdbcTemplate.update(ALLOCATE_SQL, count) == 0) {
+            try {
+                jdbcTemplate.update(INIT_SQL);
+            } catch (DuplicateKeyException e) {
+                // Created by a concurrent transaction
+            }
+            jdbcTemplate.update(ALLOCATE_SQL, count);
+        }
+        return jdbcTemplate.queryForObject(LAST_ID_SQL, Long.class);
+    }
+
+    /** Prune loop body, run until {@link #stop()}. */
+    private void pruneLoop() {
+        while (running) {
+            try {
+                Instant cutoff = Instant.now().minus(retention);
+                Integer pruned = transactionTemplate.execute(status -> changeLogRepository.deleteChangedBefore(cutoff));
+                if (pruned != null && pruned > 0) {
+                    logger.info("Pruned {} change log entries older than {}", pruned, retention);
+                }
+                Thread.sleep(pruneIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Change log pruning failed: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(pruneIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.config;
+
+// Timing-aware converters
+import com.example.timing.TimingJackson2CborHttpMessageConverter;
+import com.example.timing.TimingJackson2SmileHttpMessageConverter;
+
+// Jackson
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+// Spring configuration
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary response formats selected through the {@code Accept} header.
+ * <p>
+ * Requests accepting {@code application/cbor} or {@code application/x-jackson-smile}
+ * get the same {@code ResponseClass} payloads in that format; JSON stays the
+ * default. The converters' mappers come from Boot's ObjectMapper builder, so
+ * modules and serialization settings match the JSON output, and replace the ones Spring MVC
+ * would otherwise register with a default mapper. Serialization time is
+ * reported in the {@code Server-Timing} header when that is enabled.
+ * </p>
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * CBOR (RFC 8949) converter.
+     *
+     * @param builder Boot's ObjectMapper builder, a new instance per injection point
+     * @param maxBufferBytes body size above which the body is streamed without serialization time
+     * @return converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder,
+            @Value("${app.server-timing.max-buffer-bytes:262144}") int maxBufferBytes) {
+        return new TimingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build(), maxBufferBytes);
+    }
+
+    /**
+     * Smile (binary JSON) converter.
+     *
+     * @param builder Boot's ObjectMapper builder, a new instance per injection point
+     * @param maxBufferBytes body size above which the body is streamed without serialization time
+     * @return converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder,
+            @Value("${app.server-timing.max-buffer-bytes:262144}") int maxBufferBytes) {
+        return new TimingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build(), maxBufferBytes);
+    }
+}
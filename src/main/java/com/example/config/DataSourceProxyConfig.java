@@ -0,0 +1,58 @@
+package com.example.config;
+
+// datasource-proxy
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+// Spring annotations and bean post-processing
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Wraps the application's {@code dataSource} bean in a datasource-proxy
+ * {@link ProxyDataSource} so that {@link QueryExecutionListener} beans see
+ * every JDBC statement.
+ * <p>
+ * Only the bean named {@code dataSource} is wrapped: with the read/write split
+ * enabled that is the routing proxy in front of both pools, so statements are
+ * observed once whichever pool serves them. Without any listener beans the
+ * datasource is left as is.
+ * </p>
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    /**
+     * Post-processor applying the proxy.
+     *
+     * @param listeners query listeners registered in the context
+     * @return bean post-processor
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                List<QueryExecutionListener> registered = listeners.orderedStream().toList();
+                if (registered.isEmpty()) {
+                    return bean;
+                }
+
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource);
+                registered.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
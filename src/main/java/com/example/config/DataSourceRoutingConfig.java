@@ -0,0 +1,106 @@
+package com.example.config;
+
+// Hikari connection pool
+import com.zaxxer.hikari.HikariDataSource;
+
+// Spring Boot and Spring configuration
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Read/write split for the MySQL datasource.
+ * <p>
+ * Enabled with {@code app.datasource.replica.enabled=true}. The primary pool is configured
+ * from {@code spring.datasource.*} / {@code spring.datasource.hikari.*}, the replica pool from
+ * {@code app.datasource.replica.hikari.*}, so both can be sized independently. Read-only
+ * transactions go to the replica, everything else to the primary.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    /**
+     * Constructor for DataSourceRoutingConfig.
+     *
+     * @param pinWindowMs how long a client's reads stay on the primary after it writes
+     */
+    public DataSourceRoutingConfig(@Value("${app.datasource.replica.pin-after-write-ms:2000}") long pinWindowMs) {
+        this.replicaLagGuard = new ReplicaLagGuard(pinWindowMs);
+    }
+
+    /**
+     * Primary (read-write) pool.
+     *
+     * @param properties standard datasource properties
+     * @return primary Hikari pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Replica (read-only) pool.
+     *
+     * @return replica Hikari pool
+     */
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * Routing datasource used by JPA and JDBC.
+     *
+     * @param primary primary pool
+     * @param replica replica pool
+     * @return lazily connecting routing datasource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica
+        ));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Releases JDBC connections at the end of each transaction instead of holding them
+     * for the whole open-in-view session, so every transaction is routed on its own.
+     *
+     * @return Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return props -> props.put("hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(replicaLagGuard);
+    }
+}
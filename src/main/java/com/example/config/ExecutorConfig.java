@@ -0,0 +1,34 @@
+package com.example.config;
+
+// Spring annotations and task execution
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Executors for background work such as platform synchronization.
+ * <p>
+ * When {@code spring.threads.virtual.enabled=true} (Java 21, {@code vthreads} profile)
+ * the sync executor runs its tasks on virtual threads, matching what Spring Boot
+ * does for Tomcat request handling.
+ * </p>
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Executor used for background sync work, e.g. the enrollment batch consumer.
+     *
+     * @param virtualThreads whether to run tasks on virtual threads
+     * @return sync task executor
+     */
+    @Bean
+    public TaskExecutor syncTaskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sync-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.config;
+
+// Project-specific imports
+import com.example.document.CourseRankingDocument;
+import com.example.document.EnrollmentBucketDocument;
+import com.example.document.PlatformDocument;
+import com.example.document.PlatformRankingDocument;
+import com.example.dto.*;
+import com.example.entity.ChangeLogEntry;
+import com.example.entity.ChangeLogSequence;
+import com.example.entity.Course;
+import com.example.entity.CourseEnrollmentCount;
+import com.example.entity.Platform;
+import com.example.entity.User;
+import com.example.response.ResponseClass;
+
+// datasource-proxy
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+// Spring AOT hints
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.*;
+
+/**
+ * Reachability metadata for the GraalVM native image ({@code native} Maven profile).
+ * <p>
+ * Spring AOT already covers bean wiring, controller signatures and the
+ * repositories; this registrar adds what is only reached reflectively at
+ * runtime: Hibernate's field access to the entities, Spring Data MongoDB's
+ * mapping of {@link PlatformDocument} and its nested embeds, Jackson binding
+ * and Bean Validation of the DTOs, and the JDK proxies datasource-proxy
+ * creates around JDBC objects.
+ * </p>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] ENTITIES = {
+            Platform.class, Course.class, User.class,
+            CourseEnrollmentCount.class, ChangeLogEntry.class, ChangeLogSequence.class};
+
+    private static final Class<?>[] DOCUMENTS = {
+            PlatformDocument.class, PlatformDocument.CourseEmbed.class, PlatformDocument.UserEmbed.class,
+            EnrollmentBucketDocument.class, CourseRankingDocument.class, PlatformRankingDocument.class};
+
+    private static final Class<?>[] DTOS = {
+            ResponseClass.class, PlatformDTO.class, CourseDTO.class, UserDTO.class, EnrollmentStatusDTO.class,
+            BulkheadStatsDTO.class, ConcurrencyLimitStatsDTO.class, RecordingStatusDTO.class,
+            EnrollmentIndexStatsDTO.class, EnrollmentSetDTO.class, ReadModelMigrationDTO.class,
+            EnrollmentStatsDTO.class, RankingDTO.class, EnrollmentDTO.class,
+            PlatformEventDTO.class, ChangesDTO.class};
+
+    private static final Class<?>[] PROXIED_JDBC_TYPES = {
+            Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class};
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : ENTITIES) {
+            hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (Class<?> type : DOCUMENTS) {
+            hints.reflection().registerType(type,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // Jackson getters/setters/constructors, plus field access for the validation constraints
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), DTOS);
+        for (Class<?> type : DTOS) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS);
+        }
+        hints.resources().registerResourceBundle("org.hibernate.validator.ValidationMessages");
+
+        for (Class<?> type : PROXIED_JDBC_TYPES) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, type);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.config;
+
+// Jakarta Servlet
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring MVC
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pins a client's reads to the primary for a short window after that client writes,
+ * so it does not read stale data from a lagging replica.
+ * <p>
+ * Clients are identified by the {@value #CLIENT_ID_HEADER} header, falling back to the
+ * remote address. The pin decision is made once per request and exposed to
+ * {@link ReadWriteRoutingDataSource} through a thread-local.
+ * </p>
+ */
+public class ReplicaLagGuard implements HandlerInterceptor {
+
+    /** Header identifying the calling client. */
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+    private final long pinWindowNanos;
+
+    /**
+     * Constructs the guard.
+     *
+     * @param pinWindowMs how long reads stay on the primary after a client's write
+     */
+    public ReplicaLagGuard(long pinWindowMs) {
+        this.pinWindowNanos = TimeUnit.MILLISECONDS.toNanos(pinWindowMs);
+    }
+
+    /**
+     * Returns whether reads on the current thread must use the primary.
+     *
+     * @return true if the current client wrote within the pin window
+     */
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String clientKey = clientKey(request);
+        if (isWrite(request)) {
+            // Recorded before the write commits, so a read racing the response is already pinned
+            recordWrite(clientKey);
+        }
+        Long lastWrite = lastWriteByClient.get(clientKey);
+        PINNED.set(lastWrite != null && System.nanoTime() - lastWrite < pinWindowNanos);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PINNED.remove();
+        if (isWrite(request)) {
+            // Restart the window so it also covers writes that ran longer than the window
+            recordWrite(clientKey(request));
+        }
+    }
+
+    /**
+     * Records a write by a client and purges expired entries once the map grows large.
+     *
+     * @param clientKey client that wrote
+     */
+    private void recordWrite(String clientKey) {
+        long now = System.nanoTime();
+        lastWriteByClient.put(clientKey, now);
+        if (lastWriteByClient.size() > PURGE_THRESHOLD) {
+            lastWriteByClient.values().removeIf(t -> now - t >= pinWindowNanos);
+        }
+    }
+
+    /**
+     * Resolves the client key for a request.
+     *
+     * @param request current request
+     * @return client ID header value, or the remote address
+     */
+    private String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    /**
+     * Returns whether the request may have written data.
+     *
+     * @param request current request
+     * @return true for non-GET/HEAD/OPTIONS requests
+     */
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+    }
+}
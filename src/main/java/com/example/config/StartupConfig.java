@@ -0,0 +1,54 @@
+package com.example.config;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, bean factory and Boot binding
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Startup tuning for the {@code faststart} profile.
+ * <p>
+ * Beans listed in {@code app.startup.lazy-beans} are created on first use
+ * instead of during context refresh, which keeps rarely-used components
+ * (operational endpoints, streaming reads) off the startup path without
+ * making the whole context lazy and moving that cost onto the first
+ * requests. Unknown bean names are ignored.
+ * </p>
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupConfig.class);
+
+    /**
+     * Post-processor marking the configured bean definitions as lazy.
+     *
+     * @param environment environment holding {@code app.startup.lazy-beans}
+     * @return bean factory post-processor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> lazyBeans = Binder.get(environment)
+                .bind("app.startup.lazy-beans", Bindable.listOf(String.class))
+                .orElse(Collections.emptyList());
+
+        return beanFactory -> {
+            for (String name : lazyBeans) {
+                if (beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                    logger.debug("Bean {} marked for lazy initialization", name);
+                }
+            }
+        };
+    }
+}
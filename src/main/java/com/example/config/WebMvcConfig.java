@@ -0,0 +1,42 @@
+package com.example.config;
+
+// Request interceptors
+import com.example.resilience.BulkheadInterceptor;
+import com.example.resilience.ConcurrencyLimitInterceptor;
+
+// Spring MVC configuration
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers request interceptors for the API controllers.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    /**
+     * Constructor for WebMvcConfig.
+     *
+     * @param concurrencyLimitInterceptor interceptor shedding load above the adaptive limits
+     * @param bulkheadInterceptor interceptor enforcing bulkhead lanes
+     */
+    public WebMvcConfig(ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                        BulkheadInterceptor bulkheadInterceptor) {
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.bulkheadInterceptor = bulkheadInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Load shedding runs first so rejected requests never touch a bulkhead; full exports and
+        // the event feed run as long as the client reads, so their latency is no capacity signal
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/admin/**", "/api/*/export", "/api/platforms/events");
+        registry.addInterceptor(bulkheadInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -22,12 +22,33 @@ public class Constants {
     /** Message for successful enrollment. */
     public static final String ENROLLEMENT = "Enrollement successful";
 
+    /** Message for an enrollment accepted for asynchronous processing. */
+    public static final String ENROLLMENT_ACCEPTED = "Enrollment accepted";
+
     /** Message for item not found by ID. */
     public static final String NOT_FOUND = "Not found with id: ";
 
     /** Message for item already exists. */
     public static final String ALREADY_EXISTS = "Already exists: ";
 
+    /** Message for a started flight recording. */
+    public static final String RECORDING_STARTED = "Recording started";
+
+    /** Message for a stopped flight recording. */
+    public static final String RECORDING_STOPPED = "Recording stopped";
+
+    /** Message for a started read model migration. */
+    public static final String MIGRATION_STARTED = "Migration started";
+
+    /** Message for a started enrollment counter recount. */
+    public static final String RECOUNT_STARTED = "Recount started";
+
+    /** Message when an enrollment counter recount is already running. */
+    public static final String RECOUNT_RUNNING = "Recount already running";
+
+    /** Message when no flight recording has been started. */
+    public static final String NO_RECORDING = "No flight recording has been started";
+
     /** Message for entity not found. */
     public static final String ENTITY_NOT_FOUND = "Entity not found";
 }
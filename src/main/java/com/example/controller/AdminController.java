@@ -0,0 +1,235 @@
+package com.example.controller;
+
+// Project-specific imports
+import com.example.constants.Constants;
+import com.example.dto.BulkheadStatsDTO;
+import com.example.dto.ConcurrencyLimitStatsDTO;
+import com.example.dto.ReadModelMigrationDTO;
+import com.example.dto.RecordingStatusDTO;
+import com.example.resilience.BulkheadRegistry;
+import com.example.resilience.ConcurrencyLimitInterceptor;
+import com.example.response.ResponseClass;
+import com.example.service.FlightRecorderService;
+import com.example.stats.EnrollmentCounterService;
+import com.example.sync.ReadModelMigrationService;
+
+// Logging imports
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework imports
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Java standard library imports
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * REST controller for operational endpoints.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final FlightRecorderService flightRecorderService;
+    private final ReadModelMigrationService readModelMigrationService;
+    private final EnrollmentCounterService enrollmentCounterService;
+
+    public AdminController(BulkheadRegistry bulkheadRegistry,
+                           ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                           FlightRecorderService flightRecorderService,
+                           ReadModelMigrationService readModelMigrationService,
+                           EnrollmentCounterService enrollmentCounterService) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.flightRecorderService = flightRecorderService;
+        this.readModelMigrationService = readModelMigrationService;
+        this.enrollmentCounterService = enrollmentCounterService;
+    }
+
+    /**
+     * Get per-lane bulkhead saturation.
+     */
+    @GetMapping("/bulkheads")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<List<BulkheadStatsDTO>> getBulkheads() {
+        logger.info("Received request to get bulkhead stats");
+
+        List<BulkheadStatsDTO> stats = bulkheadRegistry.getAll().stream()
+                .map(b -> new BulkheadStatsDTO(
+                        b.getLane().name(),
+                        b.getMaxConcurrent(),
+                        b.getActive(),
+                        b.getMaxQueue(),
+                        b.getQueued(),
+                        b.getAccepted(),
+                        b.getRejected(),
+                        b.getSaturation()
+                ))
+                .toList();
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                stats
+        );
+    }
+
+    /**
+     * Get the adaptive concurrency limits of the read and write endpoint groups.
+     */
+    @GetMapping("/limits")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<List<ConcurrencyLimitStatsDTO>> getConcurrencyLimits() {
+        logger.info("Received request to get concurrency limits");
+
+        List<ConcurrencyLimitStatsDTO> stats = concurrencyLimitInterceptor.getLimiters().stream()
+                .map(l -> new ConcurrencyLimitStatsDTO(
+                        l.getName(),
+                        l.getLimit(),
+                        l.getInFlight(),
+                        l.getRttNoLoadMs(),
+                        l.getAccepted(),
+                        l.getRejected()
+                ))
+                .toList();
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                stats
+        );
+    }
+
+    /**
+     * Get the status of the Flight Recorder recording.
+     */
+    @GetMapping("/jfr")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<RecordingStatusDTO> getRecording() {
+        logger.info("Received request to get flight recording status");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                flightRecorderService.getStatus()
+        );
+    }
+
+    /**
+     * Start a Flight Recorder recording with the custom sync, repository and mapping events.
+     */
+    @PostMapping("/jfr/start")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<RecordingStatusDTO> startRecording(
+            @RequestParam(required = false) String settings,
+            @RequestParam(required = false) Long maxAgeSeconds,
+            @RequestParam(required = false) Long maxSizeMb,
+            @RequestParam(required = false) Long thresholdMs) {
+        logger.info("Received request to start flight recording");
+
+        RecordingStatusDTO status = flightRecorderService.start(settings, maxAgeSeconds, maxSizeMb, thresholdMs);
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RECORDING_STARTED,
+                status
+        );
+    }
+
+    /**
+     * Stop the Flight Recorder recording; its data can still be dumped.
+     */
+    @PostMapping("/jfr/stop")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<RecordingStatusDTO> stopRecording() {
+        logger.info("Received request to stop flight recording");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RECORDING_STOPPED,
+                flightRecorderService.stop()
+        );
+    }
+
+    /**
+     * Download the recorded data as a .jfr file, for JDK Mission Control or the jfr tool.
+     */
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() throws IOException {
+        logger.info("Received request to dump flight recording");
+
+        Path file = flightRecorderService.dump();
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"demo.jfr\"")
+                .body(body);
+    }
+
+    /**
+     * Get the progress of the migration of platform documents to numeric IDs.
+     */
+    @GetMapping("/read-model/migration")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<ReadModelMigrationDTO> getReadModelMigration() {
+        logger.info("Received request to get read model migration status");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                readModelMigrationService.getStatus()
+        );
+    }
+
+    /**
+     * Start the migration of platform documents to numeric IDs, unless it is already running.
+     */
+    @PostMapping("/read-model/migration")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseClass<ReadModelMigrationDTO> startReadModelMigration() {
+        logger.info("Received request to start read model migration");
+
+        return new ResponseClass<>(
+                HttpStatus.ACCEPTED,
+                Constants.MIGRATION_STARTED,
+                readModelMigrationService.start()
+        );
+    }
+
+    /**
+     * Recount the persisted enrollment counters from the join table in the background.
+     * The data is true if a recount was started, false if one was already running.
+     */
+    @PostMapping("/enrollment-counters/recount")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseClass<Boolean> recountEnrollmentCounters() {
+        logger.info("Received request to recount enrollment counters");
+
+        boolean started = enrollmentCounterService.recount();
+        return new ResponseClass<>(
+                HttpStatus.ACCEPTED,
+                started ? Constants.RECOUNT_STARTED : Constants.RECOUNT_RUNNING,
+                started
+        );
+    }
+}
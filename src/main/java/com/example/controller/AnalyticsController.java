@@ -0,0 +1,94 @@
+package com.example.controller;
+
+// Project-specific imports
+import com.example.analytics.LeaderboardService;
+import com.example.constants.Constants;
+import com.example.dto.RankingDTO;
+import com.example.response.ResponseClass;
+
+// Logging imports
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework imports
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the course and platform leaderboards.
+ * All reads are served from memory.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    private final LeaderboardService leaderboardService;
+
+    public AnalyticsController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Get the most enrolled courses.
+     */
+    @GetMapping("/courses/top")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<List<RankingDTO>> getTopCourses(@RequestParam(defaultValue = "10") int limit) {
+        logger.info("Received request to get top courses");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                leaderboardService.getTopCourses(limit)
+        );
+    }
+
+    /**
+     * Get the courses gaining the most enrollments right now.
+     */
+    @GetMapping("/courses/trending")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<List<RankingDTO>> getTrendingCourses(@RequestParam(defaultValue = "10") int limit) {
+        logger.info("Received request to get trending courses");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                leaderboardService.getTrendingCourses(limit)
+        );
+    }
+
+    /**
+     * Get the most enrolled platforms.
+     */
+    @GetMapping("/platforms/top")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<List<RankingDTO>> getTopPlatforms(@RequestParam(defaultValue = "10") int limit) {
+        logger.info("Received request to get top platforms");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                leaderboardService.getTopPlatforms(limit)
+        );
+    }
+
+    /**
+     * Get the platforms that gained the most enrollments in the current growth window.
+     */
+    @GetMapping("/platforms/growing")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<List<RankingDTO>> getGrowingPlatforms(@RequestParam(defaultValue = "10") int limit) {
+        logger.info("Received request to get fastest-growing platforms");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                leaderboardService.getGrowingPlatforms(limit)
+        );
+    }
+}
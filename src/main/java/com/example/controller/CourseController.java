@@ -2,10 +2,14 @@ package com.example.controller;
 
 import com.example.constants.Constants;
 import com.example.dto.CourseDTO;
+import com.example.dto.EnrollmentStatsDTO;
 import com.example.entity.Course;
 import com.example.mapper.CourseMapper;
+import com.example.resilience.BulkheadLane;
+import com.example.resilience.Lane;
 import com.example.response.ResponseClass;
 import com.example.service.CourseService;
+import com.example.stats.EnrollmentCounterService;
 
 import jakarta.validation.Valid;
 
@@ -26,9 +30,11 @@ public class CourseController {
     private static final Logger logger = LoggerFactory.getLogger(CourseController.class);
 
     private final CourseService courseService;
+    private final EnrollmentCounterService enrollmentCounterService;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, EnrollmentCounterService enrollmentCounterService) {
         this.courseService = courseService;
+        this.enrollmentCounterService = enrollmentCounterService;
     }
 
     /**
@@ -38,6 +44,7 @@ public class CourseController {
      * @param size page size (default 10)
      * @return response with list of CourseDTOs
      */
+    @BulkheadLane(Lane.SQL_READ)
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<List<CourseDTO>> getAllCourses(
@@ -65,6 +72,7 @@ public class CourseController {
      * @param id course ID
      * @return response with the CourseDTO
      */
+    @BulkheadLane(Lane.SQL_READ)
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<CourseDTO> getCourseById(@PathVariable Long id) {
@@ -80,12 +88,32 @@ public class CourseController {
         );
     }
 
+    /**
+     * Get the enrollment count of a course from the incremental counters.
+     *
+     * @param id course ID
+     * @return response with the course stats
+     */
+    @BulkheadLane(Lane.SQL_READ)
+    @GetMapping("/{id}/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<EnrollmentStatsDTO> getCourseStats(@PathVariable Long id) {
+        logger.info("Fetching course stats");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                enrollmentCounterService.getCourseStats(id)
+        );
+    }
+
     /**
      * Create a new course.
      *
      * @param courseDTO course data
      * @return response with created CourseDTO
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseClass<CourseDTO> createCourse(@Valid @RequestBody CourseDTO courseDTO) {
@@ -109,6 +137,7 @@ public class CourseController {
      * @param courseDTO updated course data
      * @return response with updated CourseDTO
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<CourseDTO> updateCourse(@PathVariable Long id, @Valid @RequestBody CourseDTO courseDTO) {
@@ -131,6 +160,7 @@ public class CourseController {
      * @param id course ID
      * @return response with deleted CourseDTO
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<CourseDTO> deleteCourse(@PathVariable Long id) {
@@ -0,0 +1,147 @@
+package com.example.controller;
+
+// Project-specific imports
+import com.example.constants.Constants;
+import com.example.dto.EnrollmentIndexStatsDTO;
+import com.example.dto.EnrollmentSetDTO;
+import com.example.dto.EnrollmentStatusDTO;
+import com.example.index.EnrollmentIndexService;
+import com.example.resilience.BulkheadLane;
+import com.example.resilience.Lane;
+import com.example.response.ResponseClass;
+import com.example.service.EnrollmentQueueService;
+import com.example.service.ExportService;
+
+// Jakarta Servlet imports
+import jakarta.servlet.http.HttpServletResponse;
+
+// Logging imports
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework imports
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * REST controller for enrollment-level resources.
+ */
+@RestController
+@RequestMapping("/api/enrollments")
+public class EnrollmentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentController.class);
+
+    private final EnrollmentQueueService enrollmentQueueService;
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final ExportService exportService;
+
+    public EnrollmentController(EnrollmentQueueService enrollmentQueueService,
+                                EnrollmentIndexService enrollmentIndexService,
+                                ExportService exportService) {
+        this.enrollmentQueueService = enrollmentQueueService;
+        this.enrollmentIndexService = enrollmentIndexService;
+        this.exportService = exportService;
+    }
+
+    /**
+     * Get the status of an asynchronously accepted enrollment request.
+     */
+    @GetMapping("/requests/{requestId}")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<EnrollmentStatusDTO> getEnrollmentStatus(@PathVariable String requestId) {
+        logger.info("Received request to get enrollment request status");
+
+        EnrollmentStatusDTO status = enrollmentQueueService.getStatus(requestId);
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                status
+        );
+    }
+
+    /**
+     * Get the size and memory footprint of the in-memory enrollment index.
+     */
+    @GetMapping("/index")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<EnrollmentIndexStatsDTO> getIndexStats() {
+        logger.info("Received request to get enrollment index stats");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                enrollmentIndexService.getStats()
+        );
+    }
+
+    /**
+     * Check whether a user is enrolled in a course or in any course of a platform.
+     */
+    @GetMapping("/index/membership")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<Boolean> isEnrolled(@RequestParam Long userId,
+                                             @RequestParam(required = false) Long courseId,
+                                             @RequestParam(required = false) Long platformId) {
+        logger.info("Received request to check enrollment membership");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                enrollmentIndexService.isEnrolled(userId, courseId, platformId)
+        );
+    }
+
+    /**
+     * Count the users enrolled in a course or in any course of a platform.
+     */
+    @GetMapping("/index/count")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<Long> countEnrolled(@RequestParam(required = false) Long courseId,
+                                             @RequestParam(required = false) Long platformId) {
+        logger.info("Received request to count enrolled users");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                enrollmentIndexService.countUsers(courseId, platformId)
+        );
+    }
+
+    /**
+     * Combine course enrollments with AND, OR, ANDNOT or XOR.
+     */
+    @GetMapping("/index/users")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<EnrollmentSetDTO> combineEnrollments(@RequestParam(defaultValue = "AND") String op,
+                                                              @RequestParam List<Long> courseIds,
+                                                              @RequestParam(defaultValue = "100") int limit) {
+        logger.info("Received request to combine course enrollments");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                enrollmentIndexService.combine(op, courseIds, limit)
+        );
+    }
+
+    /**
+     * Export all enrollments as NDJSON, streamed from a database cursor and
+     * gzip-compressed when the client accepts it.
+     */
+    @BulkheadLane(Lane.EXPORT)
+    @GetMapping(value = "/export", produces = NdjsonExport.MEDIA_TYPE)
+    public void exportEnrollments(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                  HttpServletResponse response) throws IOException {
+        logger.info("Received request to export enrollments");
+
+        long count = NdjsonExport.stream(acceptEncoding, "enrollments.ndjson", response, exportService::exportEnrollments);
+
+        logger.debug("Exported {} enrollments", count);
+    }
+}
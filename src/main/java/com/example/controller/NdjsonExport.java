@@ -0,0 +1,75 @@
+package com.example.controller;
+
+// Jakarta Servlet
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring HTTP
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes an export straight to the servlet response, gzip-compressed on the
+ * fly when the client accepts it.
+ */
+final class NdjsonExport {
+
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /** An export writing NDJSON to a stream and closing it. */
+    @FunctionalInterface
+    interface Writer {
+        long write(OutputStream out) throws IOException;
+    }
+
+    private NdjsonExport() {}
+
+    /**
+     * Streams an export into the response.
+     *
+     * @param acceptEncoding the request's Accept-Encoding header, or null
+     * @param filename name offered for saving the export
+     * @param response response to write to
+     * @param writer export to run
+     * @return number of records written
+     * @throws IOException if writing fails
+     */
+    static long stream(String acceptEncoding, String filename, HttpServletResponse response, Writer writer)
+            throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        response.setContentType(MEDIA_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        try {
+            OutputStream out = gzip
+                    ? new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)
+                    : response.getOutputStream();
+            return writer.write(out);
+        } catch (IOException | RuntimeException e) {
+            // Nothing sent yet (e.g. the query failed): let the exception handler write a plain error response
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
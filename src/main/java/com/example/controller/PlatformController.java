@@ -1,15 +1,23 @@
 package com.example.controller;
 
 // Project-specific imports
+import com.example.changes.ChangeLogService;
 import com.example.constants.Constants;
+import com.example.dto.ChangesDTO;
 import com.example.dto.CourseDTO;
+import com.example.dto.EnrollmentStatsDTO;
 import com.example.dto.PlatformDTO;
 import com.example.dto.UserDTO;
 import com.example.entity.Course;
 import com.example.entity.Platform;
+import com.example.feed.PlatformEventService;
 import com.example.mapper.PlatformMapper;
+import com.example.resilience.BulkheadLane;
+import com.example.resilience.Lane;
 import com.example.response.ResponseClass;
 import com.example.service.PlatformService;
+import com.example.service.ReactivePlatformReadService;
+import com.example.stats.EnrollmentCounterService;
 
 // Jakarta Validation imports
 import jakarta.validation.Valid;
@@ -19,8 +27,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // Spring Framework imports
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Reactor imports
+import reactor.core.publisher.Flux;
 
 // Java standard library imports
 import java.util.List;
@@ -36,9 +50,21 @@ public class PlatformController {
     private static final Logger logger = LoggerFactory.getLogger(PlatformController.class);
 
     private final PlatformService platformService;
-
-    public PlatformController(PlatformService platformService) {
+    private final ReactivePlatformReadService reactivePlatformReadService;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final PlatformEventService platformEventService;
+    private final ChangeLogService changeLogService;
+
+    public PlatformController(PlatformService platformService,
+                              @Lazy ReactivePlatformReadService reactivePlatformReadService,
+                              EnrollmentCounterService enrollmentCounterService,
+                              PlatformEventService platformEventService,
+                              ChangeLogService changeLogService) {
         this.platformService = platformService;
+        this.reactivePlatformReadService = reactivePlatformReadService;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.platformEventService = platformEventService;
+        this.changeLogService = changeLogService;
     }
 
     // --- SQL CRUD ---
@@ -46,6 +72,7 @@ public class PlatformController {
     /**
      * Get paginated list of platforms.
      */
+    @BulkheadLane(Lane.SQL_READ)
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<List<PlatformDTO>> getAllPlatforms(
@@ -71,9 +98,29 @@ public class PlatformController {
         );
     }
 
+    /**
+     * Get the platforms, courses and enrollments changed since a sync token.
+     */
+    @BulkheadLane(Lane.SQL_READ)
+    @GetMapping("/changes")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<ChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "1000") int limit) {
+
+        logger.info("Received request to get platform changes");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                changeLogService.getChanges(since, limit)
+        );
+    }
+
     /**
      * Get a platform by ID.
      */
+    @BulkheadLane(Lane.SQL_READ)
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<PlatformDTO> getPlatformById(@PathVariable Long id) {
@@ -89,9 +136,26 @@ public class PlatformController {
         );
     }
 
+    /**
+     * Get the enrollment count of a platform from the incremental counters.
+     */
+    @BulkheadLane(Lane.SQL_READ)
+    @GetMapping("/{id}/stats")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseClass<EnrollmentStatsDTO> getPlatformStats(@PathVariable Long id) {
+        logger.info("Received request to get platform stats");
+
+        return new ResponseClass<>(
+                HttpStatus.OK,
+                Constants.RETRIEVAL,
+                enrollmentCounterService.getPlatformStats(id)
+        );
+    }
+
     /**
      * Create a new platform.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseClass<PlatformDTO> createPlatform(@Valid @RequestBody PlatformDTO platformDTO) {
@@ -114,6 +178,7 @@ public class PlatformController {
     /**
      * Update an existing platform by ID.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<PlatformDTO> updatePlatform(@PathVariable Long id, @Valid @RequestBody PlatformDTO platformDTO) {
@@ -136,6 +201,7 @@ public class PlatformController {
     /**
      * Delete a platform by ID.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<PlatformDTO> deletePlatform(@PathVariable Long id) {
@@ -157,9 +223,10 @@ public class PlatformController {
     /**
      * Get users related to a platform from MongoDB by platform Mongo ID.
      */
+    @BulkheadLane(Lane.MONGO_READ)
     @GetMapping("/{mongoId}/users")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseClass<List<UserDTO>> getUsersByPlatformMongoId(@PathVariable String mongoId) {
+    public ResponseClass<List<UserDTO>> getUsersByPlatformMongoId(@PathVariable Long mongoId) {
         logger.info("Received request to get users from MongoDB for a platform");
 
         List<UserDTO> users = platformService.getUsersByPlatformIdFromMongo(mongoId);
@@ -176,9 +243,10 @@ public class PlatformController {
     /**
      * Get courses related to a platform from MongoDB by platform Mongo ID.
      */
+    @BulkheadLane(Lane.MONGO_READ)
     @GetMapping("/{mongoId}/courses")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseClass<List<CourseDTO>> getCoursesByPlatformMongoId(@PathVariable String mongoId) {
+    public ResponseClass<List<CourseDTO>> getCoursesByPlatformMongoId(@PathVariable Long mongoId) {
         logger.info("Received request to get courses from MongoDB for a platform");
 
         List<CourseDTO> courses = platformService.getCoursesByPlatformIdFromMongo(mongoId);
@@ -191,4 +259,41 @@ public class PlatformController {
                 courses
         );
     }
+
+    // --- Reactive Mongo reads ---
+
+    /**
+     * Stream users related to a platform from MongoDB as NDJSON, without holding a servlet thread.
+     */
+    @BulkheadLane(Lane.MONGO_READ)
+    @GetMapping(value = "/{mongoId}/users/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserDTO> streamUsersByPlatformMongoId(@PathVariable Long mongoId) {
+        logger.info("Received request to stream users from MongoDB for a platform");
+
+        return reactivePlatformReadService.streamUsersByPlatformId(mongoId);
+    }
+
+    /**
+     * Stream courses related to a platform from MongoDB as NDJSON, without holding a servlet thread.
+     */
+    @BulkheadLane(Lane.MONGO_READ)
+    @GetMapping(value = "/{mongoId}/courses/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseDTO> streamCoursesByPlatformMongoId(@PathVariable Long mongoId) {
+        logger.info("Received request to stream courses from MongoDB for a platform");
+
+        return reactivePlatformReadService.streamCoursesByPlatformId(mongoId);
+    }
+
+    /**
+     * Subscribe to writes and deletions of platform documents as Server-Sent Events,
+     * optionally only for some platforms. Reconnecting clients resume after Last-Event-ID.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPlatformEvents(@RequestParam(required = false) List<Long> platformId,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                           @RequestParam(required = false) String lastEventId) {
+        logger.info("Received request to subscribe to platform events");
+
+        return platformEventService.subscribe(platformId, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
 }
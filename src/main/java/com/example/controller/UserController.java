@@ -1,6 +1,7 @@
 package com.example.controller;
 
 // Java standard library imports
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -9,18 +10,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 // Spring Framework imports
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 // Project-specific imports
 import com.example.constants.Constants;
+import com.example.dto.EnrollmentStatusDTO;
 import com.example.dto.UserDTO;
 import com.example.entity.User;
 import com.example.mapper.UserMapper;
+import com.example.resilience.BulkheadLane;
+import com.example.resilience.Lane;
 import com.example.response.ResponseClass;
+import com.example.service.EnrollmentQueueService;
+import com.example.service.ExportService;
 import com.example.service.UserService;
 
-// Jakarta Validation imports
+// Jakarta Servlet and Validation imports
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -33,14 +41,20 @@ public class UserController {
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
     private final UserService userService;
+    private final EnrollmentQueueService enrollmentQueueService;
+    private final ExportService exportService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, EnrollmentQueueService enrollmentQueueService,
+                          ExportService exportService) {
         this.userService = userService;
+        this.enrollmentQueueService = enrollmentQueueService;
+        this.exportService = exportService;
     }
 
     /**
      * Get paginated list of users.
      */
+    @BulkheadLane(Lane.SQL_READ)
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<List<UserDTO>> getAllUsers(
@@ -66,9 +80,25 @@ public class UserController {
         );
     }
 
+    /**
+     * Export all users with their course IDs as NDJSON, streamed from a database
+     * cursor and gzip-compressed when the client accepts it.
+     */
+    @BulkheadLane(Lane.EXPORT)
+    @GetMapping(value = "/export", produces = NdjsonExport.MEDIA_TYPE)
+    public void exportUsers(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                            HttpServletResponse response) throws IOException {
+        logger.info("Received request to export users");
+
+        long count = NdjsonExport.stream(acceptEncoding, "users.ndjson", response, exportService::exportUsers);
+
+        logger.debug("Exported {} users", count);
+    }
+
     /**
      * Get a user by ID.
      */
+    @BulkheadLane(Lane.SQL_READ)
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<UserDTO> getUserById(@PathVariable Long id) {
@@ -86,6 +116,7 @@ public class UserController {
     /**
      * Create a new user.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseClass<UserDTO> createUser(@Valid @RequestBody UserDTO userDTO) {
@@ -106,13 +137,14 @@ public class UserController {
     /**
      * Update an existing user by ID.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<UserDTO> updateUser(@PathVariable Long id, @Valid @RequestBody UserDTO userDTO) {
         logger.info("Received request to update a user");
 
-        User existingUser = userService.getUserById(id);
-        User userDetails = UserMapper.toEntity(userDTO, existingUser.getCourses());
+        // Null courses leave the existing enrollments untouched
+        User userDetails = UserMapper.toEntity(userDTO, null);
         User updatedUser = userService.updateUser(id, userDetails);
 
         logger.debug("User updated successfully");
@@ -127,6 +159,7 @@ public class UserController {
     /**
      * Delete a user by ID.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<UserDTO> deleteUser(@PathVariable Long id) {
@@ -146,6 +179,7 @@ public class UserController {
     /**
      * Enroll a user in multiple courses.
      */
+    @BulkheadLane(Lane.SQL_WRITE)
     @PostMapping("/{id}/courses")
     @ResponseStatus(HttpStatus.OK)
     public ResponseClass<UserDTO> enrollUserInCourses(@PathVariable Long id, @RequestBody Set<Long> courseIds) {
@@ -161,4 +195,25 @@ public class UserController {
                 UserMapper.toDTO(updatedUser)
         );
     }
+
+    /**
+     * Accept an enrollment for asynchronous processing.
+     * Returns 202 with a status URL, or 429 when the queue is full.
+     */
+    @PostMapping(value = "/{id}/courses", params = "async=true")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseClass<EnrollmentStatusDTO> enrollUserInCoursesAsync(@PathVariable Long id,
+                                                                       @RequestBody Set<Long> courseIds,
+                                                                       HttpServletResponse response) {
+        logger.info("Received request to enroll user in courses asynchronously");
+
+        EnrollmentStatusDTO status = enrollmentQueueService.submit(id, courseIds);
+        response.setHeader(HttpHeaders.LOCATION, status.getStatusUrl());
+
+        return new ResponseClass<>(
+                HttpStatus.ACCEPTED,
+                Constants.ENROLLMENT_ACCEPTED,
+                status
+        );
+    }
 }
@@ -0,0 +1,459 @@
+package com.example.datagen;
+
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+// Entities
+import com.example.entity.Course;
+import com.example.entity.Platform;
+import com.example.entity.User;
+// Mapper utility
+import com.example.mapper.PlatformMapper;
+// Enrollment bucket writer
+import com.example.sync.EnrollmentBucketStore;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, Boot runner and MongoDB
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Writes a synthetic dataset of platforms, courses, users and enrollments
+ * straight into MySQL, and optionally pre-builds the MongoDB {@code platforms}
+ * collection from it. Runs once at startup when the {@code datagen} profile is
+ * active; sizes come from {@link DatasetGeneratorProperties}.
+ * <p>
+ * Course popularity follows a Zipf distribution: course ranks map to course
+ * IDs, so the first courses of the run become mega-courses and the rest form
+ * a long tail. Courses are spread round-robin over the platforms.
+ * </p>
+ * <p>
+ * Rows bypass JPA entirely: IDs are assigned explicitly above the current
+ * maximum, rows are written with JDBC batches committed per batch over
+ * several connections, and on MySQL the loader sessions disable foreign key
+ * and unique checks. The MySQL URL should carry
+ * {@code rewriteBatchedStatements=true} (set by the {@code datagen} profile)
+ * so each batch becomes a few multi-row inserts.
+ * </p>
+ */
+@Component
+@Profile("datagen")
+@EnableConfigurationProperties(DatasetGeneratorProperties.class)
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private final DataSource dataSource;
+    private final MongoTemplate mongoTemplate;
+    private final EnrollmentBucketStore enrollmentBucketStore;
+    private final DatasetGeneratorProperties props;
+    private final long bucketThreshold;
+    private final int bucketSize;
+
+    /**
+     * Constructor for DatasetGenerator.
+     *
+     * @param dataSource            datasource the rows are written to
+     * @param mongoTemplate         template used to pre-build platform documents
+     * @param enrollmentBucketStore writer of the enrollment buckets of large platforms
+     * @param props                 dataset size and shape
+     * @param bucketThreshold       enrollments above which a platform is stored in buckets, as in the sync
+     * @param bucketSize            maximum number of users per enrollment bucket, as in the sync
+     */
+    public DatasetGenerator(DataSource dataSource,
+                            MongoTemplate mongoTemplate,
+                            EnrollmentBucketStore enrollmentBucketStore,
+                            DatasetGeneratorProperties props,
+                            @Value("${app.sync.bucket-threshold:50000}") long bucketThreshold,
+                            @Value("${app.sync.bucket-size:1000}") int bucketSize) {
+        this.dataSource = dataSource;
+        this.mongoTemplate = mongoTemplate;
+        this.enrollmentBucketStore = enrollmentBucketStore;
+        this.props = props;
+        this.bucketThreshold = bucketThreshold;
+        this.bucketSize = bucketSize;
+    }
+
+    /** Functional interface binding row {@code i} of a table to an insert statement. */
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int row) throws SQLException;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (props.getPlatforms() <= 0 || props.getCourses() <= 0 || props.getUsers() <= 0) {
+            throw new IllegalArgumentException("app.datagen.platforms, courses and users must be positive");
+        }
+        long started = System.nanoTime();
+
+        long platformBase;
+        long courseBase;
+        long userBase;
+        boolean mysql;
+        boolean h2;
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+            mysql = product.contains("mysql");
+            h2 = product.contains("h2");
+            platformBase = maxId(connection, "platforms");
+            courseBase = maxId(connection, "courses");
+            userBase = maxId(connection, "users");
+        }
+        logger.info("Generating {} platforms, {} courses, {} users, {} enrollments (zipf s={})",
+                props.getPlatforms(), props.getCourses(), props.getUsers(), props.getEnrollments(), props.getZipfExponent());
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, props.getThreads()));
+        try {
+            Enrollments enrollments = generateEnrollments(pool);
+
+            int platforms = props.getPlatforms();
+            insert(pool, mysql, "platforms", "INSERT INTO platforms (id, name) VALUES (?, ?)", platforms,
+                    (ps, p) -> {
+                        long id = platformBase + 1 + p;
+                        ps.setLong(1, id);
+                        ps.setString(2, platformName(id));
+                    });
+            insert(pool, mysql, "courses", "INSERT INTO courses (id, title, platform_id) VALUES (?, ?, ?)", props.getCourses(),
+                    (ps, c) -> {
+                        long id = courseBase + 1 + c;
+                        ps.setLong(1, id);
+                        ps.setString(2, courseTitle(id));
+                        ps.setLong(3, platformBase + 1 + (c % platforms));
+                    });
+            insert(pool, mysql, "users", "INSERT INTO users (id, name, email) VALUES (?, ?, ?)", props.getUsers(),
+                    (ps, u) -> {
+                        long id = userBase + 1 + u;
+                        ps.setLong(1, id);
+                        ps.setString(2, userName(id));
+                        ps.setString(3, userEmail(id));
+                    });
+            insertEnrollments(pool, mysql, enrollments, userBase, courseBase);
+
+            if (h2) {
+                restartIdentity("platforms", platformBase + platforms + 1);
+                restartIdentity("courses", courseBase + props.getCourses() + 1);
+                restartIdentity("users", userBase + props.getUsers() + 1);
+            }
+
+            if (props.isBuildMongo()) {
+                buildMongo(enrollments, platformBase, courseBase, userBase);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        logger.info("Dataset generated in {} s", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    /**
+     * Enrollments in compressed row form: user {@code u} is enrolled in course
+     * indexes {@code courses[offsets[u]] .. courses[offsets[u + 1] - 1]}.
+     */
+    private record Enrollments(int[] offsets, int[] courses) {
+    }
+
+    /**
+     * Draws the enrollments in memory. Every user gets the same number of
+     * distinct courses (differing by at most one) so the total matches the
+     * requested count; which courses is drawn from the Zipf distribution.
+     */
+    private Enrollments generateEnrollments(ExecutorService pool) throws Exception {
+        int users = props.getUsers();
+        int courses = props.getCourses();
+        long perUser = props.getEnrollments() / users;
+        long remainder = props.getEnrollments() % users;
+
+        int[] offsets = new int[users + 1];
+        long total = 0;
+        for (int u = 0; u < users; u++) {
+            offsets[u] = (int) total;
+            total += Math.min(courses, perUser + (u < remainder ? 1 : 0));
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("At most ~2 billion enrollments are supported");
+            }
+        }
+        offsets[users] = (int) total;
+
+        long started = System.nanoTime();
+        ZipfSampler zipf = new ZipfSampler(courses, props.getZipfExponent());
+        int[] picks = new int[(int) total];
+        forEachRange(pool, users, (from, to, chunk) -> {
+            SplittableRandom rnd = new SplittableRandom(props.getSeed() * 31 + chunk);
+            for (int u = from; u < to; u++) {
+                int start = offsets[u];
+                int wanted = offsets[u + 1] - start;
+                int filled = 0;
+                // Rejection sampling of distinct courses, falling back to the tail if the head is exhausted
+                for (int attempts = 0; filled < wanted && attempts < wanted * 20; attempts++) {
+                    int course = zipf.sample(rnd);
+                    if (!contains(picks, start, start + filled, course)) {
+                        picks[start + filled++] = course;
+                    }
+                }
+                for (int course = courses - 1; filled < wanted; course--) {
+                    if (!contains(picks, start, start + filled, course)) {
+                        picks[start + filled++] = course;
+                    }
+                }
+            }
+        });
+        logger.info("Drew {} enrollments in {} ms", total, (System.nanoTime() - started) / 1_000_000);
+        return new Enrollments(offsets, picks);
+    }
+
+    private static boolean contains(int[] values, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Inserts {@code rows} rows into a table, split over the loader threads.
+     */
+    private void insert(ExecutorService pool, boolean mysql, String table, String sql, int rows, RowBinder binder)
+            throws Exception {
+        long started = System.nanoTime();
+        forEachRange(pool, rows, (from, to, chunk) -> {
+            try (Connection connection = loaderConnection(mysql);
+                 PreparedStatement ps = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (int row = from; row < to; row++) {
+                    binder.bind(ps, row);
+                    ps.addBatch();
+                    if (++pending == props.getBatchSize()) {
+                        ps.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+        });
+        logRate(table, rows, started);
+    }
+
+    /**
+     * Inserts the {@code user_course} join rows, split by user range over the loader threads.
+     */
+    private void insertEnrollments(ExecutorService pool, boolean mysql, Enrollments enrollments,
+                                   long userBase, long courseBase) throws Exception {
+        long started = System.nanoTime();
+        int[] offsets = enrollments.offsets();
+        int[] courses = enrollments.courses();
+        forEachRange(pool, props.getUsers(), (from, to, chunk) -> {
+            try (Connection connection = loaderConnection(mysql);
+                 PreparedStatement ps = connection.prepareStatement(
+                         "INSERT INTO user_course (user_id, course_id) VALUES (?, ?)")) {
+                int pending = 0;
+                for (int u = from; u < to; u++) {
+                    for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                        ps.setLong(1, userBase + 1 + u);
+                        ps.setLong(2, courseBase + 1 + courses[i]);
+                        ps.addBatch();
+                        if (++pending == props.getBatchSize()) {
+                            ps.executeBatch();
+                            connection.commit();
+                            pending = 0;
+                        }
+                    }
+                }
+                if (pending > 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+        });
+        logRate("user_course", courses.length, started);
+    }
+
+    /**
+     * Pre-builds the {@code platforms} collection with the same document
+     * layout the sync produces. Platforms above {@code app.sync.bucket-threshold}
+     * enrollments get a bucketed document from
+     * {@link PlatformMapper#toBucketedDocument} and their enrollment buckets,
+     * written before the document; the others get {@link PlatformMapper#toDocument}.
+     */
+    private void buildMongo(Enrollments enrollments, long platformBase, long courseBase, long userBase) {
+        long started = System.nanoTime();
+        int courseCount = props.getCourses();
+        int platforms = props.getPlatforms();
+
+        // Invert the user -> courses rows into course -> users
+        int[] courseOffsets = new int[courseCount + 1];
+        for (int course : enrollments.courses()) {
+            courseOffsets[course + 1]++;
+        }
+        for (int c = 0; c < courseCount; c++) {
+            courseOffsets[c + 1] += courseOffsets[c];
+        }
+        int[] usersByCourse = new int[enrollments.courses().length];
+        int[] cursor = Arrays.copyOf(courseOffsets, courseCount);
+        int[] offsets = enrollments.offsets();
+        for (int u = 0; u < props.getUsers(); u++) {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                usersByCourse[cursor[enrollments.courses()[i]]++] = u;
+            }
+        }
+
+        int written = 0;
+        int bucketed = 0;
+        List<PlatformDocument> batch = new ArrayList<>();
+        long batchEnrollments = 0;
+        for (int p = 0; p < platforms; p++) {
+            long enrollmentCount = 0;
+            for (int c = p; c < courseCount; c += platforms) {
+                enrollmentCount += courseOffsets[c + 1] - courseOffsets[c];
+            }
+
+            Platform platform = new Platform(platformName(platformBase + 1 + p));
+            platform.setId(platformBase + 1 + p);
+            platform.setCourses(new LinkedHashSet<>());
+            Map<Integer, User> users = new HashMap<>();
+            for (int c = p; c < courseCount; c += platforms) {
+                Course course = new Course(courseTitle(courseBase + 1 + c), platform);
+                course.setId(courseBase + 1 + c);
+                platform.getCourses().add(course);
+                for (int i = courseOffsets[c]; i < courseOffsets[c + 1]; i++) {
+                    users.computeIfAbsent(usersByCourse[i], u -> {
+                        long id = userBase + 1 + u;
+                        User user = new User(userName(id), userEmail(id));
+                        user.setId(id);
+                        user.setCourses(new HashSet<>());
+                        return user;
+                    }).getCourses().add(course);
+                }
+            }
+
+            if (enrollmentCount > bucketThreshold) {
+                long syncStamp = ThreadLocalRandom.current().nextLong();
+                enrollmentBucketStore.removeAll(platform.getId());
+                enrollmentBucketStore.write(PlatformMapper.toBuckets(platform, users.values(), bucketSize, syncStamp));
+                batch.add(PlatformMapper.toBucketedDocument(platform, users.values(), syncStamp));
+                bucketed++;
+            } else {
+                batch.add(PlatformMapper.toDocument(platform, users.values()));
+                batchEnrollments += enrollmentCount;
+            }
+            if (batch.size() >= 100 || batchEnrollments >= 200_000) {
+                written += writeDocuments(batch);
+                batchEnrollments = 0;
+            }
+        }
+        written += writeDocuments(batch);
+
+        logger.info("Wrote {} platform documents ({} bucketed) in {} ms",
+                written, bucketed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /** Replaces the given documents and clears the batch. */
+    private int writeDocuments(List<PlatformDocument> batch) {
+        if (batch.isEmpty()) return 0;
+        List<Long> ids = batch.stream().map(PlatformDocument::getId).toList();
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), PlatformDocument.class);
+        mongoTemplate.bulkOps(BulkMode.UNORDERED, PlatformDocument.class).insert(batch).execute();
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    /** Functional interface processing a contiguous range of rows. */
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(int from, int to, int chunk) throws Exception;
+    }
+
+    /**
+     * Splits {@code [0, n)} into one contiguous range per loader thread and
+     * waits for all of them, rethrowing the first failure.
+     */
+    private void forEachRange(ExecutorService pool, int n, RangeTask task) throws Exception {
+        int chunks = Math.max(1, Math.min(props.getThreads(), n));
+        List<Future<?>> futures = new ArrayList<>();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = (int) ((long) n * chunk / chunks);
+            int to = (int) ((long) n * (chunk + 1) / chunks);
+            int index = chunk;
+            futures.add(pool.submit(() -> {
+                task.run(from, to, index);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+
+    private Connection loaderConnection(boolean mysql) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        if (mysql) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION foreign_key_checks = 0");
+                statement.execute("SET SESSION unique_checks = 0");
+            }
+        }
+        return connection;
+    }
+
+    private long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /** Moves an H2 identity column past the generated IDs; MySQL advances AUTO_INCREMENT on its own. */
+    private void restartIdentity(String table, long next) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private void logRate(String table, long rows, long startedNanos) {
+        long ms = Math.max(1, (System.nanoTime() - startedNanos) / 1_000_000);
+        logger.info("Inserted {} rows into {} in {} ms ({} rows/s)", rows, table, ms, rows * 1000 / ms);
+    }
+
+    private static String platformName(long id) {
+        return "gen-platform-" + id;
+    }
+
+    private static String courseTitle(long id) {
+        return "gen-course-" + id;
+    }
+
+    private static String userName(long id) {
+        return "gen-user-" + id;
+    }
+
+    private static String userEmail(long id) {
+        return "gen-user-" + id + "@example.com";
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.datagen;
+
+// Spring Boot configuration properties
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size and shape of the synthetic dataset, bound from {@code app.datagen.*}.
+ */
+@ConfigurationProperties(prefix = "app.datagen")
+public class DatasetGeneratorProperties {
+
+    private int platforms = 100;
+    private int courses = 10_000;
+    private int users = 1_000_000;
+    private long enrollments = 10_000_000;
+    private double zipfExponent = 1.0;
+    private int batchSize = 10_000;
+    private int threads = 4;
+    private long seed = 42;
+    private boolean buildMongo = false;
+
+    /** Returns the number of platforms to create. */
+    public int getPlatforms() {
+        return platforms;
+    }
+
+    /** Sets the number of platforms to create. */
+    public void setPlatforms(int platforms) {
+        this.platforms = platforms;
+    }
+
+    /** Returns the number of courses to create, spread evenly over the platforms. */
+    public int getCourses() {
+        return courses;
+    }
+
+    /** Sets the number of courses to create. */
+    public void setCourses(int courses) {
+        this.courses = courses;
+    }
+
+    /** Returns the number of users to create. */
+    public int getUsers() {
+        return users;
+    }
+
+    /** Sets the number of users to create. */
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    /** Returns the total number of enrollments to create. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the total number of enrollments to create. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Returns the Zipf exponent of course popularity. */
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    /** Sets the Zipf exponent of course popularity; 0 is uniform. */
+    public void setZipfExponent(double zipfExponent) {
+        this.zipfExponent = zipfExponent;
+    }
+
+    /** Returns the number of rows per JDBC batch. */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** Sets the number of rows per JDBC batch. */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /** Returns the number of parallel loader connections. */
+    public int getThreads() {
+        return threads;
+    }
+
+    /** Sets the number of parallel loader connections. */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /** Returns the random seed; the same seed produces the same dataset. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Sets the random seed. */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /** Returns whether to pre-build the MongoDB {@code platforms} collection. */
+    public boolean isBuildMongo() {
+        return buildMongo;
+    }
+
+    /** Sets whether to pre-build the MongoDB {@code platforms} collection. */
+    public void setBuildMongo(boolean buildMongo) {
+        this.buildMongo = buildMongo;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.datagen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples ranks {@code 0..n-1} from a Zipf distribution, where rank {@code k}
+ * is drawn with probability proportional to {@code 1 / (k + 1)^s}.
+ * <p>
+ * The cumulative distribution is precomputed once, so each sample is a
+ * binary search: about 17 comparisons for 100,000 ranks.
+ * </p>
+ */
+public class ZipfSampler {
+
+    private final double[] cdf;
+
+    /**
+     * Constructor for ZipfSampler.
+     *
+     * @param n        number of ranks
+     * @param exponent skew {@code s}; 0 is uniform, around 1 gives a few dominant ranks and a long tail
+     */
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+    }
+
+    /**
+     * Draws one rank.
+     *
+     * @param rnd random source
+     * @return rank between 0 (most popular) and n-1
+     */
+    public int sample(RandomGenerator rnd) {
+        int i = Arrays.binarySearch(cdf, rnd.nextDouble());
+        int rank = i >= 0 ? i : -i - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+
+    /**
+     * Returns the probability of a rank.
+     *
+     * @param rank rank between 0 and n-1
+     * @return probability of drawing the rank
+     */
+    public double probability(int rank) {
+        return rank == 0 ? cdf[0] : cdf[rank] - cdf[rank - 1];
+    }
+}
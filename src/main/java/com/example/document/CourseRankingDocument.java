@@ -0,0 +1,87 @@
+package com.example.document;
+
+// Spring Data MongoDB imports
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Java standard library imports
+import java.time.Instant;
+
+/**
+ * MongoDB document holding the enrollment count of one course, materialized
+ * from platform syncs for the course leaderboard.
+ */
+@Document(collection = "course_rankings")
+public class CourseRankingDocument {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    private Long platformId;
+
+    private long enrollments;
+
+    private Instant updatedAt;
+
+    public CourseRankingDocument() {}
+
+    public CourseRankingDocument(Long id, String title, Long platformId, long enrollments, Instant updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.platformId = platformId;
+        this.enrollments = enrollments;
+        this.updatedAt = updatedAt;
+    }
+
+    /** Gets the course ID. */
+    public Long getId() {
+        return id;
+    }
+
+    /** Sets the course ID. */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /** Gets the course title. */
+    public String getTitle() {
+        return title;
+    }
+
+    /** Sets the course title. */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /** Gets the ID of the platform the course belongs to. */
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    /** Sets the ID of the platform the course belongs to. */
+    public void setPlatformId(Long platformId) {
+        this.platformId = platformId;
+    }
+
+    /** Gets the number of enrollments at the last sync. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the number of enrollments at the last sync. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Gets the time of the last sync that changed the count. */
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /** Sets the time of the last sync that changed the count. */
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
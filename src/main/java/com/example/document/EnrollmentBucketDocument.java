@@ -0,0 +1,125 @@
+package com.example.document;
+
+// Embedded user shape shared with platform documents
+import com.example.document.PlatformDocument.UserEmbed;
+
+// Spring Data MongoDB imports
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Java standard library imports
+import java.util.List;
+
+/**
+ * MongoDB document holding a fixed-size slice of one course's enrollments,
+ * used for platforms too large to embed their enrollments in the
+ * {@link PlatformDocument}.
+ * <p>
+ * Buckets are keyed by (platformId, syncStamp, courseId, bucketNo), and the
+ * key doubles as the document ID. {@code syncStamp} identifies the sync that
+ * wrote the bucket: every sync inserts a new set next to the previous one,
+ * the platform document names the set readers use, and the other sets are
+ * removed once the document has switched.
+ * </p>
+ */
+@Document(collection = "enrollment_buckets")
+public class EnrollmentBucketDocument {
+
+    @Id
+    private String id;
+
+    private Long platformId;
+
+    private Long courseId;
+
+    private int bucketNo;
+
+    private long syncStamp;
+
+    private List<UserEmbed> users;
+
+    public EnrollmentBucketDocument() {}
+
+    public EnrollmentBucketDocument(Long platformId, Long courseId, int bucketNo, long syncStamp,
+                                    List<UserEmbed> users) {
+        this.id = key(platformId, syncStamp, courseId, bucketNo);
+        this.platformId = platformId;
+        this.courseId = courseId;
+        this.bucketNo = bucketNo;
+        this.syncStamp = syncStamp;
+        this.users = users;
+    }
+
+    /**
+     * Builds the document ID of a bucket.
+     *
+     * @param platformId platform the course belongs to
+     * @param syncStamp stamp of the sync writing the bucket
+     * @param courseId course whose enrollments the bucket holds
+     * @param bucketNo zero-based bucket number within the course
+     * @return the bucket key, e.g. {@code 12:1f3a9c:340:0}
+     */
+    public static String key(Long platformId, long syncStamp, Long courseId, int bucketNo) {
+        return platformId + ":" + Long.toHexString(syncStamp) + ":" + courseId + ":" + bucketNo;
+    }
+
+    /** Gets the bucket key. */
+    public String getId() {
+        return id;
+    }
+
+    /** Sets the bucket key. */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /** Gets the platform ID. */
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    /** Sets the platform ID. */
+    public void setPlatformId(Long platformId) {
+        this.platformId = platformId;
+    }
+
+    /** Gets the course ID. */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    /** Sets the course ID. */
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /** Gets the bucket number within the course. */
+    public int getBucketNo() {
+        return bucketNo;
+    }
+
+    /** Sets the bucket number within the course. */
+    public void setBucketNo(int bucketNo) {
+        this.bucketNo = bucketNo;
+    }
+
+    /** Gets the stamp of the sync that wrote the bucket. */
+    public long getSyncStamp() {
+        return syncStamp;
+    }
+
+    /** Sets the stamp of the sync that wrote the bucket. */
+    public void setSyncStamp(long syncStamp) {
+        this.syncStamp = syncStamp;
+    }
+
+    /** Gets the enrolled users in this bucket. */
+    public List<UserEmbed> getUsers() {
+        return users;
+    }
+
+    /** Sets the enrolled users in this bucket. */
+    public void setUsers(List<UserEmbed> users) {
+        this.users = users;
+    }
+}
@@ -5,39 +5,101 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 // Java standard library imports
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
 
 /**
  * MongoDB document representing a platform.
+ * <p>
+ * The platform, course and user IDs are the SQL primary keys stored as BSON
+ * 64-bit integers. Documents written before that used strings; they are
+ * rewritten by {@link com.example.sync.ReadModelMigrationService}.
+ * </p>
+ * <p>
+ * Schema versions:
+ * </p>
+ * <ul>
+ *   <li>1 (no {@code schemaVersion} field): each course embeds its enrolled
+ *       users with name and email, so a user appears once per course.</li>
+ *   <li>2: the platform holds each enrolled user once in {@code users}, and
+ *       each course lists the IDs of its users in {@code userIds}.</li>
+ * </ul>
+ * Readers handle both; every sync writes the current version.
+ * <p>
+ * Platforms with more enrollments than the sync's bucket threshold are
+ * {@code bucketed}: the document keeps no users, only per-course and total
+ * counts, and the enrollments live in the {@link EnrollmentBucketDocument}s
+ * carrying its {@code bucketStamp}.
+ * </p>
  */
 @Document(collection = "platforms")
 public class PlatformDocument {
 
+    /** Schema version written by {@link com.example.mapper.PlatformMapper#toDocument}. */
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+
     @Id
-    private String id;
+    private Long id;
+
+    private Integer schemaVersion;
 
     private String name;
 
+    private List<UserEmbed> users;
+
     private List<CourseEmbed> courses;
 
+    private Boolean bucketed;
+
+    private Long bucketStamp;
+
+    private Long userCount;
+
+    private Long enrollmentCount;
+
+    private Instant usersUpdatedAt;
+
     public PlatformDocument() {}
 
+    /** Creates a version 1 document with users embedded in the courses. */
     public PlatformDocument(String name, List<CourseEmbed> courses) {
         this.name = name;
         this.courses = courses;
     }
 
+    /** Creates a current-version document with a platform-level user table. */
+    public PlatformDocument(String name, List<UserEmbed> users, List<CourseEmbed> courses) {
+        this.schemaVersion = CURRENT_SCHEMA_VERSION;
+        this.name = name;
+        this.users = users;
+        this.courses = courses;
+    }
+
     /** Gets the MongoDB document ID. */
-    public String getId() {
+    public Long getId() {
         return id;
     }
 
     /** Sets the MongoDB document ID. */
-    public void setId(String id) {
+    public void setId(Long id) {
         this.id = id;
     }
 
+    /** Gets the schema version; documents written before versioning are version 1. */
+    public int getSchemaVersion() {
+        return schemaVersion == null ? 1 : schemaVersion;
+    }
+
+    /** Sets the schema version. */
+    public void setSchemaVersion(Integer schemaVersion) {
+        this.schemaVersion = schemaVersion;
+    }
+
+    /** Whether the document has a platform-level user table (version 2 and later). */
+    public boolean hasUserTable() {
+        return getSchemaVersion() >= 2;
+    }
+
     /** Gets the platform name. */
     public String getName() {
         return name;
@@ -48,6 +110,72 @@ public class PlatformDocument {
         this.name = name;
     }
 
+    /** Gets the platform-level user table (version 2), or null for version 1. */
+    public List<UserEmbed> getUsers() {
+        return users;
+    }
+
+    /** Sets the platform-level user table. */
+    public void setUsers(List<UserEmbed> users) {
+        this.users = users;
+    }
+
+    /** Whether the enrollments are stored in enrollment buckets instead of this document. */
+    public boolean isBucketed() {
+        return Boolean.TRUE.equals(bucketed);
+    }
+
+    /** Sets whether the enrollments are stored in enrollment buckets. */
+    public void setBucketed(Boolean bucketed) {
+        this.bucketed = bucketed;
+    }
+
+    /**
+     * Gets the sync stamp of the enrollment buckets belonging to this document,
+     * or null for documents written before buckets were stamped.
+     */
+    public Long getBucketStamp() {
+        return bucketStamp;
+    }
+
+    /** Sets the sync stamp of the enrollment buckets belonging to this document. */
+    public void setBucketStamp(Long bucketStamp) {
+        this.bucketStamp = bucketStamp;
+    }
+
+    /** Gets the number of distinct enrolled users, recorded for bucketed documents. */
+    public Long getUserCount() {
+        return userCount;
+    }
+
+    /** Sets the number of distinct enrolled users. */
+    public void setUserCount(Long userCount) {
+        this.userCount = userCount;
+    }
+
+    /** Gets the total number of enrollments, recorded for bucketed documents. */
+    public Long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    /** Sets the total number of enrollments. */
+    public void setEnrollmentCount(Long enrollmentCount) {
+        this.enrollmentCount = enrollmentCount;
+    }
+
+    /**
+     * Gets the time a user in the enrollment buckets was last updated in place,
+     * or null if none was since the document was written.
+     */
+    public Instant getUsersUpdatedAt() {
+        return usersUpdatedAt;
+    }
+
+    /** Sets the time a user in the enrollment buckets was last updated in place. */
+    public void setUsersUpdatedAt(Instant usersUpdatedAt) {
+        this.usersUpdatedAt = usersUpdatedAt;
+    }
+
     /** Gets the embedded courses in the platform. */
     public List<CourseEmbed> getCourses() {
         return courses;
@@ -62,25 +190,34 @@ public class PlatformDocument {
      * Embedded course document within a platform.
      */
     public static class CourseEmbed {
-        private String id;
+        private Long id;
         private String title;
         private List<UserEmbed> enrolledUsers;
+        private List<Long> userIds;
+        private Integer enrollmentCount;
 
         public CourseEmbed() {}
 
-        public CourseEmbed(String id, String title, List<UserEmbed> enrolledUsers) {
+        /** Creates a version 1 course embedding its users. */
+        public CourseEmbed(Long id, String title, List<UserEmbed> enrolledUsers) {
             this.id = id;
             this.title = title;
             this.enrolledUsers = enrolledUsers;
         }
 
+        /** Creates a course referencing its users by ID; set them with {@link #setUserIds}. */
+        public CourseEmbed(Long id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+
         /** Gets the course ID. */
-        public String getId() {
+        public Long getId() {
             return id;
         }
 
         /** Sets the course ID. */
-        public void setId(String id) {
+        public void setId(Long id) {
             this.id = id;
         }
 
@@ -103,31 +240,58 @@ public class PlatformDocument {
         public void setEnrolledUsers(List<UserEmbed> enrolledUsers) {
             this.enrolledUsers = enrolledUsers;
         }
+
+        /** Gets the IDs of the enrolled users (version 2), or null for version 1. */
+        public List<Long> getUserIds() {
+            return userIds;
+        }
+
+        /** Sets the IDs of the enrolled users. */
+        public void setUserIds(List<Long> userIds) {
+            this.userIds = userIds;
+        }
+
+        /** Gets the enrollment count, recorded instead of the users in bucketed documents. */
+        public Integer getEnrollmentCount() {
+            return enrollmentCount;
+        }
+
+        /** Sets the enrollment count. */
+        public void setEnrollmentCount(Integer enrollmentCount) {
+            this.enrollmentCount = enrollmentCount;
+        }
+
+        /** Counts the course's enrollments in any schema version or layout. */
+        public int countEnrollments() {
+            if (enrollmentCount != null) return enrollmentCount;
+            if (userIds != null) return userIds.size();
+            return enrolledUsers == null ? 0 : enrolledUsers.size();
+        }
     }
 
     /**
      * Embedded user document within a course.
      */
     public static class UserEmbed {
-        private String id;
+        private Long id;
         private String name;
         private String email;
 
         public UserEmbed() {}
 
-        public UserEmbed(String id, String name, String email) {
+        public UserEmbed(Long id, String name, String email) {
             this.id = id;
             this.name = name;
             this.email = email;
         }
 
         /** Gets the user ID. */
-        public String getId() {
+        public Long getId() {
             return id;
         }
 
         /** Sets the user ID. */
-        public void setId(String id) {
+        public void setId(Long id) {
             this.id = id;
         }
 
@@ -151,20 +315,4 @@ public class PlatformDocument {
             this.email = email;
         }
     }
-
-    /**
-     * Aggregates all users enrolled in any course of this platform.
-     * @return list of enrolled users
-     */
-    public List<UserEmbed> getUsers() {
-        List<UserEmbed> users = new ArrayList<>();
-        if (courses != null) {
-            for (CourseEmbed course : courses) {
-                if (course.getEnrolledUsers() != null) {
-                    users.addAll(course.getEnrolledUsers());
-                }
-            }
-        }
-        return users;
-    }
 }
@@ -0,0 +1,108 @@
+package com.example.document;
+
+// Spring Data MongoDB imports
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Java standard library imports
+import java.time.Instant;
+
+/**
+ * MongoDB document holding the enrollment count and growth of one platform,
+ * materialized from platform syncs for the platform leaderboards.
+ * <p>
+ * {@code growth} is the number of enrollments gained since {@code windowStart},
+ * when the platform had {@code windowStartEnrollments}. A sync more than one
+ * growth window after {@code windowStart} starts a new window.
+ * </p>
+ */
+@Document(collection = "platform_rankings")
+public class PlatformRankingDocument {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private long enrollments;
+
+    private long growth;
+
+    private Instant windowStart;
+
+    private long windowStartEnrollments;
+
+    private Instant updatedAt;
+
+    public PlatformRankingDocument() {}
+
+    /** Gets the platform ID. */
+    public Long getId() {
+        return id;
+    }
+
+    /** Sets the platform ID. */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /** Gets the platform name. */
+    public String getName() {
+        return name;
+    }
+
+    /** Sets the platform name. */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /** Gets the number of enrollments at the last sync. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the number of enrollments at the last sync. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Gets the enrollments gained in the current growth window. */
+    public long getGrowth() {
+        return growth;
+    }
+
+    /** Sets the enrollments gained in the current growth window. */
+    public void setGrowth(long growth) {
+        this.growth = growth;
+    }
+
+    /** Gets the start of the current growth window. */
+    public Instant getWindowStart() {
+        return windowStart;
+    }
+
+    /** Sets the start of the current growth window. */
+    public void setWindowStart(Instant windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    /** Gets the number of enrollments at the start of the growth window. */
+    public long getWindowStartEnrollments() {
+        return windowStartEnrollments;
+    }
+
+    /** Sets the number of enrollments at the start of the growth window. */
+    public void setWindowStartEnrollments(long windowStartEnrollments) {
+        this.windowStartEnrollments = windowStartEnrollments;
+    }
+
+    /** Gets the time of the last sync. */
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /** Sets the time of the last sync. */
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
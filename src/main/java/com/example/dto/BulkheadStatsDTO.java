@@ -0,0 +1,122 @@
+package com.example.dto;
+
+/**
+ * DTO exposing the saturation of a single bulkhead lane.
+ */
+public class BulkheadStatsDTO {
+    private String lane;
+    private int maxConcurrent;
+    private int active;
+    private int maxQueue;
+    private int queued;
+    private long accepted;
+    private long rejected;
+    private double saturation;
+
+    /** Default constructor */
+    public BulkheadStatsDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param lane lane name
+     * @param maxConcurrent permit limit
+     * @param active permits in use
+     * @param maxQueue queue limit
+     * @param queued callers waiting
+     * @param accepted total admitted callers
+     * @param rejected total rejected callers
+     * @param saturation share of permits in use
+     */
+    public BulkheadStatsDTO(String lane, int maxConcurrent, int active, int maxQueue, int queued,
+                            long accepted, long rejected, double saturation) {
+        this.lane = lane;
+        this.maxConcurrent = maxConcurrent;
+        this.active = active;
+        this.maxQueue = maxQueue;
+        this.queued = queued;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.saturation = saturation;
+    }
+
+    /** Returns the lane name. */
+    public String getLane() {
+        return lane;
+    }
+
+    /** Sets the lane name. */
+    public void setLane(String lane) {
+        this.lane = lane;
+    }
+
+    /** Returns the permit limit. */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /** Sets the permit limit. */
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /** Returns the permits in use. */
+    public int getActive() {
+        return active;
+    }
+
+    /** Sets the permits in use. */
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    /** Returns the queue limit. */
+    public int getMaxQueue() {
+        return maxQueue;
+    }
+
+    /** Sets the queue limit. */
+    public void setMaxQueue(int maxQueue) {
+        this.maxQueue = maxQueue;
+    }
+
+    /** Returns the number of waiting callers. */
+    public int getQueued() {
+        return queued;
+    }
+
+    /** Sets the number of waiting callers. */
+    public void setQueued(int queued) {
+        this.queued = queued;
+    }
+
+    /** Returns the total admitted callers. */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /** Sets the total admitted callers. */
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    /** Returns the total rejected callers. */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /** Sets the total rejected callers. */
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    /** Returns the share of permits in use. */
+    public double getSaturation() {
+        return saturation;
+    }
+
+    /** Sets the share of permits in use. */
+    public void setSaturation(double saturation) {
+        this.saturation = saturation;
+    }
+}
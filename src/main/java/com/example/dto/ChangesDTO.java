@@ -0,0 +1,138 @@
+package com.example.dto;
+
+import java.util.List;
+
+/**
+ * DTO answering a delta sync request: the current state of everything changed since a token.
+ */
+public class ChangesDTO {
+    private String token;
+    private boolean fullSyncRequired;
+    private boolean hasMore;
+    private List<PlatformDTO> platforms;
+    private List<Long> deletedPlatformIds;
+    private List<CourseDTO> courses;
+    private List<Long> deletedCourseIds;
+    private List<EnrollmentDTO> enrollments;
+    private List<EnrollmentDTO> removedEnrollments;
+
+    /** Default constructor */
+    public ChangesDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param token token to pass as since on the next request
+     * @param fullSyncRequired whether the changes since the given token are unknown and the client must reload everything
+     * @param hasMore whether more changes follow; request again with the new token right away
+     * @param platforms changed platforms with their current courses
+     * @param deletedPlatformIds IDs of deleted platforms
+     * @param courses changed courses
+     * @param deletedCourseIds IDs of deleted courses; their enrollments are gone too
+     * @param enrollments enrollments added
+     * @param removedEnrollments enrollments removed
+     */
+    public ChangesDTO(String token, boolean fullSyncRequired, boolean hasMore, List<PlatformDTO> platforms,
+                      List<Long> deletedPlatformIds, List<CourseDTO> courses, List<Long> deletedCourseIds,
+                      List<EnrollmentDTO> enrollments, List<EnrollmentDTO> removedEnrollments) {
+        this.token = token;
+        this.fullSyncRequired = fullSyncRequired;
+        this.hasMore = hasMore;
+        this.platforms = platforms;
+        this.deletedPlatformIds = deletedPlatformIds;
+        this.courses = courses;
+        this.deletedCourseIds = deletedCourseIds;
+        this.enrollments = enrollments;
+        this.removedEnrollments = removedEnrollments;
+    }
+
+    /** Returns the token to pass as since on the next request. */
+    public String getToken() {
+        return token;
+    }
+
+    /** Sets the token to pass as since on the next request. */
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    /** Returns whether the changes since the given token are unknown and the client must reload everything. */
+    public boolean isFullSyncRequired() {
+        return fullSyncRequired;
+    }
+
+    /** Sets whether the changes since the given token are unknown and the client must reload everything. */
+    public void setFullSyncRequired(boolean fullSyncRequired) {
+        this.fullSyncRequired = fullSyncRequired;
+    }
+
+    /** Returns whether more changes follow; request again with the new token right away. */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    /** Sets whether more changes follow; request again with the new token right away. */
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    /** Returns the changed platforms with their current courses. */
+    public List<PlatformDTO> getPlatforms() {
+        return platforms;
+    }
+
+    /** Sets the changed platforms with their current courses. */
+    public void setPlatforms(List<PlatformDTO> platforms) {
+        this.platforms = platforms;
+    }
+
+    /** Returns the IDs of deleted platforms. */
+    public List<Long> getDeletedPlatformIds() {
+        return deletedPlatformIds;
+    }
+
+    /** Sets the IDs of deleted platforms. */
+    public void setDeletedPlatformIds(List<Long> deletedPlatformIds) {
+        this.deletedPlatformIds = deletedPlatformIds;
+    }
+
+    /** Returns the changed courses. */
+    public List<CourseDTO> getCourses() {
+        return courses;
+    }
+
+    /** Sets the changed courses. */
+    public void setCourses(List<CourseDTO> courses) {
+        this.courses = courses;
+    }
+
+    /** Returns the IDs of deleted courses; their enrollments are gone too. */
+    public List<Long> getDeletedCourseIds() {
+        return deletedCourseIds;
+    }
+
+    /** Sets the IDs of deleted courses; their enrollments are gone too. */
+    public void setDeletedCourseIds(List<Long> deletedCourseIds) {
+        this.deletedCourseIds = deletedCourseIds;
+    }
+
+    /** Returns the enrollments added. */
+    public List<EnrollmentDTO> getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the enrollments added. */
+    public void setEnrollments(List<EnrollmentDTO> enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Returns the enrollments removed. */
+    public List<EnrollmentDTO> getRemovedEnrollments() {
+        return removedEnrollments;
+    }
+
+    /** Sets the enrollments removed. */
+    public void setRemovedEnrollments(List<EnrollmentDTO> removedEnrollments) {
+        this.removedEnrollments = removedEnrollments;
+    }
+}
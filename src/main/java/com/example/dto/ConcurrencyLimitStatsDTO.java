@@ -0,0 +1,96 @@
+package com.example.dto;
+
+/**
+ * DTO exposing the state of an adaptive concurrency limiter.
+ */
+public class ConcurrencyLimitStatsDTO {
+    private String group;
+    private int limit;
+    private int inFlight;
+    private double rttNoLoadMs;
+    private long accepted;
+    private long rejected;
+
+    /** Default constructor */
+    public ConcurrencyLimitStatsDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param group endpoint group name
+     * @param limit current limit
+     * @param inFlight requests in flight
+     * @param rttNoLoadMs no-load latency estimate in milliseconds
+     * @param accepted total admitted requests
+     * @param rejected total rejected requests
+     */
+    public ConcurrencyLimitStatsDTO(String group, int limit, int inFlight, double rttNoLoadMs,
+                                    long accepted, long rejected) {
+        this.group = group;
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.rttNoLoadMs = rttNoLoadMs;
+        this.accepted = accepted;
+        this.rejected = rejected;
+    }
+
+    /** Returns the endpoint group name. */
+    public String getGroup() {
+        return group;
+    }
+
+    /** Sets the endpoint group name. */
+    public void setGroup(String group) {
+        this.group = group;
+    }
+
+    /** Returns the current limit. */
+    public int getLimit() {
+        return limit;
+    }
+
+    /** Sets the current limit. */
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    /** Returns the requests in flight. */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /** Sets the requests in flight. */
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    /** Returns the no-load latency estimate in milliseconds. */
+    public double getRttNoLoadMs() {
+        return rttNoLoadMs;
+    }
+
+    /** Sets the no-load latency estimate in milliseconds. */
+    public void setRttNoLoadMs(double rttNoLoadMs) {
+        this.rttNoLoadMs = rttNoLoadMs;
+    }
+
+    /** Returns the total admitted requests. */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /** Sets the total admitted requests. */
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    /** Returns the total rejected requests. */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /** Sets the total rejected requests. */
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
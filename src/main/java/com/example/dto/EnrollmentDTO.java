@@ -0,0 +1,56 @@
+package com.example.dto;
+
+/**
+ * DTO for one user-course enrollment, as written by the enrollment export.
+ */
+public class EnrollmentDTO {
+    private Long userId;
+    private Long courseId;
+    private Long platformId;
+
+    /** Default constructor */
+    public EnrollmentDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param userId enrolled user ID
+     * @param courseId course ID
+     * @param platformId ID of the platform of the course, or null
+     */
+    public EnrollmentDTO(Long userId, Long courseId, Long platformId) {
+        this.userId = userId;
+        this.courseId = courseId;
+        this.platformId = platformId;
+    }
+
+    /** Returns the enrolled user ID. */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /** Sets the enrolled user ID. */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /** Returns the course ID. */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    /** Sets the course ID. */
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /** Returns the ID of the platform of the course, or null. */
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    /** Sets the ID of the platform of the course, or null. */
+    public void setPlatformId(Long platformId) {
+        this.platformId = platformId;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.dto;
+
+/**
+ * DTO exposing the size and memory footprint of the in-memory enrollment index.
+ */
+public class EnrollmentIndexStatsDTO {
+    private int courses;
+    private int platforms;
+    private long enrollments;
+    private long sizeBytes;
+    private long bytesPerMillionEnrollments;
+    private long buildMillis;
+
+    /** Default constructor */
+    public EnrollmentIndexStatsDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param courses number of indexed courses
+     * @param platforms number of indexed platforms
+     * @param enrollments number of indexed enrollments
+     * @param sizeBytes serialized size of all bitmaps in bytes
+     * @param bytesPerMillionEnrollments bitmap bytes per million enrollments
+     * @param buildMillis duration of the last build in milliseconds
+     */
+    public EnrollmentIndexStatsDTO(int courses, int platforms, long enrollments, long sizeBytes, long bytesPerMillionEnrollments, long buildMillis) {
+        this.courses = courses;
+        this.platforms = platforms;
+        this.enrollments = enrollments;
+        this.sizeBytes = sizeBytes;
+        this.bytesPerMillionEnrollments = bytesPerMillionEnrollments;
+        this.buildMillis = buildMillis;
+    }
+
+    /** Returns the number of indexed courses. */
+    public int getCourses() {
+        return courses;
+    }
+
+    /** Sets the number of indexed courses. */
+    public void setCourses(int courses) {
+        this.courses = courses;
+    }
+
+    /** Returns the number of indexed platforms. */
+    public int getPlatforms() {
+        return platforms;
+    }
+
+    /** Sets the number of indexed platforms. */
+    public void setPlatforms(int platforms) {
+        this.platforms = platforms;
+    }
+
+    /** Returns the number of indexed enrollments. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the number of indexed enrollments. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Returns the serialized size of all bitmaps in bytes. */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /** Sets the serialized size of all bitmaps in bytes. */
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    /** Returns the bitmap bytes per million enrollments. */
+    public long getBytesPerMillionEnrollments() {
+        return bytesPerMillionEnrollments;
+    }
+
+    /** Sets the bitmap bytes per million enrollments. */
+    public void setBytesPerMillionEnrollments(long bytesPerMillionEnrollments) {
+        this.bytesPerMillionEnrollments = bytesPerMillionEnrollments;
+    }
+
+    /** Returns the duration of the last build in milliseconds. */
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    /** Sets the duration of the last build in milliseconds. */
+    public void setBuildMillis(long buildMillis) {
+        this.buildMillis = buildMillis;
+    }
+}
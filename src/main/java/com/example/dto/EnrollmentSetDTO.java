@@ -0,0 +1,71 @@
+package com.example.dto;
+
+import java.util.List;
+
+/**
+ * DTO describing the users resulting from a set operation over course enrollments.
+ */
+public class EnrollmentSetDTO {
+    private String operation;
+    private List<Long> courseIds;
+    private long count;
+    private List<Long> userIds;
+
+    /** Default constructor */
+    public EnrollmentSetDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param operation set operation applied
+     * @param courseIds course IDs combined, in order
+     * @param count number of users in the result
+     * @param userIds first user IDs of the result, in ascending order
+     */
+    public EnrollmentSetDTO(String operation, List<Long> courseIds, long count, List<Long> userIds) {
+        this.operation = operation;
+        this.courseIds = courseIds;
+        this.count = count;
+        this.userIds = userIds;
+    }
+
+    /** Returns the set operation applied. */
+    public String getOperation() {
+        return operation;
+    }
+
+    /** Sets the set operation applied. */
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    /** Returns the course IDs combined, in order. */
+    public List<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    /** Sets the course IDs combined, in order. */
+    public void setCourseIds(List<Long> courseIds) {
+        this.courseIds = courseIds;
+    }
+
+    /** Returns the number of users in the result. */
+    public long getCount() {
+        return count;
+    }
+
+    /** Sets the number of users in the result. */
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    /** Returns the first user IDs of the result, in ascending order. */
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    /** Sets the first user IDs of the result, in ascending order. */
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+}
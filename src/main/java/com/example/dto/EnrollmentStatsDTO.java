@@ -0,0 +1,58 @@
+package com.example.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO exposing the enrollment count of a course or platform.
+ */
+public class EnrollmentStatsDTO {
+    private Long id;
+    private long enrollments;
+    private Instant flushedAt;
+
+    /** Default constructor */
+    public EnrollmentStatsDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param id course or platform ID
+     * @param enrollments number of enrollments, counting a user once per course
+     * @param flushedAt time the counters were last persisted, or null
+     */
+    public EnrollmentStatsDTO(Long id, long enrollments, Instant flushedAt) {
+        this.id = id;
+        this.enrollments = enrollments;
+        this.flushedAt = flushedAt;
+    }
+
+    /** Returns the course or platform ID. */
+    public Long getId() {
+        return id;
+    }
+
+    /** Sets the course or platform ID. */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /** Returns the number of enrollments, counting a user once per course. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the number of enrollments, counting a user once per course. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Returns the time the counters were last persisted, or null. */
+    public Instant getFlushedAt() {
+        return flushedAt;
+    }
+
+    /** Sets the time the counters were last persisted, or null. */
+    public void setFlushedAt(Instant flushedAt) {
+        this.flushedAt = flushedAt;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.dto;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * DTO describing the state of an asynchronously accepted enrollment request.
+ */
+public class EnrollmentStatusDTO {
+
+    /** Lifecycle of an accepted enrollment request. */
+    public enum Status {
+        PENDING,
+        APPLIED,
+        FAILED
+    }
+
+    private String requestId;
+    private Long userId;
+    private Set<Long> courseIds;
+    private Status status;
+    private String message;
+    private String statusUrl;
+    private Instant submittedAt;
+    private Instant completedAt;
+
+    /** Default constructor */
+    public EnrollmentStatusDTO() {}
+
+    /**
+     * Constructor for a freshly accepted request.
+     *
+     * @param requestId generated request ID
+     * @param userId ID of the user to enroll
+     * @param courseIds IDs of the requested courses
+     * @param statusUrl URL where the request status can be polled
+     */
+    public EnrollmentStatusDTO(String requestId, Long userId, Set<Long> courseIds, String statusUrl) {
+        this.requestId = requestId;
+        this.userId = userId;
+        this.courseIds = courseIds;
+        this.statusUrl = statusUrl;
+        this.status = Status.PENDING;
+        this.submittedAt = Instant.now();
+    }
+
+    /** Returns the request ID. */
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /** Sets the request ID. */
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /** Returns the user ID. */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /** Sets the user ID. */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /** Returns the requested course IDs. */
+    public Set<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    /** Sets the requested course IDs. */
+    public void setCourseIds(Set<Long> courseIds) {
+        this.courseIds = courseIds;
+    }
+
+    /** Returns the current status. */
+    public Status getStatus() {
+        return status;
+    }
+
+    /** Sets the current status. */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /** Returns the failure message, if any. */
+    public String getMessage() {
+        return message;
+    }
+
+    /** Sets the failure message. */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /** Returns the URL where the status can be polled. */
+    public String getStatusUrl() {
+        return statusUrl;
+    }
+
+    /** Sets the status URL. */
+    public void setStatusUrl(String statusUrl) {
+        this.statusUrl = statusUrl;
+    }
+
+    /** Returns when the request was accepted. */
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /** Sets when the request was accepted. */
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    /** Returns when the request was applied or failed. */
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    /** Sets when the request was applied or failed. */
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for one change of the platform read model, published on the platform event feed.
+ */
+public class PlatformEventDTO {
+    private String type;
+    private Long platformId;
+    private String name;
+    private List<Long> courseIds;
+    private Instant occurredAt;
+
+    /** Default constructor */
+    public PlatformEventDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param type kind of change, UPDATED or DELETED
+     * @param platformId ID of the changed platform
+     * @param name platform name, null when deleted
+     * @param courseIds IDs of the platform's courses, empty when deleted
+     * @param occurredAt time the document was written or deleted
+     */
+    public PlatformEventDTO(String type, Long platformId, String name, List<Long> courseIds,
+                            Instant occurredAt) {
+        this.type = type;
+        this.platformId = platformId;
+        this.name = name;
+        this.courseIds = courseIds;
+        this.occurredAt = occurredAt;
+    }
+
+    /** Returns the kind of change, UPDATED or DELETED. */
+    public String getType() {
+        return type;
+    }
+
+    /** Sets the kind of change, UPDATED or DELETED. */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /** Returns the ID of the changed platform. */
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    /** Sets the ID of the changed platform. */
+    public void setPlatformId(Long platformId) {
+        this.platformId = platformId;
+    }
+
+    /** Returns the platform name, null when deleted. */
+    public String getName() {
+        return name;
+    }
+
+    /** Sets the platform name, null when deleted. */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /** Returns the IDs of the platform's courses, empty when deleted. */
+    public List<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    /** Sets the IDs of the platform's courses, empty when deleted. */
+    public void setCourseIds(List<Long> courseIds) {
+        this.courseIds = courseIds;
+    }
+
+    /** Returns the time the document was written or deleted. */
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    /** Sets the time the document was written or deleted. */
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
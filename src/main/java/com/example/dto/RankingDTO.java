@@ -0,0 +1,108 @@
+package com.example.dto;
+
+/**
+ * DTO exposing one entry of a course or platform leaderboard.
+ */
+public class RankingDTO {
+    private int rank;
+    private Long id;
+    private String name;
+    private Long platformId;
+    private long enrollments;
+    private long growth;
+    private long error;
+
+    /** Default constructor */
+    public RankingDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param rank one-based position in the leaderboard
+     * @param id course or platform ID
+     * @param name course title or platform name
+     * @param platformId platform of the course, null for platforms
+     * @param enrollments number of enrollments at the last sync
+     * @param growth enrollments gained in the current window (trending: estimated, never below the true gain)
+     * @param error maximum overestimation of growth, 0 unless trending
+     */
+    public RankingDTO(int rank, Long id, String name, Long platformId, long enrollments, long growth, long error) {
+        this.rank = rank;
+        this.id = id;
+        this.name = name;
+        this.platformId = platformId;
+        this.enrollments = enrollments;
+        this.growth = growth;
+        this.error = error;
+    }
+
+    /** Returns the one-based position in the leaderboard. */
+    public int getRank() {
+        return rank;
+    }
+
+    /** Sets the one-based position in the leaderboard. */
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    /** Returns the course or platform ID. */
+    public Long getId() {
+        return id;
+    }
+
+    /** Sets the course or platform ID. */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /** Returns the course title or platform name. */
+    public String getName() {
+        return name;
+    }
+
+    /** Sets the course title or platform name. */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /** Returns the platform of the course, null for platforms. */
+    public Long getPlatformId() {
+        return platformId;
+    }
+
+    /** Sets the platform of the course, null for platforms. */
+    public void setPlatformId(Long platformId) {
+        this.platformId = platformId;
+    }
+
+    /** Returns the number of enrollments at the last sync. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the number of enrollments at the last sync. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    /** Returns the enrollments gained in the current window (trending: estimated, never below the true gain). */
+    public long getGrowth() {
+        return growth;
+    }
+
+    /** Sets the enrollments gained in the current window (trending: estimated, never below the true gain). */
+    public void setGrowth(long growth) {
+        this.growth = growth;
+    }
+
+    /** Returns the maximum overestimation of growth, 0 unless trending. */
+    public long getError() {
+        return error;
+    }
+
+    /** Sets the maximum overestimation of growth, 0 unless trending. */
+    public void setError(long error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO exposing the progress of the read model ID migration.
+ */
+public class ReadModelMigrationDTO {
+    private boolean running;
+    private boolean complete;
+    private long migrated;
+    private long superseded;
+    private long failed;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    /** Default constructor */
+    public ReadModelMigrationDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param running whether the migration job is running
+     * @param complete whether no legacy documents were left on the last pass
+     * @param migrated number of documents rewritten with numeric IDs
+     * @param superseded number of legacy documents dropped because a numeric copy already existed
+     * @param failed number of documents left in place because an ID was not numeric
+     * @param startedAt start time of the last run, or null
+     * @param finishedAt end time of the last run, or null
+     */
+    public ReadModelMigrationDTO(boolean running, boolean complete, long migrated, long superseded, long failed,
+                                 Instant startedAt, Instant finishedAt) {
+        this.running = running;
+        this.complete = complete;
+        this.migrated = migrated;
+        this.superseded = superseded;
+        this.failed = failed;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    /** Returns whether the migration job is running. */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Sets whether the migration job is running. */
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    /** Returns whether no legacy documents were left on the last pass. */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /** Sets whether no legacy documents were left on the last pass. */
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    /** Returns the number of documents rewritten with numeric IDs. */
+    public long getMigrated() {
+        return migrated;
+    }
+
+    /** Sets the number of documents rewritten with numeric IDs. */
+    public void setMigrated(long migrated) {
+        this.migrated = migrated;
+    }
+
+    /** Returns the number of legacy documents dropped because a numeric copy already existed. */
+    public long getSuperseded() {
+        return superseded;
+    }
+
+    /** Sets the number of legacy documents dropped because a numeric copy already existed. */
+    public void setSuperseded(long superseded) {
+        this.superseded = superseded;
+    }
+
+    /** Returns the number of documents left in place because an ID was not numeric. */
+    public long getFailed() {
+        return failed;
+    }
+
+    /** Sets the number of documents left in place because an ID was not numeric. */
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    /** Returns the start time of the last run, or null. */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /** Sets the start time of the last run, or null. */
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /** Returns the end time of the last run, or null. */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /** Sets the end time of the last run, or null. */
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
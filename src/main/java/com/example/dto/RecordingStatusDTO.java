@@ -0,0 +1,111 @@
+package com.example.dto;
+
+import java.time.Instant;
+
+/**
+ * DTO exposing the state of the service's JDK Flight Recorder recording.
+ */
+public class RecordingStatusDTO {
+    private String name;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private long sizeBytes;
+    private long maxAgeSeconds;
+    private long maxSizeBytes;
+
+    /** Default constructor */
+    public RecordingStatusDTO() {}
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param name recording name
+     * @param state recording state (NEW, RUNNING, STOPPED, CLOSED)
+     * @param settings name of the settings the recording was started with
+     * @param startTime when the recording started, or null
+     * @param sizeBytes bytes recorded so far
+     * @param maxAgeSeconds how long recorded data is kept
+     * @param maxSizeBytes maximum size kept on disk
+     */
+    public RecordingStatusDTO(String name, String state, String settings, Instant startTime,
+                              long sizeBytes, long maxAgeSeconds, long maxSizeBytes) {
+        this.name = name;
+        this.state = state;
+        this.settings = settings;
+        this.startTime = startTime;
+        this.sizeBytes = sizeBytes;
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /** Returns the recording name. */
+    public String getName() {
+        return name;
+    }
+
+    /** Sets the recording name. */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /** Returns the recording state. */
+    public String getState() {
+        return state;
+    }
+
+    /** Sets the recording state. */
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    /** Returns the name of the settings the recording was started with. */
+    public String getSettings() {
+        return settings;
+    }
+
+    /** Sets the name of the settings the recording was started with. */
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    /** Returns when the recording started. */
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /** Sets when the recording started. */
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    /** Returns the bytes recorded so far. */
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /** Sets the bytes recorded so far. */
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    /** Returns how long recorded data is kept, in seconds. */
+    public long getMaxAgeSeconds() {
+        return maxAgeSeconds;
+    }
+
+    /** Sets how long recorded data is kept, in seconds. */
+    public void setMaxAgeSeconds(long maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    /** Returns the maximum size kept on disk. */
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    /** Sets the maximum size kept on disk. */
+    public void setMaxSizeBytes(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+}
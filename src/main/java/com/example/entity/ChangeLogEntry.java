@@ -0,0 +1,66 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Entity recording that a platform, course or enrollment changed. The ID is
+ * the change sequence behind delta sync tokens, taken from
+ * {@link ChangeLogSequence} when the recording transaction commits.
+ */
+@Entity
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_changed_at", columnList = "changed_at"))
+public class ChangeLogEntry {
+
+    /** Kind of record that changed. */
+    public enum EntityType {
+        PLATFORM,
+        COURSE,
+        ENROLLMENT
+    }
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    /** Default constructor */
+    public ChangeLogEntry() {}
+
+    /** Returns the change sequence. */
+    public Long getId() {
+        return id;
+    }
+
+    /** Returns the kind of record that changed. */
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    /** Returns the platform or course ID; the course ID for enrollments. */
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    /** Returns the user ID of an enrollment, null otherwise. */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /** Returns the time the change was recorded. */
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity holding the single counter row that hands out change log
+ * sequences. Transactions take their sequences from it right before they
+ * commit and hold its row lock until then, so sequences become visible in
+ * commit order.
+ */
+@Entity
+@Table(name = "change_log_sequence")
+public class ChangeLogSequence {
+
+    /** ID of the only row. */
+    public static final int ROW_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    /** Default constructor */
+    public ChangeLogSequence() {}
+
+    /** Returns the row ID. */
+    public Integer getId() {
+        return id;
+    }
+
+    /** Returns the last sequence handed out. */
+    public long getLastId() {
+        return lastId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity holding the persisted enrollment count of a course, maintained
+ * incrementally by the enrollment counters instead of counting the join table.
+ */
+@Entity
+@Table(name = "course_enrollment_counts")
+public class CourseEnrollmentCount {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(nullable = false)
+    private long enrollments;
+
+    /** Default constructor */
+    public CourseEnrollmentCount() {}
+
+    /**
+     * Constructs a count for a course.
+     *
+     * @param courseId Course ID
+     * @param enrollments Number of enrollments
+     */
+    public CourseEnrollmentCount(Long courseId, long enrollments) {
+        this.courseId = courseId;
+        this.enrollments = enrollments;
+    }
+
+    /** Returns the course ID. */
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    /** Sets the course ID. */
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    /** Returns the number of enrollments. */
+    public long getEnrollments() {
+        return enrollments;
+    }
+
+    /** Sets the number of enrollments. */
+    public void setEnrollments(long enrollments) {
+        this.enrollments = enrollments;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.exceptions;
+
+/**
+ * Thrown when a bulkhead lane has no free permit and its wait queue is full
+ * or the maximum wait elapsed.
+ */
+public class BulkheadFullException extends ServiceOverloadedException {
+
+    /**
+     * Constructs the exception.
+     *
+     * @param lane name of the saturated lane
+     */
+    public BulkheadFullException(String lane) {
+        super("Service busy: " + lane + " capacity exhausted", 1);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.exceptions;
+
+/**
+ * Thrown when the adaptive concurrency limit of an endpoint group is reached.
+ */
+public class ConcurrencyLimitExceededException extends ServiceOverloadedException {
+
+    /**
+     * Constructs the exception.
+     *
+     * @param group name of the endpoint group
+     * @param retryAfterSeconds suggested client back-off in seconds
+     */
+    public ConcurrencyLimitExceededException(String group, long retryAfterSeconds) {
+        super("Service overloaded: " + group + " concurrency limit reached", retryAfterSeconds);
+    }
+}
@@ -3,11 +3,13 @@ package com.example.exceptions;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import com.example.response.ResponseClass;
 
@@ -137,6 +140,44 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles rejections from full work queues.
+     *
+     * @param ex the thrown QueueFullException
+     * @return Response with HTTP 429 Too Many Requests status
+     */
+    @ExceptionHandler(QueueFullException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseClass<String> handleQueueFull(QueueFullException ex) {
+        logger.warn("QueueFullException: {}", ex.getMessage());
+        return new ResponseClass<>(
+            HttpStatus.TOO_MANY_REQUESTS,
+            ex.getMessage(),
+            null
+        );
+    }
+
+    /**
+     * Handles requests shed because a protected resource is saturated.
+     *
+     * @param ex the thrown ServiceOverloadedException
+     * @param response current response, used to set the Retry-After header
+     * @return Response with HTTP 503 Service Unavailable status
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseClass<String> handleServiceOverloaded(ServiceOverloadedException ex, HttpServletResponse response) {
+        logger.warn("ServiceOverloadedException: {}", ex.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return new ResponseClass<>(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            ex.getMessage(),
+            null
+        );
+    }
+
     /**
      * Handles illegal state exceptions.
      *
@@ -155,6 +196,17 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles a client disconnecting from a streaming response, e.g. an event
+     * feed subscriber going away. Nothing can be sent anymore.
+     *
+     * @param ex the thrown AsyncRequestNotUsableException
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleClientDisconnected(AsyncRequestNotUsableException ex) {
+        logger.debug("Client disconnected: {}", ex.getMessage());
+    }
+
     /**
      * Handles all uncaught exceptions.
      *
@@ -0,0 +1,16 @@
+package com.example.exceptions;
+
+/**
+ * Thrown when a bounded work queue cannot accept more requests.
+ */
+public class QueueFullException extends RuntimeException {
+
+    /**
+     * Constructs the exception with a message.
+     *
+     * @param message description of the rejected work
+     */
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.exceptions;
+
+/**
+ * Thrown when a request is shed because a protected resource is saturated.
+ * Mapped to HTTP 503 with a {@code Retry-After} header.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs the exception.
+     *
+     * @param message description of the saturated resource
+     * @param retryAfterSeconds suggested client back-off in seconds
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /** Returns the suggested client back-off in seconds. */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, in-memory log of the most recent events, numbered by a gap-free
+ * sequence starting at 1.
+ * <p>
+ * Readers keep the sequence of the last event they consumed and ask for the
+ * events after it; once an event has been overwritten by newer ones, readers
+ * behind it are told they missed events rather than silently skipping them.
+ * Thread-safe; guarded by a {@link ReentrantLock} so virtual threads do not
+ * pin their carrier.
+ * </p>
+ *
+ * @param <E> event type
+ */
+public class EventLog<E> {
+
+    private final Object[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long latest;
+
+    /**
+     * Creates an empty log.
+     *
+     * @param capacity number of most recent events retained
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public EventLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.ring = new Object[capacity];
+    }
+
+    /**
+     * Appends an event.
+     *
+     * @param factory creates the event from its sequence
+     * @return the appended event
+     */
+    public E append(LongFunction<E> factory) {
+        lock.lock();
+        try {
+            long sequence = latest + 1;
+            E event = factory.apply(sequence);
+            ring[index(sequence)] = event;
+            latest = sequence;
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns the sequence of the latest event, 0 if none was appended. */
+    public long latest() {
+        lock.lock();
+        try {
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the events following a sequence.
+     *
+     * @param sequence sequence of the last event consumed, 0 for none
+     * @param max maximum number of events returned
+     * @return events in sequence order, possibly empty; null if events after
+     *         {@code sequence} were already overwritten or {@code sequence}
+     *         was never reached
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> after(long sequence, int max) {
+        lock.lock();
+        try {
+            if (sequence < oldest() - 1 || sequence > latest) {
+                return null;
+            }
+            long last = Math.min(latest, sequence + max);
+            List<E> events = new ArrayList<>((int) (last - sequence));
+            for (long s = sequence + 1; s <= last; s++) {
+                events.add((E) ring[index(s)]);
+            }
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence of the newest retained event matching a predicate.
+     *
+     * @param matcher test applied from the newest event to the oldest
+     * @return sequence of the matching event, -1 if none is retained
+     */
+    @SuppressWarnings("unchecked")
+    public long find(Predicate<E> matcher) {
+        lock.lock();
+        try {
+            for (long s = latest; s >= oldest(); s--) {
+                if (matcher.test((E) ring[index(s)])) return s;
+            }
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long oldest() {
+        return Math.max(1, latest - ring.length + 1);
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
@@ -0,0 +1,408 @@
+package com.example.feed;
+
+// DTOs
+import com.example.dto.PlatformEventDTO;
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+// Exceptions
+import com.example.exceptions.ServiceOverloadedException;
+
+// Lifecycle annotations
+import jakarta.annotation.PreDestroy;
+
+// MongoDB driver
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, MongoDB, task execution and SSE
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Change feed of the platform read model, served as Server-Sent Events.
+ * <p>
+ * One dispatcher per instance follows a MongoDB change stream on the
+ * {@code platforms} collection, so subscribers see every document written or
+ * deleted by any instance. Event IDs are the stream's resume tokens, which are
+ * the same on every instance; the last {@code app.platform-events.buffer-size}
+ * events are kept in an {@link EventLog}, so a client reconnecting with
+ * {@code Last-Event-ID} to any instance receives the events it missed, or a
+ * {@code reset} event telling it to reload everything when they are no longer
+ * buffered.
+ * </p>
+ * <p>
+ * The dispatcher queues each event for the matching subscribers. A queue is
+ * sent by a short task on the sync executor only when it holds events, so
+ * idle subscribers hold no thread and a slow client only delays itself. A
+ * subscriber falling {@value #QUEUE_CAPACITY} events behind gets a
+ * {@code reset} instead of the backlog.
+ * </p>
+ */
+@Service
+public class PlatformEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PlatformEventService.class);
+
+    /** Event types. */
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private static final String RESET = "reset";
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final long MAX_RETRY_MS = 300_000;
+
+    /** Codes of change stream errors that resuming cannot recover from. */
+    private static final Set<Integer> HISTORY_LOST = Set.of(280, 286);
+
+    /** A buffered event with its ID, the resume token of the change. */
+    private record Entry(String id, PlatformEventDTO event) {}
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor syncTaskExecutor;
+    private final EventLog<Entry> log;
+    private final long heartbeatMs;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private volatile boolean running = true;
+    private BsonDocument resumeToken;
+
+    /**
+     * Constructor for PlatformEventService.
+     *
+     * @param mongoTemplate template for the platforms collection watched by the dispatcher
+     * @param syncTaskExecutor executor running the dispatcher and the sends to subscribers
+     * @param bufferSize number of most recent events replayable on reconnect
+     * @param heartbeatMs idle time after which a comment keeps the connection open
+     * @param timeoutMs lifetime of a connection; clients reconnect with Last-Event-ID
+     * @param maxSubscribers open connections above which new subscribers are rejected
+     */
+    public PlatformEventService(MongoTemplate mongoTemplate,
+                                @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                                @Value("${app.platform-events.buffer-size:10000}") int bufferSize,
+                                @Value("${app.platform-events.heartbeat-ms:15000}") long heartbeatMs,
+                                @Value("${app.platform-events.timeout-ms:1800000}") long timeoutMs,
+                                @Value("${app.platform-events.max-subscribers:200}") int maxSubscribers) {
+        this.mongoTemplate = mongoTemplate;
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.log = new EventLog<>(bufferSize);
+        this.heartbeatMs = heartbeatMs;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /** Starts the dispatcher. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        syncTaskExecutor.execute(this::dispatchLoop);
+    }
+
+    /** Ends all subscriptions; clients reconnect to another instance or after restart. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    /**
+     * Opens an event stream.
+     *
+     * @param platformIds platforms to receive events for; all if null or empty
+     * @param lastEventId ID of the last event received before reconnecting, or null to start with new events
+     * @return emitter sending the events
+     * @throws ServiceOverloadedException if the maximum number of subscribers is reached
+     */
+    public SseEmitter subscribe(Collection<Long> platformIds, String lastEventId) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new ServiceOverloadedException("Too many platform event subscribers", 5);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Set<Long> filter = platformIds == null ? Set.of() : Set.copyOf(platformIds);
+        Subscription subscription = new Subscription(emitter, filter);
+        emitter.onCompletion(() -> end(subscription));
+        emitter.onTimeout(() -> end(subscription));
+        emitter.onError(e -> end(subscription));
+
+        // Replay and registration happen between two dispatches, so no event is missed or sent twice
+        dispatchLock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long sequence = log.find(entry -> entry.id().equals(lastEventId));
+                List<Entry> missed = sequence < 0 ? null : log.after(sequence, Integer.MAX_VALUE);
+                if (missed == null || missed.size() > QUEUE_CAPACITY) {
+                    subscription.reset(latestId());
+                } else {
+                    missed.forEach(subscription::offer);
+                }
+            }
+            subscriptions.add(subscription);
+        } finally {
+            dispatchLock.unlock();
+        }
+        schedule(subscription);
+        logger.debug("Platform event subscriber added, {} open", subscriptions.size());
+        return emitter;
+    }
+
+    /** Dispatcher body, run until {@link #stop()}; reopens the change stream after failures. */
+    private void dispatchLoop() {
+        long retryMs = heartbeatMs;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openStream()) {
+                logger.info("Following platform changes {}", resumeToken == null ? "from now" : "after the last event");
+                retryMs = heartbeatMs;
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        dispatch(change);
+                    }
+                    resumeToken = cursor.getResumeToken();
+                    heartbeats();
+                }
+            } catch (MongoException e) {
+                if (e instanceof MongoCommandException command && HISTORY_LOST.contains(command.getErrorCode())) {
+                    logger.warn("Platform change stream cannot resume, resetting subscribers: {}", e.getMessage());
+                    resumeToken = null;
+                    resetAll();
+                } else {
+                    logger.error("Platform change stream failed, retrying in {} ms: {}", retryMs, e.getMessage());
+                }
+                try {
+                    Thread.sleep(retryMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                retryMs = Math.min(retryMs * 2, MAX_RETRY_MS);
+            }
+        }
+    }
+
+    /** Opens the change stream, keeping only the fields of the document that events carry. */
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openStream() {
+        List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.in("operationType", "insert", "replace", "update", "delete")),
+                Aggregates.project(Projections.include("operationType", "documentKey", "wallTime",
+                        "fullDocument._id", "fullDocument.name", "fullDocument.courses._id")));
+        var stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(PlatformDocument.class))
+                .watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                // Wakes up often enough for idle subscribers to get their heartbeats on time
+                .maxAwaitTime(Math.max(1, heartbeatMs / 2), TimeUnit.MILLISECONDS);
+        return (resumeToken == null ? stream : stream.resumeAfter(resumeToken)).cursor();
+    }
+
+    private void dispatch(ChangeStreamDocument<Document> change) {
+        BsonValue key = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+        if (key == null || !key.isNumber()) return; // Legacy string-keyed copies
+        Long platformId = key.asNumber().longValue();
+        Instant occurredAt = change.getWallTime() == null ? Instant.now()
+                : Instant.ofEpochMilli(change.getWallTime().getValue());
+
+        PlatformEventDTO event;
+        if (change.getOperationType() == OperationType.DELETE) {
+            event = new PlatformEventDTO(DELETED, platformId, null, List.of(), occurredAt);
+        } else if (change.getFullDocument() == null) {
+            return; // Deleted before the lookup; its delete follows
+        } else {
+            Document document = change.getFullDocument();
+            event = new PlatformEventDTO(UPDATED, platformId, document.getString("name"), courseIds(document),
+                    occurredAt);
+        }
+        publish(new Entry(change.getResumeToken().getString("_data").getValue(), event));
+    }
+
+    private static List<Long> courseIds(Document document) {
+        List<Document> courses = document.getList("courses", Document.class);
+        if (courses == null) return List.of();
+        return courses.stream()
+                .map(course -> course.get("_id"))
+                .filter(Number.class::isInstance)
+                .map(id -> ((Number) id).longValue())
+                .sorted()
+                .toList();
+    }
+
+    private void publish(Entry entry) {
+        List<Subscription> ready = new ArrayList<>();
+        dispatchLock.lock();
+        try {
+            log.append(sequence -> entry);
+            for (Subscription subscription : subscriptions) {
+                if (subscription.offer(entry)) ready.add(subscription);
+            }
+        } finally {
+            dispatchLock.unlock();
+        }
+        ready.forEach(this::schedule);
+        logger.debug("Published platform event {} for platform {}", entry.event().getType(), entry.event().getPlatformId());
+    }
+
+    /** Queues a heartbeat comment for subscribers idle for longer than the heartbeat interval. */
+    private void heartbeats() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscriptions) {
+            if (now - subscription.lastQueued >= heartbeatMs * 1_000_000) {
+                subscription.queue(SseEmitter.event().comment("heartbeat"));
+                schedule(subscription);
+            }
+        }
+    }
+
+    /** Tells every subscriber to reload, after events were lost. */
+    private void resetAll() {
+        dispatchLock.lock();
+        try {
+            subscriptions.forEach(subscription -> subscription.reset(latestId()));
+        } finally {
+            dispatchLock.unlock();
+        }
+        subscriptions.forEach(this::schedule);
+    }
+
+    private String latestId() {
+        List<Entry> latest = log.after(Math.max(0, log.latest() - 1), 1);
+        return latest == null || latest.isEmpty() ? null : latest.get(0).id();
+    }
+
+    /** Starts sending the subscriber's queue unless a send is already running. */
+    private void schedule(Subscription subscription) {
+        if (subscription.hasQueued() && subscription.draining.compareAndSet(false, true)) {
+            syncTaskExecutor.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            while (subscription.active) {
+                SseEventBuilder next = subscription.poll();
+                if (next == null) {
+                    subscription.draining.set(false);
+                    // An event queued after the poll would otherwise wait for the next one
+                    if (!subscription.hasQueued() || !subscription.draining.compareAndSet(false, true)) return;
+                    continue;
+                }
+                subscription.emitter.send(next);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or the emitter timed out
+            logger.debug("Platform event subscriber ended: {}", e.getMessage());
+            subscription.emitter.complete();
+            end(subscription);
+        }
+    }
+
+    private void end(Subscription subscription) {
+        subscription.active = false;
+        subscriptions.remove(subscription);
+    }
+
+    /** An open event stream with its platform filter and the events waiting to be sent. */
+    private static final class Subscription {
+        final SseEmitter emitter;
+        final Set<Long> platformIds;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final ReentrantLock lock = new ReentrantLock();
+        final Deque<SseEventBuilder> pending = new ArrayDeque<>();
+        volatile boolean active = true;
+        volatile long lastQueued = System.nanoTime();
+
+        Subscription(SseEmitter emitter, Set<Long> platformIds) {
+            this.emitter = emitter;
+            this.platformIds = platformIds;
+        }
+
+        /** Queues an event if it matches the filter; a full queue is replaced by a reset. */
+        boolean offer(Entry entry) {
+            PlatformEventDTO event = entry.event();
+            if (!platformIds.isEmpty() && !platformIds.contains(event.getPlatformId())) return false;
+            if (size() >= QUEUE_CAPACITY) {
+                reset(entry.id());
+            } else {
+                queue(SseEmitter.event().id(entry.id()).name(event.getType().toLowerCase(Locale.ROOT))
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+            return true;
+        }
+
+        /** Drops the queued events and queues a reset resuming after the given event. */
+        void reset(String id) {
+            SseEventBuilder reset = SseEmitter.event().name(RESET)
+                    .data("Events since the given ID are no longer available; reload all platforms");
+            lock.lock();
+            try {
+                pending.clear();
+                pending.add(id == null ? reset : reset.id(id));
+            } finally {
+                lock.unlock();
+            }
+            lastQueued = System.nanoTime();
+        }
+
+        void queue(SseEventBuilder event) {
+            lock.lock();
+            try {
+                pending.add(event);
+            } finally {
+                lock.unlock();
+            }
+            lastQueued = System.nanoTime();
+        }
+
+        SseEventBuilder poll() {
+            lock.lock();
+            try {
+                return pending.poll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean hasQueued() {
+            return size() > 0;
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return pending.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
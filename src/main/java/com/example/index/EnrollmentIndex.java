@@ -0,0 +1,374 @@
+package com.example.index;
+
+// RoaringBitmap
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory enrollment graph: a compressed bitmap of user IDs per course and
+ * per platform.
+ * <p>
+ * Membership tests, counts and set operations between courses run against
+ * Roaring bitmaps without touching MySQL or MongoDB. The platform bitmap is
+ * the union of its courses' bitmaps and is maintained incrementally. User IDs
+ * are stored as unsigned 32-bit values, so IDs above {@code 2^32 - 1} are
+ * rejected.
+ * </p>
+ * <p>
+ * All methods are thread-safe: queries share a read lock, updates take the
+ * write lock. The index keeps no per-user state, so replacing a user's
+ * enrollments checks every course bitmap for the user, which costs a few
+ * nanoseconds per course.
+ * </p>
+ */
+public class EnrollmentIndex {
+
+    /** Set operation applied across course bitmaps. */
+    public enum Operation {
+        /** Users enrolled in every listed course. */
+        AND,
+        /** Users enrolled in any listed course. */
+        OR,
+        /** Users enrolled in the first listed course but none of the others. */
+        ANDNOT,
+        /** Users enrolled in an odd number of the listed courses. */
+        XOR
+    }
+
+    private static final long MAX_ID = 0xFFFF_FFFFL;
+
+    private final Map<Long, RoaringBitmap> usersByCourse = new HashMap<>();
+    private final Map<Long, RoaringBitmap> usersByPlatform = new HashMap<>();
+    private final Map<Long, Long> platformByCourse = new HashMap<>();
+    private final Map<Long, Set<Long>> coursesByPlatform = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a single enrollment, e.g. while bulk loading.
+     *
+     * @param userId enrolled user
+     * @param courseId course the user is enrolled in
+     * @param platformId platform of the course, or null if it has none
+     */
+    public void add(long userId, long courseId, Long platformId) {
+        int bit = bit(userId);
+        lock.writeLock().lock();
+        try {
+            assignCourse(courseId, platformId);
+            usersByCourse.computeIfAbsent(courseId, k -> new RoaringBitmap()).add(bit);
+            if (platformId != null) {
+                usersByPlatform.computeIfAbsent(platformId, k -> new RoaringBitmap()).add(bit);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces all enrollments of a user.
+     *
+     * @param userId user whose enrollments changed
+     * @param platformByCourseId the user's courses mapped to their platform (null values for courses without one)
+     */
+    public void replaceUserCourses(long userId, Map<Long, Long> platformByCourseId) {
+        int bit = bit(userId);
+        lock.writeLock().lock();
+        try {
+            Set<Long> leftPlatforms = new HashSet<>();
+            for (Map.Entry<Long, RoaringBitmap> entry : usersByCourse.entrySet()) {
+                Long courseId = entry.getKey();
+                if (!platformByCourseId.containsKey(courseId) && entry.getValue().checkedRemove(bit)) {
+                    Long platformId = platformByCourse.get(courseId);
+                    if (platformId != null) leftPlatforms.add(platformId);
+                }
+            }
+
+            for (Map.Entry<Long, Long> entry : platformByCourseId.entrySet()) {
+                Long courseId = entry.getKey();
+                Long platformId = entry.getValue();
+                assignCourse(courseId, platformId);
+                usersByCourse.computeIfAbsent(courseId, k -> new RoaringBitmap()).add(bit);
+                if (platformId != null) {
+                    usersByPlatform.computeIfAbsent(platformId, k -> new RoaringBitmap()).add(bit);
+                    leftPlatforms.remove(platformId);
+                }
+            }
+
+            // Drop the user from platforms where no remaining course has them
+            for (Long platformId : leftPlatforms) {
+                boolean stillEnrolled = coursesByPlatform.getOrDefault(platformId, Set.of()).stream()
+                        .map(usersByCourse::get)
+                        .anyMatch(users -> users != null && users.contains(bit));
+                RoaringBitmap platformUsers = usersByPlatform.get(platformId);
+                if (!stillEnrolled && platformUsers != null) {
+                    platformUsers.remove(bit);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all enrollments of a user.
+     *
+     * @param userId deleted user
+     */
+    public void removeUser(long userId) {
+        replaceUserCourses(userId, Collections.emptyMap());
+    }
+
+    /**
+     * Moves a course to another platform, or detaches it when the platform is null.
+     *
+     * @param courseId course that moved
+     * @param platformId new platform, or null
+     */
+    public void moveCourse(long courseId, Long platformId) {
+        lock.writeLock().lock();
+        try {
+            assignCourse(courseId, platformId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a course and its enrollments.
+     *
+     * @param courseId deleted course
+     */
+    public void removeCourse(long courseId) {
+        lock.writeLock().lock();
+        try {
+            assignCourse(courseId, null);
+            usersByCourse.remove(courseId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a platform together with its courses, mirroring the cascade
+     * from platforms to courses in SQL.
+     *
+     * @param platformId deleted platform
+     */
+    public void removePlatform(long platformId) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> courses = coursesByPlatform.remove(platformId);
+            if (courses != null) {
+                for (Long courseId : courses) {
+                    platformByCourse.remove(courseId);
+                    usersByCourse.remove(courseId);
+                }
+            }
+            usersByPlatform.remove(platformId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compresses runs of consecutive IDs; worthwhile after a bulk load.
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            usersByCourse.values().forEach(RoaringBitmap::runOptimize);
+            usersByPlatform.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether a user is enrolled in a course.
+     *
+     * @param userId user
+     * @param courseId course
+     * @return true if enrolled
+     */
+    public boolean isEnrolledInCourse(long userId, long courseId) {
+        return contains(usersByCourse, courseId, userId);
+    }
+
+    /**
+     * Returns whether a user is enrolled in any course of a platform.
+     *
+     * @param userId user
+     * @param platformId platform
+     * @return true if enrolled
+     */
+    public boolean isEnrolledInPlatform(long userId, long platformId) {
+        return contains(usersByPlatform, platformId, userId);
+    }
+
+    /**
+     * Returns the number of users enrolled in a course.
+     *
+     * @param courseId course
+     * @return enrolled users, 0 for unknown courses
+     */
+    public long countCourseUsers(long courseId) {
+        return cardinality(usersByCourse, courseId);
+    }
+
+    /**
+     * Returns the number of distinct users enrolled in a platform's courses.
+     *
+     * @param platformId platform
+     * @return enrolled users, 0 for unknown platforms
+     */
+    public long countPlatformUsers(long platformId) {
+        return cardinality(usersByPlatform, platformId);
+    }
+
+    /**
+     * Applies a set operation across course bitmaps. Unknown courses count as empty.
+     *
+     * @param operation operation to apply
+     * @param courseIds courses, in order (the order matters for {@link Operation#ANDNOT})
+     * @return new bitmap of matching user IDs, owned by the caller
+     */
+    public RoaringBitmap combine(Operation operation, List<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return new RoaringBitmap();
+        }
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap[] bitmaps = courseIds.stream()
+                    .map(id -> usersByCourse.getOrDefault(id, new RoaringBitmap()))
+                    .toArray(RoaringBitmap[]::new);
+
+            return switch (operation) {
+                case AND -> FastAggregation.and(bitmaps);
+                case OR -> FastAggregation.or(bitmaps);
+                case XOR -> FastAggregation.xor(bitmaps);
+                case ANDNOT -> RoaringBitmap.andNot(bitmaps[0],
+                        FastAggregation.or(Arrays.copyOfRange(bitmaps, 1, bitmaps.length)));
+            };
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns size figures for the index.
+     *
+     * @return counts and serialized bitmap size
+     */
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long enrollments = 0;
+            long bytes = 0;
+            for (RoaringBitmap users : usersByCourse.values()) {
+                enrollments += users.getLongCardinality();
+                bytes += users.getLongSizeInBytes();
+            }
+            for (RoaringBitmap users : usersByPlatform.values()) {
+                bytes += users.getLongSizeInBytes();
+            }
+            return new Stats(usersByCourse.size(), usersByPlatform.size(), enrollments, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Converts a bitmap entry back to a user ID.
+     *
+     * @param bit value stored in a bitmap
+     * @return user ID
+     */
+    public static long toUserId(int bit) {
+        return Integer.toUnsignedLong(bit);
+    }
+
+    private boolean contains(Map<Long, RoaringBitmap> bitmaps, long key, long userId) {
+        int bit = bit(userId);
+        lock.readLock().lock();
+        try {
+            RoaringBitmap users = bitmaps.get(key);
+            return users != null && users.contains(bit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long cardinality(Map<Long, RoaringBitmap> bitmaps, long key) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap users = bitmaps.get(key);
+            return users == null ? 0 : users.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records the platform of a course, rebuilding the old platform's bitmap if
+     * the course moved. Caller holds the write lock.
+     */
+    private void assignCourse(long courseId, Long platformId) {
+        Long previous = platformByCourse.get(courseId);
+        if (Objects.equals(previous, platformId)) {
+            return;
+        }
+
+        if (previous != null) {
+            Set<Long> siblings = coursesByPlatform.get(previous);
+            siblings.remove(courseId);
+            RoaringBitmap[] remaining = siblings.stream()
+                    .map(usersByCourse::get)
+                    .filter(Objects::nonNull)
+                    .toArray(RoaringBitmap[]::new);
+            usersByPlatform.put(previous, FastAggregation.or(remaining));
+        }
+
+        if (platformId == null) {
+            platformByCourse.remove(courseId);
+            return;
+        }
+        platformByCourse.put(courseId, platformId);
+        coursesByPlatform.computeIfAbsent(platformId, k -> new HashSet<>()).add(courseId);
+        RoaringBitmap users = usersByCourse.get(courseId);
+        if (users != null) {
+            usersByPlatform.computeIfAbsent(platformId, k -> new RoaringBitmap()).or(users);
+        }
+    }
+
+    private static int bit(long userId) {
+        if (userId < 0 || userId > MAX_ID) {
+            throw new IllegalArgumentException("User id out of range for the enrollment index: " + userId);
+        }
+        return (int) userId;
+    }
+
+    /**
+     * Size figures of the index.
+     *
+     * @param courses indexed courses
+     * @param platforms indexed platforms
+     * @param enrollments user-course pairs
+     * @param sizeBytes serialized size of all course and platform bitmaps
+     */
+    public record Stats(int courses, int platforms, long enrollments, long sizeBytes) {
+
+        /**
+         * Returns the bitmap bytes needed per million enrollments.
+         *
+         * @return bytes per million enrollments, 0 when empty
+         */
+        public double bytesPerMillionEnrollments() {
+            return enrollments == 0 ? 0 : sizeBytes * 1_000_000.0 / enrollments;
+        }
+    }
+}
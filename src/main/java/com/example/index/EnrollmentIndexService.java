@@ -0,0 +1,317 @@
+package com.example.index;
+
+// DTOs
+import com.example.dto.EnrollmentIndexStatsDTO;
+import com.example.dto.EnrollmentSetDTO;
+// Entities
+import com.example.entity.Course;
+import com.example.entity.User;
+// Exceptions
+import com.example.exceptions.ServiceOverloadedException;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, JDBC, task execution and transaction synchronization
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Compressed bitmaps
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Owns the {@link EnrollmentIndex}: builds it from the join table in the
+ * background once the application is ready and applies enrollment changes made through the
+ * services after their transaction commits.
+ * <p>
+ * Changes committed while the initial load is running are journaled and
+ * replayed onto the freshly built index before it is published, so no update
+ * is lost to the load. Queries before the index is ready fail with 503.
+ * </p>
+ */
+@Service
+public class EnrollmentIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentIndexService.class);
+
+    private static final String LOAD_SQL =
+            "SELECT uc.user_id, uc.course_id, c.platform_id FROM user_course uc JOIN courses c ON c.id = uc.course_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor syncTaskExecutor;
+    private final boolean enabled;
+    private final int fetchSize;
+
+    private final List<Consumer<EnrollmentIndex>> journal = new ArrayList<>();
+    private EnrollmentIndex index;
+    private boolean loading;
+    private volatile long buildMillis;
+
+    /**
+     * Constructor for EnrollmentIndexService.
+     *
+     * @param jdbcTemplate template used for the initial load
+     * @param syncTaskExecutor executor running the initial load
+     * @param enabled whether to maintain the index at all
+     * @param fetchSize rows fetched per round trip during the initial load (MySQL streams row by row instead)
+     */
+    public EnrollmentIndexService(JdbcTemplate jdbcTemplate,
+                                  @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                                  @Value("${app.enrollment-index.enabled:true}") boolean enabled,
+                                  @Value("${app.enrollment-index.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+    }
+
+    /** Starts the initial load without holding up application readiness. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!enabled) return;
+        syncTaskExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                logger.error("Enrollment index build failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /** Builds the index from the join table. */
+    public void rebuild() {
+        if (!enabled) return;
+        synchronized (this) {
+            if (loading) return;
+            loading = true;
+        }
+
+        long start = System.nanoTime();
+        EnrollmentIndex built = new EnrollmentIndex();
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(LOAD_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                boolean mysql = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+                ps.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+                return ps;
+            }, rs -> {
+                // Courses without a platform have a NULL platform_id
+                built.add(rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class));
+            });
+            built.optimize();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loading = false;
+                journal.clear();
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            journal.forEach(change -> change.accept(built));
+            journal.clear();
+            index = built;
+            loading = false;
+        }
+        buildMillis = (System.nanoTime() - start) / 1_000_000;
+
+        EnrollmentIndex.Stats stats = built.stats();
+        logger.info("Enrollment index built in {} ms: {} enrollments, {} bytes ({} bytes per million enrollments)",
+                buildMillis, stats.enrollments(), stats.sizeBytes(), Math.round(stats.bytesPerMillionEnrollments()));
+    }
+
+    /**
+     * Records that a user's enrollments were replaced; applied after commit.
+     *
+     * @param user user with its current courses
+     */
+    public void userCoursesChanged(User user) {
+        Long userId = user.getId();
+        Map<Long, Long> platformByCourseId = new HashMap<>();
+        if (user.getCourses() != null) {
+            for (Course course : user.getCourses()) {
+                platformByCourseId.put(course.getId(), course.getPlatform() == null ? null : course.getPlatform().getId());
+            }
+        }
+        afterCommit(index -> index.replaceUserCourses(userId, platformByCourseId));
+    }
+
+    /**
+     * Records that a user was deleted; applied after commit.
+     *
+     * @param userId deleted user
+     */
+    public void userDeleted(Long userId) {
+        afterCommit(index -> index.removeUser(userId));
+    }
+
+    /**
+     * Records that courses now belong to a platform; applied after commit.
+     *
+     * @param platformId platform the courses belong to
+     * @param courseIds the platform's courses
+     */
+    public void coursesAssigned(Long platformId, Collection<Long> courseIds) {
+        List<Long> ids = List.copyOf(courseIds);
+        afterCommit(index -> ids.forEach(courseId -> index.moveCourse(courseId, platformId)));
+    }
+
+    /**
+     * Records that a course was deleted; applied after commit.
+     *
+     * @param courseId deleted course
+     */
+    public void courseDeleted(Long courseId) {
+        afterCommit(index -> index.removeCourse(courseId));
+    }
+
+    /**
+     * Records that a platform was deleted; applied after commit.
+     *
+     * @param platformId deleted platform
+     */
+    public void platformDeleted(Long platformId) {
+        afterCommit(index -> index.removePlatform(platformId));
+    }
+
+    /**
+     * Returns the index for queries.
+     *
+     * @return the built index
+     * @throws ServiceOverloadedException if the index is disabled or still loading
+     */
+    public EnrollmentIndex getIndex() {
+        EnrollmentIndex current;
+        synchronized (this) {
+            current = index;
+        }
+        if (current == null) {
+            throw new ServiceOverloadedException("Enrollment index is not available", 5);
+        }
+        return current;
+    }
+
+    /**
+     * Returns the size and memory footprint of the index.
+     *
+     * @return index statistics
+     * @throws ServiceOverloadedException if the index is not available
+     */
+    public EnrollmentIndexStatsDTO getStats() {
+        EnrollmentIndex.Stats stats = getIndex().stats();
+        return new EnrollmentIndexStatsDTO(stats.courses(), stats.platforms(), stats.enrollments(),
+                stats.sizeBytes(), Math.round(stats.bytesPerMillionEnrollments()), buildMillis);
+    }
+
+    /**
+     * Checks whether a user is enrolled in a course, or in any course of a platform.
+     *
+     * @param userId user to check
+     * @param courseId course to check, or null
+     * @param platformId platform to check, or null
+     * @return whether the user is enrolled
+     * @throws IllegalArgumentException unless exactly one of courseId and platformId is given
+     */
+    public boolean isEnrolled(Long userId, Long courseId, Long platformId) {
+        requireOneTarget(courseId, platformId);
+        EnrollmentIndex current = getIndex();
+        return courseId != null
+                ? current.isEnrolledInCourse(userId, courseId)
+                : current.isEnrolledInPlatform(userId, platformId);
+    }
+
+    /**
+     * Counts the users enrolled in a course, or in any course of a platform.
+     *
+     * @param courseId course to count, or null
+     * @param platformId platform to count, or null
+     * @return number of distinct users
+     * @throws IllegalArgumentException unless exactly one of courseId and platformId is given
+     */
+    public long countUsers(Long courseId, Long platformId) {
+        requireOneTarget(courseId, platformId);
+        EnrollmentIndex current = getIndex();
+        return courseId != null ? current.countCourseUsers(courseId) : current.countPlatformUsers(platformId);
+    }
+
+    /**
+     * Combines the enrollments of several courses with a set operation.
+     *
+     * @param operation AND, OR, ANDNOT (first minus the rest) or XOR
+     * @param courseIds courses to combine, in order
+     * @param limit maximum number of user IDs to return
+     * @return result count and its first user IDs
+     * @throws IllegalArgumentException if the operation is unknown or no course is given
+     */
+    public EnrollmentSetDTO combine(String operation, List<Long> courseIds, int limit) {
+        EnrollmentIndex.Operation op;
+        try {
+            op = EnrollmentIndex.Operation.valueOf(operation.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown set operation: " + operation);
+        }
+        if (courseIds == null || courseIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one course ID is required");
+        }
+
+        RoaringBitmap result = getIndex().combine(op, courseIds);
+        List<Long> userIds = new ArrayList<>(Math.max(0, Math.min(limit, result.getCardinality())));
+        IntIterator it = result.getIntIterator();
+        while (it.hasNext() && userIds.size() < limit) {
+            userIds.add(EnrollmentIndex.toUserId(it.next()));
+        }
+        return new EnrollmentSetDTO(op.name(), courseIds, result.getLongCardinality(), userIds);
+    }
+
+    private static void requireOneTarget(Long courseId, Long platformId) {
+        if ((courseId == null) == (platformId == null)) {
+            throw new IllegalArgumentException("Exactly one of courseId and platformId is required");
+        }
+    }
+
+    private void afterCommit(Consumer<EnrollmentIndex> change) {
+        if (!enabled) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<EnrollmentIndex> change) {
+        EnrollmentIndex current;
+        synchronized (this) {
+            if (loading) {
+                journal.add(change);
+                return;
+            }
+            current = index;
+        }
+        if (current != null) {
+            try {
+                change.accept(current);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Enrollment index update skipped: {}", e.getMessage());
+            }
+        }
+    }
+}
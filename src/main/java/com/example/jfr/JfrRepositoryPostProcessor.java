@@ -0,0 +1,59 @@
+package com.example.jfr;
+
+// Endpoint attribution
+import com.example.metrics.EndpointTags;
+
+// AOP Alliance
+import org.aopalliance.intercept.MethodInterceptor;
+
+// Spring bean post-processing, stereotype and Spring Data
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds an interceptor to every Spring Data repository that wraps each method
+ * call in a {@link RepositoryCallEvent}.
+ * <p>
+ * The interceptor is attached through the repository factory, the same hook
+ * Spring Boot uses for its repository metrics, so inherited methods such as
+ * {@code findAll} are covered too. While no recording has the event enabled,
+ * the cost is the event's enabled check.
+ * </p>
+ */
+@Component
+public class JfrRepositoryPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            interceptor(information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor interceptor(String repository) {
+        return invocation -> {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            event.begin();
+            String exception = null;
+            try {
+                return invocation.proceed();
+            } catch (Throwable t) {
+                exception = t.getClass().getSimpleName();
+                throw t;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.endpoint = EndpointTags.currentEndpoint();
+                    event.exception = exception;
+                    event.commit();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.jfr;
+
+// JDK Flight Recorder
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a bulk mapping between entities, read-model
+ * documents and DTOs.
+ * <p>
+ * Usage: {@code MappingEvent event = MappingEvent.start();} before the
+ * mapping and {@code event.finish("PlatformMapper.toUserDTOs", items)} after it.
+ * </p>
+ */
+@Name(MappingEvent.NAME)
+@Label("DTO Mapping")
+@Category({"Demo", "Mapping"})
+@Description("Conversion between entities, documents and DTOs")
+@StackTrace(false)
+public class MappingEvent extends Event {
+
+    /** Event type name. */
+    public static final String NAME = "com.example.Mapping";
+
+    @Label("Mapping")
+    String mapping;
+
+    @Label("Items")
+    int items;
+
+    /**
+     * Starts timing a mapping.
+     *
+     * @return the started event
+     */
+    public static MappingEvent start() {
+        MappingEvent event = new MappingEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends timing and commits the event if it passes the recording's settings.
+     *
+     * @param mapping name of the mapping, e.g. {@code PlatformMapper.toUserDTOs}
+     * @param items number of items produced
+     */
+    public void finish(String mapping, int items) {
+        end();
+        if (shouldCommit()) {
+            this.mapping = mapping;
+            this.items = items;
+            commit();
+        }
+    }
+}
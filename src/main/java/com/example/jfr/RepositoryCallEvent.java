@@ -0,0 +1,36 @@
+package com.example.jfr;
+
+// JDK Flight Recorder
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one Spring Data repository method call, JPA or
+ * MongoDB, registered on every repository by {@link JfrRepositoryPostProcessor}.
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Category({"Demo", "Repository"})
+@Description("Spring Data repository method invocation")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    /** Event type name. */
+    public static final String NAME = "com.example.RepositoryCall";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Exception")
+    String exception;
+}
@@ -0,0 +1,119 @@
+package com.example.jfr;
+
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+import com.example.document.PlatformDocument.CourseEmbed;
+// Endpoint attribution
+import com.example.metrics.EndpointTags;
+
+// JDK Flight Recorder
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering one platform document sync: loading the
+ * enrolled users, building the document and writing it to MongoDB.
+ * <p>
+ * The event in progress is bound to the syncing thread so the Mongo save
+ * listener can add the encoded document size (see
+ * {@link #recordDocumentBytes(int)}). Shape fields are only computed when the
+ * event is going to be committed.
+ * </p>
+ */
+@Name(SyncEvent.NAME)
+@Label("Platform Sync")
+@Category({"Demo", "Sync"})
+@Description("Rebuild and write of a platform read-model document")
+@StackTrace(false)
+public class SyncEvent extends Event {
+
+    /** Event type name. */
+    public static final String NAME = "com.example.PlatformSync";
+
+    private static final ThreadLocal<SyncEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Platform Id")
+    long platformId;
+
+    @Label("Courses")
+    int courseCount;
+
+    @Label("Enrollments")
+    long enrollmentCount;
+
+    @Label("Document Size")
+    @DataAmount
+    long documentBytes;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Starts timing a sync on the current thread.
+     *
+     * @param platformId platform being synced
+     * @return the started event
+     */
+    public static SyncEvent start(Long platformId) {
+        SyncEvent event = new SyncEvent();
+        event.platformId = platformId == null ? -1 : platformId;
+        event.begin();
+        if (event.isEnabled()) {
+            CURRENT.set(event);
+        }
+        return event;
+    }
+
+    /**
+     * Returns whether the current thread runs a sync whose event is being recorded.
+     *
+     * @return true if {@link #recordDocumentBytes(int)} would be kept
+     */
+    public static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Adds the encoded size of the document being written by the current thread's sync, if any.
+     *
+     * @param bytes encoded BSON size
+     */
+    public static void recordDocumentBytes(int bytes) {
+        SyncEvent event = CURRENT.get();
+        if (event != null) {
+            event.documentBytes = bytes;
+        }
+    }
+
+    /**
+     * Ends timing and commits the event if it passes the recording's settings.
+     *
+     * @param document document that was written, or null if the sync failed before building it
+     * @param success whether the sync completed
+     */
+    public void finish(PlatformDocument document, boolean success) {
+        CURRENT.remove();
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        if (document != null && document.getCourses() != null) {
+            for (CourseEmbed course : document.getCourses()) {
+                courseCount++;
+                enrollmentCount += course.countEnrollments();
+            }
+        }
+        this.endpoint = EndpointTags.currentEndpoint();
+        this.success = success;
+        commit();
+    }
+}
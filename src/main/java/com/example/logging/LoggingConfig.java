@@ -0,0 +1,57 @@
+package com.example.logging;
+
+// datasource-proxy
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+// Spring annotations and Boot configuration
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Request and SQL logging.
+ * <p>
+ * Appenders, the async queue and the text/JSON layout are configured in
+ * {@code logback-spring.xml}; this class only registers the producers of the
+ * sampled request log ({@code app.logging.request.*}) and the slow query log
+ * ({@code app.logging.slow-query.*}).
+ * </p>
+ */
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * Sampled request log. Ordered just after the Server-Timing filter so the
+     * request's timing breakdown is still bound when the event is written.
+     *
+     * @param sampleRate fraction of successful requests to log
+     * @return filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.logging.request", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestLogFilter> requestLogFilter(
+            @Value("${app.logging.request.sample-rate:1.0}") double sampleRate) {
+        FilterRegistrationBean<RequestLogFilter> registration =
+                new FilterRegistrationBean<>(new RequestLogFilter(sampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /**
+     * Slow query log; picked up by the datasource proxy (see
+     * {@link com.example.config.DataSourceProxyConfig}). A threshold of 0 or less disables it.
+     *
+     * @param thresholdMs statements taking at least this long are logged
+     * @return query listener
+     */
+    @Bean
+    @ConditionalOnExpression("${app.logging.slow-query.threshold-ms:200} > 0")
+    public QueryExecutionListener slowQueryLogListener(
+            @Value("${app.logging.slow-query.threshold-ms:200}") long thresholdMs) {
+        return new SlowQueryLogListener(thresholdMs);
+    }
+}
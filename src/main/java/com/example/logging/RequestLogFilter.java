@@ -0,0 +1,100 @@
+package com.example.logging;
+
+// Project-specific imports
+import com.example.timing.RequestTiming;
+
+// Jakarta Servlet
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Web
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one structured log event per sampled request, replacing the
+ * per-call INFO lines as the record of request traffic.
+ * <p>
+ * Fields are attached as SLF4J key/value pairs, so they become top-level
+ * JSON properties with structured logging and are appended to the message
+ * in the plain-text layout. Requests failing with a 5xx status, or with an
+ * exception that escapes the filter chain (logged as 500), are always logged; others are kept with probability {@code sampleRate}. The sampling
+ * decision is made after the level check, so a disabled logger costs nothing.
+ * </p>
+ */
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    /** Logger name of the request log, so it can be levelled independently. */
+    public static final String LOGGER_NAME = "http.request";
+
+    private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double sampleRate;
+
+    /**
+     * Constructor for RequestLogFilter.
+     *
+     * @param sampleRate fraction of successful requests to log, between 0 and 1
+     */
+    public RequestLogFilter(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException e) {
+            // The response still reads 200 here; the container sends a 500 once the exception leaves the filters
+            if (logger.isInfoEnabled()) {
+                log(request, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, System.nanoTime() - start, e);
+            }
+            throw e;
+        }
+        int status = response.getStatus();
+        if (logger.isInfoEnabled() && (status >= 500 || sampled())) {
+            log(request, status, System.nanoTime() - start, null);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void log(HttpServletRequest request, int status, long elapsedNanos, Exception failure) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var event = logger.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("endpoint", pattern == null ? "none" : pattern)
+                .addKeyValue("status", status)
+                .addKeyValue("duration_ms", elapsedNanos / 1_000_000);
+
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            event = event.addKeyValue("db_count", timing.getJdbcCount())
+                    .addKeyValue("db_ms", timing.getJdbcNanos() / 1_000_000)
+                    .addKeyValue("mongo_count", timing.getMongoCount())
+                    .addKeyValue("mongo_ms", timing.getMongoNanos() / 1_000_000);
+        }
+        if (failure != null) {
+            event = event.addKeyValue("exception", failure.getClass().getName());
+        }
+        if (sampleRate < 1.0) {
+            event = event.addKeyValue("sample_rate", sampleRate);
+        }
+
+        event.log("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status, elapsedNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.logging;
+
+// datasource-proxy
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Logs JDBC statements that took at least the configured threshold, taking
+ * the place of {@code spring.jpa.show-sql}.
+ * <p>
+ * The check runs after the statement completes using the elapsed time
+ * datasource-proxy already measured, so fast statements cost a single
+ * comparison. Bind parameters are not logged.
+ * </p>
+ */
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    /** Logger name of the slow query log, so it can be levelled independently. */
+    public static final String LOGGER_NAME = "sql.slow";
+
+    private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final long thresholdMs;
+
+    /**
+     * Constructor for SlowQueryLogListener.
+     *
+     * @param thresholdMs statements taking at least this long are logged
+     */
+    public SlowQueryLogListener(long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Timing is measured by the proxy itself
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMs = execInfo.getElapsedTime();
+        if (elapsedMs < thresholdMs || !logger.isWarnEnabled()) {
+            return;
+        }
+
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        logger.atWarn()
+                .addKeyValue("duration_ms", elapsedMs)
+                .addKeyValue("statement_type", execInfo.getStatementType())
+                .addKeyValue("batch", execInfo.isBatch())
+                .addKeyValue("batch_size", execInfo.getBatchSize())
+                .addKeyValue("success", execInfo.isSuccess())
+                .log("Slow query {}ms: {}", elapsedMs, sql);
+    }
+}
@@ -3,24 +3,31 @@ package com.example.mapper;
 // DTO imports
 import com.example.dto.CourseDTO;
 import com.example.dto.PlatformDTO;
+import com.example.dto.UserDTO;
 
 // Document imports (MongoDB)
+import com.example.document.EnrollmentBucketDocument;
 import com.example.document.PlatformDocument;
 import com.example.document.PlatformDocument.CourseEmbed;
+import com.example.document.PlatformDocument.UserEmbed;
 
 // Entity imports (JPA)
 import com.example.entity.Course;
 import com.example.entity.Platform;
+import com.example.entity.User;
+
+// Flight Recorder event
+import com.example.jfr.MappingEvent;
 
 // Java Collections
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Utility class for mapping between {@link Platform} entity, {@link PlatformDTO} and {@link PlatformDocument}.
  * <p>
  * Provides static methods to convert Platform objects between different layers.
+ * The document-level conversions are recorded as {@link MappingEvent}s when
+ * Flight Recorder is running.
  * </p>
  */
 public class PlatformMapper {
@@ -67,17 +74,267 @@ public class PlatformMapper {
         List<CourseEmbed> courses = platformDoc.getCourses();
         if (courses != null && !courses.isEmpty()) {
             courseDTOs = courses.stream()
-                .map(embed -> new CourseDTO(parseId(embed.getId()), embed.getTitle()))
+                .map(embed -> new CourseDTO(embed.getId(), embed.getTitle()))
                 .toList();
         }
 
         return new PlatformDTO(
-            parseId(platformDoc.getId()),
+            platformDoc.getId(),
             platformDoc.getName(),
             courseDTOs
         );
     }
 
+    /**
+     * Builds the {@link PlatformDocument} for a platform in the current schema
+     * version: each enrolled user once in the platform's user table, and each
+     * course with the IDs of its users.
+     *
+     * @param platform the Platform entity with its courses
+     * @param users    users enrolled in at least one of the platform's courses
+     * @return the PlatformDocument keyed by the platform ID
+     */
+    public static PlatformDocument toDocument(Platform platform, Collection<User> users) {
+        MappingEvent event = MappingEvent.start();
+        PlatformDocument doc = buildDocument(platform, users);
+        event.finish("PlatformMapper.toDocument", users.size());
+        return doc;
+    }
+
+    private static PlatformDocument buildDocument(Platform platform, Collection<User> users) {
+        Set<Course> courses = platform.getCourses() != null ? platform.getCourses() : Collections.emptySet();
+
+        Set<Long> courseIds = new HashSet<>();
+        for (Course course : courses) {
+            courseIds.add(course.getId());
+        }
+
+        // Store each enrolled user once and map each course ID to the IDs of its users
+        List<UserEmbed> userTable = new ArrayList<>(users.size());
+        Map<Long, List<Long>> userIdsByCourseId = new HashMap<>();
+        for (User user : users) {
+            boolean enrolled = false;
+            for (Course course : user.getCourses()) {
+                Long cId = course.getId();
+                if (courseIds.contains(cId)) {
+                    userIdsByCourseId.computeIfAbsent(cId, k -> new ArrayList<>()).add(user.getId());
+                    enrolled = true;
+                }
+            }
+            if (enrolled) {
+                userTable.add(new UserEmbed(user.getId(), user.getName(), user.getEmail()));
+            }
+        }
+
+        List<CourseEmbed> courseEmbeds = courses.stream()
+                .map(course -> {
+                    CourseEmbed embed = new CourseEmbed(course.getId(), course.getTitle());
+                    embed.setUserIds(userIdsByCourseId.getOrDefault(course.getId(), Collections.emptyList()));
+                    return embed;
+                })
+                .toList();
+
+        PlatformDocument doc = new PlatformDocument(platform.getName(), userTable, courseEmbeds);
+        doc.setId(platform.getId());
+        return doc;
+    }
+
+    /**
+     * Builds the bucketed {@link PlatformDocument} for a platform: courses with
+     * their enrollment counts, no users. The enrollments go into the buckets
+     * built by {@link #toBuckets}.
+     *
+     * @param platform  the Platform entity with its courses
+     * @param users     users enrolled in at least one of the platform's courses
+     * @param syncStamp stamp of the buckets the document reads from
+     * @return the PlatformDocument keyed by the platform ID
+     */
+    public static PlatformDocument toBucketedDocument(Platform platform, Collection<User> users, long syncStamp) {
+        MappingEvent event = MappingEvent.start();
+        Map<Course, List<UserEmbed>> usersByCourse = usersByCourse(platform, users);
+
+        long enrollments = 0;
+        List<CourseEmbed> courseEmbeds = new ArrayList<>(usersByCourse.size());
+        for (Map.Entry<Course, List<UserEmbed>> entry : usersByCourse.entrySet()) {
+            CourseEmbed embed = new CourseEmbed(entry.getKey().getId(), entry.getKey().getTitle());
+            embed.setEnrollmentCount(entry.getValue().size());
+            enrollments += entry.getValue().size();
+            courseEmbeds.add(embed);
+        }
+
+        PlatformDocument doc = new PlatformDocument(platform.getName(), null, courseEmbeds);
+        doc.setId(platform.getId());
+        doc.setBucketed(true);
+        doc.setBucketStamp(syncStamp);
+        doc.setUserCount((long) users.size());
+        doc.setEnrollmentCount(enrollments);
+        event.finish("PlatformMapper.toBucketedDocument", users.size());
+        return doc;
+    }
+
+    /**
+     * Splits a platform's enrollments into fixed-size buckets per course.
+     *
+     * @param platform   the Platform entity with its courses
+     * @param users      users enrolled in at least one of the platform's courses
+     * @param bucketSize maximum number of users per bucket
+     * @param syncStamp  stamp identifying the sync writing the buckets
+     * @return buckets of all courses that have enrollments
+     */
+    public static List<EnrollmentBucketDocument> toBuckets(Platform platform, Collection<User> users,
+                                                           int bucketSize, long syncStamp) {
+        MappingEvent event = MappingEvent.start();
+        List<EnrollmentBucketDocument> buckets = new ArrayList<>();
+        for (Map.Entry<Course, List<UserEmbed>> entry : usersByCourse(platform, users).entrySet()) {
+            List<UserEmbed> enrolled = entry.getValue();
+            for (int from = 0, bucketNo = 0; from < enrolled.size(); from += bucketSize, bucketNo++) {
+                buckets.add(new EnrollmentBucketDocument(platform.getId(), entry.getKey().getId(), bucketNo,
+                        syncStamp, enrolled.subList(from, Math.min(from + bucketSize, enrolled.size()))));
+            }
+        }
+        event.finish("PlatformMapper.toBuckets", users.size());
+        return buckets;
+    }
+
+    /**
+     * Extracts the distinct users from a platform's enrollment buckets, each
+     * with the IDs of the platform courses they are enrolled in.
+     *
+     * @param buckets all buckets of one platform
+     * @return list of UserDTOs in order of first appearance
+     */
+    public static List<UserDTO> toUserDTOs(Iterable<EnrollmentBucketDocument> buckets) {
+        MappingEvent event = MappingEvent.start();
+        Map<Long, UserDTO> uniqueUsers = new LinkedHashMap<>();
+        for (EnrollmentBucketDocument bucket : buckets) {
+            if (bucket.getUsers() == null) continue;
+            for (UserEmbed u : bucket.getUsers()) {
+                uniqueUsers.computeIfAbsent(u.getId(),
+                                id -> new UserDTO(id, u.getName(), u.getEmail(), new HashSet<>()))
+                        .getCourseIds().add(bucket.getCourseId());
+            }
+        }
+        List<UserDTO> users = new ArrayList<>(uniqueUsers.values());
+        event.finish("PlatformMapper.toUserDTOs", users.size());
+        return users;
+    }
+
+    /** Groups the platform's enrolled users by course, in course order. */
+    private static Map<Course, List<UserEmbed>> usersByCourse(Platform platform, Collection<User> users) {
+        Set<Course> courses = platform.getCourses() != null ? platform.getCourses() : Collections.emptySet();
+
+        Map<Long, List<UserEmbed>> usersByCourseId = new HashMap<>();
+        for (Course course : courses) {
+            usersByCourseId.put(course.getId(), new ArrayList<>());
+        }
+        for (User user : users) {
+            UserEmbed embed = new UserEmbed(user.getId(), user.getName(), user.getEmail());
+            for (Course course : user.getCourses()) {
+                List<UserEmbed> enrolled = usersByCourseId.get(course.getId());
+                if (enrolled != null) {
+                    enrolled.add(embed);
+                }
+            }
+        }
+
+        Map<Course, List<UserEmbed>> result = new LinkedHashMap<>();
+        for (Course course : courses) {
+            result.put(course, usersByCourseId.get(course.getId()));
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the distinct users of a {@link PlatformDocument}, each with the IDs
+     * of the platform courses they are enrolled in.
+     *
+     * @param platformDoc the PlatformDocument to read
+     * @return list of UserDTOs, empty if the document has no courses
+     */
+    public static List<UserDTO> toUserDTOs(PlatformDocument platformDoc) {
+        MappingEvent event = MappingEvent.start();
+        List<UserDTO> users = buildUserDTOs(platformDoc);
+        event.finish("PlatformMapper.toUserDTOs", users.size());
+        return users;
+    }
+
+    private static List<UserDTO> buildUserDTOs(PlatformDocument platformDoc) {
+        List<CourseEmbed> courses = platformDoc.getCourses();
+        if (courses == null || courses.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return platformDoc.hasUserTable() ? fromUserTable(platformDoc) : fromEmbeddedUsers(courses);
+    }
+
+    /** Version 2: users are already distinct; only their course IDs are collected. */
+    private static List<UserDTO> fromUserTable(PlatformDocument platformDoc) {
+        List<UserEmbed> users = platformDoc.getUsers();
+        if (users == null || users.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Set<Long>> userToCourseIds = new HashMap<>();
+        for (CourseEmbed course : platformDoc.getCourses()) {
+            if (course.getUserIds() == null) continue;
+            for (Long userId : course.getUserIds()) {
+                userToCourseIds.computeIfAbsent(userId, k -> new HashSet<>()).add(course.getId());
+            }
+        }
+
+        return users.stream()
+                .map(u -> new UserDTO(
+                        u.getId(),
+                        u.getName(),
+                        u.getEmail(),
+                        userToCourseIds.getOrDefault(u.getId(), Collections.emptySet())
+                )).toList();
+    }
+
+    /** Version 1: users are embedded per course and de-duplicated here. */
+    private static List<UserDTO> fromEmbeddedUsers(List<CourseEmbed> courses) {
+        Map<Long, UserEmbed> uniqueUsers = new LinkedHashMap<>();
+        Map<Long, Set<Long>> userToCourseIds = new HashMap<>();
+
+        for (CourseEmbed course : courses) {
+            List<UserEmbed> enrolledUsers = course.getEnrolledUsers();
+            if (enrolledUsers == null) continue;
+
+            Long courseId = course.getId();
+            for (UserEmbed user : enrolledUsers) {
+                uniqueUsers.putIfAbsent(user.getId(), user);
+                userToCourseIds.computeIfAbsent(user.getId(), k -> new HashSet<>()).add(courseId);
+            }
+        }
+
+        return uniqueUsers.values().stream()
+                .map(u -> new UserDTO(
+                        u.getId(),
+                        u.getName(),
+                        u.getEmail(),
+                        userToCourseIds.get(u.getId())
+                )).toList();
+    }
+
+    /**
+     * Extracts the courses embedded in a {@link PlatformDocument}.
+     *
+     * @param platformDoc the PlatformDocument to read
+     * @return list of CourseDTOs, empty if the document has no courses
+     */
+    public static List<CourseDTO> toCourseDTOs(PlatformDocument platformDoc) {
+        List<CourseEmbed> courses = platformDoc.getCourses();
+        if (courses == null) {
+            return Collections.emptyList();
+        }
+
+        MappingEvent event = MappingEvent.start();
+        List<CourseDTO> courseDTOs = courses.stream()
+                .map(c -> new CourseDTO(c.getId(), c.getTitle()))
+                .toList();
+        event.finish("PlatformMapper.toCourseDTOs", courseDTOs.size());
+        return courseDTOs;
+    }
+
     /**
      * Converts a {@link PlatformDTO} to a {@link Platform} entity.
      *
@@ -97,19 +354,4 @@ public class PlatformMapper {
 
         return platform;
     }
-
-    /**
-     * Parses a String ID to Long.
-     * 
-     * @param idStr the String to parse
-     * @return Long value of idStr or null if parsing fails or idStr is null
-     */
-    private static Long parseId(String idStr) {
-        if (idStr == null) return null;
-        try {
-            return Long.valueOf(idStr);
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
 }
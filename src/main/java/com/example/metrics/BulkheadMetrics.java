@@ -0,0 +1,75 @@
+package com.example.metrics;
+
+// Bulkheads
+import com.example.resilience.Bulkhead;
+import com.example.resilience.BulkheadRegistry;
+// Sync service
+import com.example.sync.PlatformSyncService;
+
+// Micrometer
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// Spring stereotype
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of every bulkhead lane and the platforms awaiting a
+ * sync retry.
+ * <p>
+ * Per lane, tagged with {@code lane}: the gauges {@code app.bulkhead.active},
+ * {@code app.bulkhead.queued} and {@code app.bulkhead.saturation}, and the
+ * counters {@code app.bulkhead.accepted} and {@code app.bulkhead.rejected}.
+ * {@code app.sync.stale.platforms} counts the platforms whose last sync failed.
+ * </p>
+ */
+@Component
+public class BulkheadMetrics implements MeterBinder {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final PlatformSyncService platformSyncService;
+
+    /**
+     * Constructor for BulkheadMetrics.
+     *
+     * @param bulkheadRegistry bulkheads to publish
+     * @param platformSyncService sync service tracking stale platforms
+     */
+    public BulkheadMetrics(BulkheadRegistry bulkheadRegistry, PlatformSyncService platformSyncService) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.platformSyncService = platformSyncService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Bulkhead bulkhead : bulkheadRegistry.getAll()) {
+            Tags tags = Tags.of("lane", bulkhead.getLane().name());
+            Gauge.builder("app.bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .description("Callers holding a bulkhead permit")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("app.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                    .description("Callers waiting for a bulkhead permit")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("app.bulkhead.saturation", bulkhead, Bulkhead::getSaturation)
+                    .description("Share of bulkhead permits in use")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("app.bulkhead.accepted", bulkhead, Bulkhead::getAccepted)
+                    .description("Callers admitted by the bulkhead")
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("app.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                    .description("Callers rejected by the bulkhead")
+                    .tags(tags)
+                    .register(registry);
+        }
+        Gauge.builder("app.sync.stale.platforms", platformSyncService, PlatformSyncService::getStalePlatformCount)
+                .description("Platforms whose last sync failed and awaits a retry")
+                .register(registry);
+    }
+}
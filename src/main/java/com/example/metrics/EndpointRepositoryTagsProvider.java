@@ -0,0 +1,24 @@
+package com.example.metrics;
+
+// Micrometer
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+// Spring Boot Actuator and Spring Data
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the {@code endpoint} tag to Spring Data's per-repository-method timers
+ * ({@code spring.data.repository.invocations}), next to the default
+ * {@code repository}, {@code method}, {@code state} and {@code exception} tags.
+ */
+@Component
+public class EndpointRepositoryTagsProvider extends DefaultRepositoryTagsProvider {
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        return Tags.of(super.repositoryTags(invocation)).and(EndpointTags.endpoint());
+    }
+}
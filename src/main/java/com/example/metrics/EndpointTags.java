@@ -0,0 +1,56 @@
+package com.example.metrics;
+
+// Micrometer
+import io.micrometer.core.instrument.Tag;
+
+// Spring MVC
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Derives the {@code endpoint} metric tag from the request being handled on
+ * the current thread, e.g. {@code GET /api/users/{id}}.
+ * <p>
+ * The matched URI pattern is used rather than the raw path so the tag stays
+ * low-cardinality. Work running outside a request (such as the enrollment
+ * batch consumer) is tagged {@code none}.
+ * </p>
+ */
+public final class EndpointTags {
+
+    /** Tag value used when no request is bound to the current thread. */
+    public static final String NONE = "none";
+
+    private EndpointTags() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns the endpoint tag for the current thread.
+     *
+     * @return tag named {@code endpoint}
+     */
+    public static Tag endpoint() {
+        return Tag.of("endpoint", currentEndpoint());
+    }
+
+    /**
+     * Returns the method and matched URI pattern of the current request.
+     *
+     * @return endpoint such as {@code GET /api/users/{id}}, or {@link #NONE}
+     */
+    public static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NONE;
+        }
+
+        Object pattern = servletAttributes.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return NONE;
+        }
+        return servletAttributes.getRequest().getMethod() + " " + pattern;
+    }
+}
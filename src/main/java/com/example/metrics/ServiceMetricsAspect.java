@@ -0,0 +1,77 @@
+package com.example.metrics;
+
+// AspectJ
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+// Micrometer
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+// Spring stereotype
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the user, course and platform services and of
+ * the platform sync service.
+ * <p>
+ * Publishes {@code app.service.calls} tagged with {@code class}, {@code method},
+ * {@code endpoint} (see {@link EndpointTags}), {@code outcome}
+ * ({@code SUCCESS} or {@code ERROR}) and {@code exception}.
+ * Calls a service makes to its own methods are not proxied and are therefore
+ * counted as part of the outer call.
+ * </p>
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    /** Name of the service timer. */
+    public static final String METRIC_NAME = "app.service.calls";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor for ServiceMetricsAspect.
+     *
+     * @param registry registry the timers are published to
+     */
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records the duration and outcome of a service call.
+     *
+     * @param pjp the intercepted call
+     * @return the call's result
+     * @throws Throwable whatever the call throws, unchanged
+     */
+    @Around("execution(public * com.example.service.UserService.*(..))"
+            + " || execution(public * com.example.service.CourseService.*(..))"
+            + " || execution(public * com.example.service.PlatformService.*(..))"
+            + " || execution(public * com.example.sync.PlatformSyncService.*(..))")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return pjp.proceed();
+        } catch (Throwable t) {
+            outcome = "ERROR";
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Service method calls")
+                    .tags(Tags.of(
+                            "class", pjp.getSignature().getDeclaringType().getSimpleName(),
+                            "method", pjp.getSignature().getName(),
+                            "outcome", outcome,
+                            "exception", exception).and(EndpointTags.endpoint()))
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.metrics;
+
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+import com.example.document.PlatformDocument.CourseEmbed;
+// Flight Recorder event
+import com.example.jfr.SyncEvent;
+
+// Micrometer
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+// BSON
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+
+// Spring annotations and MongoDB events
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records the shape of every platform document written by the sync.
+ * <p>
+ * Publishes histograms of the encoded BSON size ({@code app.sync.document.size}),
+ * the number of embedded courses ({@code app.sync.document.courses}) and the
+ * number of embedded enrollments ({@code app.sync.document.enrollments}), tagged
+ * by the endpoint that triggered the sync. The size is measured by encoding the
+ * converted document once more, which costs roughly as much as the encoding the
+ * driver does for the write, so only a {@code app.sync.document.size-sample-rate}
+ * fraction of writes is measured, plus every write whose {@link SyncEvent} is
+ * being recorded. The size is handed to that event.
+ * </p>
+ */
+@Component
+public class SyncDocumentMetrics extends AbstractMongoEventListener<PlatformDocument> {
+
+    private static final DocumentCodec CODEC = new DocumentCodec();
+
+    private final MeterRegistry registry;
+    private final double sizeSampleRate;
+
+    /**
+     * Constructor for SyncDocumentMetrics.
+     *
+     * @param registry registry the histograms are published to
+     * @param sizeSampleRate fraction of writes whose encoded size is measured, between 0 and 1
+     */
+    public SyncDocumentMetrics(MeterRegistry registry,
+                               @Value("${app.sync.document.size-sample-rate:0.01}") double sizeSampleRate) {
+        this.registry = registry;
+        this.sizeSampleRate = sizeSampleRate;
+    }
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<PlatformDocument> event) {
+        PlatformDocument source = event.getSource();
+        Document document = event.getDocument();
+
+        int courses = 0;
+        long enrollments = 0;
+        if (source.getCourses() != null) {
+            for (CourseEmbed course : source.getCourses()) {
+                courses++;
+                enrollments += course.countEnrollments();
+            }
+        }
+
+        summary("app.sync.document.courses", "Courses embedded per platform document", null, 1, 10_000)
+                .record(courses);
+        summary("app.sync.document.enrollments", "Enrollments embedded per platform document", null, 1, 1_000_000)
+                .record(enrollments);
+        if (document != null && (SyncEvent.isRecording() || sampled())) {
+            int bytes = new RawBsonDocument(document, CODEC).getByteBuffer().remaining();
+            SyncEvent.recordDocumentBytes(bytes);
+            summary("app.sync.document.size", "Encoded size of platform documents", "bytes", 256, 16 * 1024 * 1024)
+                    .record(bytes);
+        }
+    }
+
+    private boolean sampled() {
+        return sizeSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sizeSampleRate;
+    }
+
+    private DistributionSummary summary(String name, String description, String unit, double min, double max) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tags(Tags.of(EndpointTags.endpoint()))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(min)
+                .maximumExpectedValue(max)
+                .register(registry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.repo;
+
+// Entity import
+import com.example.entity.ChangeLogEntry;
+
+// Spring Data JPA imports
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+// Java standard library imports
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for {@link ChangeLogEntry} entity. Entries are
+ * inserted in batches by {@link com.example.changes.ChangeLogService}.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Finds the entries after a sequence, oldest first.
+     *
+     * @param id sequence of the last entry already consumed
+     * @param limit maximum number of entries
+     * @return entries in sequence order
+     */
+    List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Returns the sequence of the oldest retained entry.
+     *
+     * @return lowest ID, or null if the log is empty
+     */
+    @Query("SELECT MIN(c.id) FROM ChangeLogEntry c")
+    Long findMinId();
+
+    /**
+     * Returns the sequence of the newest entry.
+     *
+     * @return highest ID, or null if the log is empty
+     */
+    @Query("SELECT MAX(c.id) FROM ChangeLogEntry c")
+    Long findMaxId();
+
+    /**
+     * Deletes entries recorded before a time.
+     *
+     * @param cutoff entries recorded before this time are deleted
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.changedAt < ?1")
+    int deleteChangedBefore(Instant cutoff);
+}
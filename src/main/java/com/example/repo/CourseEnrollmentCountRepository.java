@@ -0,0 +1,102 @@
+package com.example.repo;
+
+// Entity import
+import com.example.entity.CourseEnrollmentCount;
+
+// Spring Data JPA imports
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+// Java Collections
+import java.util.List;
+
+/**
+ * Repository interface for {@link CourseEnrollmentCount} entity.
+ * <p>
+ * The modifying queries must run inside the caller's transaction.
+ * </p>
+ */
+@Repository
+public interface CourseEnrollmentCountRepository extends JpaRepository<CourseEnrollmentCount, Long> {
+
+    /**
+     * Adds a delta to a course's count.
+     *
+     * @param courseId the course ID
+     * @param delta enrollments added (negative when removed)
+     * @return number of rows updated, 0 if the course has no count yet
+     */
+    @Modifying
+    @Query("UPDATE CourseEnrollmentCount c SET c.enrollments = c.enrollments + ?2 WHERE c.courseId = ?1")
+    int increment(Long courseId, long delta);
+
+    /**
+     * Deletes counts that dropped to zero, e.g. of deleted courses.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM CourseEnrollmentCount c WHERE c.enrollments <= 0")
+    int deleteEmpty();
+
+    /**
+     * Inserts a course's first count, unless the course has been deleted.
+     *
+     * @param courseId the course ID
+     * @param enrollments initial count
+     * @return number of rows inserted, 0 if the course no longer exists
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_enrollment_counts (course_id, enrollments) "
+            + "SELECT id, ?2 FROM courses WHERE id = ?1", nativeQuery = true)
+    int insertIfCourseExists(Long courseId, long enrollments);
+
+    /**
+     * Sets a course's count.
+     *
+     * @param courseId the course ID
+     * @param enrollments new count
+     * @return number of rows updated, 0 if the course has no count yet
+     */
+    @Modifying
+    @Query("UPDATE CourseEnrollmentCount c SET c.enrollments = ?2 WHERE c.courseId = ?1")
+    int setCount(Long courseId, long enrollments);
+
+    /**
+     * Deletes the count of a course.
+     *
+     * @param courseId the course ID
+     */
+    @Modifying
+    @Query("DELETE FROM CourseEnrollmentCount c WHERE c.courseId = ?1")
+    void deleteCount(Long courseId);
+
+    /**
+     * Returns the IDs of all courses that have a count.
+     *
+     * @return course IDs
+     */
+    @Query("SELECT c.courseId FROM CourseEnrollmentCount c")
+    List<Long> findAllCourseIds();
+
+    /**
+     * Counts the enrollments of every course in the join table. A plain read,
+     * so it takes no locks on {@code user_course}.
+     *
+     * @return rows of course ID and enrollment count
+     */
+    @Query(value = "SELECT course_id, COUNT(*) FROM user_course GROUP BY course_id", nativeQuery = true)
+    List<Object[]> countEnrollments();
+
+    /**
+     * Sums the counts of a platform's current courses.
+     *
+     * @param platformId the platform ID
+     * @return enrollment total, 0 if none
+     */
+    @Query("SELECT COALESCE(SUM(e.enrollments), 0) FROM CourseEnrollmentCount e, Course c "
+            + "WHERE c.id = e.courseId AND c.platform.id = ?1")
+    long sumForPlatform(Long platformId);
+}
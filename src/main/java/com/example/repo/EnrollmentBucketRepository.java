@@ -0,0 +1,38 @@
+package com.example.repo;
+
+// Spring Data MongoDB imports
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+// Application Document import
+import com.example.document.EnrollmentBucketDocument;
+
+// Java Stream
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for {@link EnrollmentBucketDocument} entity in MongoDB.
+ */
+@Repository
+public interface EnrollmentBucketRepository extends MongoRepository<EnrollmentBucketDocument, String> {
+
+    /**
+     * Streams all buckets of a platform in course and bucket order.
+     * The stream holds a cursor and must be closed.
+     *
+     * @param platformId platform ID
+     * @return stream of buckets
+     */
+    Stream<EnrollmentBucketDocument> streamByPlatformIdOrderByCourseIdAscBucketNoAsc(Long platformId);
+
+    /**
+     * Streams the buckets of one sync of a platform in course and bucket order.
+     * The stream holds a cursor and must be closed.
+     *
+     * @param platformId platform ID
+     * @param syncStamp stamp named by the platform document
+     * @return stream of buckets
+     */
+    Stream<EnrollmentBucketDocument> streamByPlatformIdAndSyncStampOrderByCourseIdAscBucketNoAsc(Long platformId,
+                                                                                                 long syncStamp);
+}
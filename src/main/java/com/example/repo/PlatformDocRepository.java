@@ -19,7 +19,7 @@ import java.util.Optional;
  * </p>
  */
 @Repository
-public interface PlatformDocRepository extends MongoRepository<PlatformDocument, String> {
+public interface PlatformDocRepository extends MongoRepository<PlatformDocument, Long> {
 
     /**
      * Find a platform document by its name.
@@ -13,6 +13,7 @@ import jakarta.transaction.Transactional;
 import com.example.entity.User;
 
 // Java utility imports
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -93,4 +94,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT DISTINCT u FROM User u JOIN u.courses c WHERE c.id IN ?1")
     List<User> findAllByCoursesIdIn(Set<Long> courseIds);
+
+    /**
+     * Find the existing enrollments among users and courses, with the platform of each course.
+     *
+     * @param userIds user IDs
+     * @param courseIds course IDs
+     * @return rows of user ID, course ID and platform ID (null if unassigned)
+     */
+    @Query("SELECT u.id, c.id, c.platform.id FROM User u JOIN u.courses c WHERE u.id IN ?1 AND c.id IN ?2")
+    List<Object[]> findEnrollments(Collection<Long> userIds, Collection<Long> courseIds);
 }
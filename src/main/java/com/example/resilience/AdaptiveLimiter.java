@@ -0,0 +1,90 @@
+package com.example.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits requests while the number in flight is below a {@link VegasLimit}.
+ */
+public class AdaptiveLimiter {
+
+    private final String name;
+    private final VegasLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructs a limiter.
+     *
+     * @param name name of the endpoint group
+     * @param limit adaptive limit
+     */
+    public AdaptiveLimiter(String name, VegasLimit limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @return true if admitted; the caller must then call {@link #release(long, boolean, boolean)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and records its latency.
+     *
+     * @param startNanos {@link System#nanoTime()} when the request was admitted
+     * @param dropped whether the request was shed or timed out downstream
+     * @param sample whether the latency is representative and should update the limit
+     */
+    public void release(long startNanos, boolean dropped, boolean sample) {
+        int current = inFlight.getAndDecrement();
+        if (sample) {
+            limit.onSample(System.nanoTime() - startNanos, current, dropped);
+        }
+    }
+
+    /** Returns the endpoint group name. */
+    public String getName() {
+        return name;
+    }
+
+    /** Returns the current limit. */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    /** Returns the number of requests in flight. */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /** Returns the current no-load RTT estimate in milliseconds. */
+    public double getRttNoLoadMs() {
+        return limit.getRttNoLoadNanos() / 1_000_000.0;
+    }
+
+    /** Returns the total number of admitted requests. */
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    /** Returns the total number of rejected requests. */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.resilience;
+
+// Exceptions
+import com.example.exceptions.BulkheadFullException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Concurrency bulkhead: a fixed number of permits plus a bounded, time-limited wait queue.
+ * Callers that find the queue full, or wait longer than the limit, fail fast with
+ * {@link BulkheadFullException}.
+ */
+public class Bulkhead {
+
+    private final Lane lane;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructs a bulkhead.
+     *
+     * @param lane lane guarded by this bulkhead
+     * @param maxConcurrent maximum number of concurrent callers
+     * @param maxQueue maximum number of callers waiting for a permit
+     * @param maxWaitMs maximum time a caller waits for a permit
+     */
+    public Bulkhead(Lane lane, int maxConcurrent, int maxQueue, long maxWaitMs) {
+        this.lane = lane;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Acquires a permit, waiting in the queue if there is room.
+     *
+     * @throws BulkheadFullException if no permit could be obtained
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            accepted.increment();
+            return;
+        }
+
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            reject();
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                reject();
+            }
+            accepted.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject();
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /** Releases a permit obtained through {@link #acquire()}. */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Runs a task inside the bulkhead.
+     *
+     * @param task task to run
+     * @param <T> result type
+     * @return task result
+     * @throws BulkheadFullException if no permit could be obtained
+     */
+    public <T> T execute(Supplier<T> task) {
+        acquire();
+        try {
+            return task.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Runs a task without result inside the bulkhead.
+     *
+     * @param task task to run
+     * @throws BulkheadFullException if no permit could be obtained
+     */
+    public void run(Runnable task) {
+        acquire();
+        try {
+            task.run();
+        } finally {
+            release();
+        }
+    }
+
+    private void reject() {
+        rejected.increment();
+        throw new BulkheadFullException(lane.name());
+    }
+
+    /** Returns the guarded lane. */
+    public Lane getLane() {
+        return lane;
+    }
+
+    /** Returns the maximum number of concurrent callers. */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /** Returns the maximum queue length. */
+    public int getMaxQueue() {
+        return maxQueue;
+    }
+
+    /** Returns the number of callers currently holding a permit. */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /** Returns the number of callers currently waiting for a permit. */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /** Returns the total number of admitted callers. */
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    /** Returns the total number of rejected callers. */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /** Returns the share of permits in use, between 0 and 1. */
+    public double getSaturation() {
+        return maxConcurrent == 0 ? 1.0 : (double) getActive() / maxConcurrent;
+    }
+}
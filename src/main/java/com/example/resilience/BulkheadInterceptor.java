@@ -0,0 +1,66 @@
+package com.example.resilience;
+
+// Jakarta Servlet
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring MVC
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Enforces {@link BulkheadLane} on controller methods.
+ * <p>
+ * A permit is taken on the initial dispatch and released when the request completes,
+ * including after the async dispatch of streaming responses. Rejections surface as
+ * {@link com.example.exceptions.BulkheadFullException} through the global exception handler.
+ * </p>
+ */
+@Component
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".PERMIT";
+
+    private final BulkheadRegistry registry;
+
+    /**
+     * Constructor for BulkheadInterceptor.
+     *
+     * @param registry bulkheads per lane
+     */
+    public BulkheadInterceptor(BulkheadRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+
+        BulkheadLane lane = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), BulkheadLane.class);
+        if (lane == null) {
+            lane = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), BulkheadLane.class);
+        }
+        if (lane == null) {
+            return true;
+        }
+
+        Bulkhead bulkhead = registry.get(lane.value());
+        bulkhead.acquire();
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Bulkhead bulkhead) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkhead.release();
+        }
+    }
+}
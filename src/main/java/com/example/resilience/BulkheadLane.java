@@ -0,0 +1,16 @@
+package com.example.resilience;
+
+import java.lang.annotation.*;
+
+/**
+ * Assigns a controller method (or every method of a controller) to a bulkhead lane.
+ * Enforced by {@link BulkheadInterceptor}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BulkheadLane {
+
+    /** Lane the request runs in. */
+    Lane value();
+}
@@ -0,0 +1,65 @@
+package com.example.resilience;
+
+// Spring Boot configuration properties
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-lane bulkhead limits, bound from {@code app.bulkhead.lanes.<lane>.*}.
+ */
+@ConfigurationProperties(prefix = "app.bulkhead")
+public class BulkheadProperties {
+
+    private Map<Lane, Limits> lanes = new EnumMap<>(Lane.class);
+
+    /** Returns the limits keyed by lane. */
+    public Map<Lane, Limits> getLanes() {
+        return lanes;
+    }
+
+    /** Sets the limits keyed by lane. */
+    public void setLanes(Map<Lane, Limits> lanes) {
+        this.lanes = lanes;
+    }
+
+    /**
+     * Limits of a single lane.
+     */
+    public static class Limits {
+        private int maxConcurrent = 20;
+        private int maxQueue = 20;
+        private long maxWaitMs = 100;
+
+        /** Returns the maximum number of concurrent callers. */
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        /** Sets the maximum number of concurrent callers. */
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        /** Returns the maximum number of waiting callers. */
+        public int getMaxQueue() {
+            return maxQueue;
+        }
+
+        /** Sets the maximum number of waiting callers. */
+        public void setMaxQueue(int maxQueue) {
+            this.maxQueue = maxQueue;
+        }
+
+        /** Returns the maximum wait for a permit in milliseconds. */
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        /** Sets the maximum wait for a permit in milliseconds. */
+        public void setMaxWaitMs(long maxWaitMs) {
+            this.maxWaitMs = maxWaitMs;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.resilience;
+
+// Spring annotations
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds one {@link Bulkhead} per {@link Lane}, so a slow backend only exhausts its own lane.
+ */
+@Component
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadRegistry {
+
+    private final Map<Lane, Bulkhead> bulkheads = new EnumMap<>(Lane.class);
+
+    /**
+     * Builds the bulkheads from configuration; lanes without configuration use the defaults.
+     *
+     * @param properties per-lane limits
+     */
+    public BulkheadRegistry(BulkheadProperties properties) {
+        for (Lane lane : Lane.values()) {
+            BulkheadProperties.Limits limits = properties.getLanes()
+                    .getOrDefault(lane, new BulkheadProperties.Limits());
+            bulkheads.put(lane, new Bulkhead(lane, limits.getMaxConcurrent(), limits.getMaxQueue(), limits.getMaxWaitMs()));
+        }
+    }
+
+    /**
+     * Returns the bulkhead of a lane.
+     *
+     * @param lane lane
+     * @return bulkhead guarding the lane
+     */
+    public Bulkhead get(Lane lane) {
+        return bulkheads.get(lane);
+    }
+
+    /** Returns all bulkheads in lane order. */
+    public Collection<Bulkhead> getAll() {
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+}
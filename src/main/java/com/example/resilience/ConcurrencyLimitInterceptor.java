@@ -0,0 +1,108 @@
+package com.example.resilience;
+
+// Exceptions
+import com.example.exceptions.ConcurrencyLimitExceededException;
+
+// Jakarta Servlet
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring annotations and MVC
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.List;
+
+/**
+ * Sheds load in front of the controllers using adaptive concurrency limits.
+ * <p>
+ * Reads (GET/HEAD) and writes are limited separately, each learning its sustainable
+ * in-flight limit from observed latency. Excess requests are rejected immediately with
+ * {@link ConcurrencyLimitExceededException} (503 with Retry-After) instead of queueing
+ * in Tomcat until the connection pool times out.
+ * </p>
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".START";
+    private static final String ASYNC_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".ASYNC";
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final AdaptiveLimiter readLimiter;
+    private final AdaptiveLimiter writeLimiter;
+
+    /**
+     * Constructor for ConcurrencyLimitInterceptor.
+     *
+     * @param enabled whether load shedding is active
+     * @param initialLimit starting limit of each group
+     * @param minLimit lower bound of each limit
+     * @param maxLimit upper bound of each limit
+     * @param smoothing weight of each new estimate
+     * @param retryAfterSeconds Retry-After value sent with rejections
+     */
+    public ConcurrencyLimitInterceptor(@Value("${app.limiter.enabled:true}") boolean enabled,
+                                       @Value("${app.limiter.initial-limit:20}") int initialLimit,
+                                       @Value("${app.limiter.min-limit:4}") int minLimit,
+                                       @Value("${app.limiter.max-limit:400}") int maxLimit,
+                                       @Value("${app.limiter.smoothing:0.2}") double smoothing,
+                                       @Value("${app.limiter.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.readLimiter = new AdaptiveLimiter("read", new VegasLimit(initialLimit, minLimit, maxLimit, smoothing, 30));
+        this.writeLimiter = new AdaptiveLimiter("write", new VegasLimit(initialLimit, minLimit, maxLimit, smoothing, 30));
+    }
+
+    /** Returns the read and write limiters. */
+    public List<AdaptiveLimiter> getLimiters() {
+        return List.of(readLimiter, writeLimiter);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        AdaptiveLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(limiter.getName(), retryAfterSeconds);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streaming responses last as long as the client reads; their duration says nothing about capacity
+        request.setAttribute(ASYNC_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveLimiter limiter)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+
+        int status = response.getStatus();
+        boolean dropped = status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+        boolean sample = request.getAttribute(ASYNC_ATTRIBUTE) == null
+                && (dropped || status < HttpStatus.INTERNAL_SERVER_ERROR.value());
+        limiter.release((Long) request.getAttribute(START_ATTRIBUTE), dropped, sample);
+    }
+
+    private boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+}
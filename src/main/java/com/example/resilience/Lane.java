@@ -0,0 +1,17 @@
+package com.example.resilience;
+
+/**
+ * Isolated resource lanes, each guarded by its own {@link Bulkhead}.
+ */
+public enum Lane {
+    /** Requests writing to MySQL. */
+    SQL_WRITE,
+    /** Requests reading from MySQL. */
+    SQL_READ,
+    /** Requests reading the MongoDB read model. */
+    MONGO_READ,
+    /** Rebuilding platform documents in MongoDB. */
+    SYNC,
+    /** Full exports streaming whole tables from MySQL. */
+    EXPORT
+}
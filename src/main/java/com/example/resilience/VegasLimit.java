@@ -0,0 +1,111 @@
+package com.example.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delay-based adaptive concurrency limit in the style of TCP Vegas.
+ * <p>
+ * The limit is adjusted from observed latency: the shortest recent RTT approximates
+ * the no-load latency, and {@code limit * (1 - rttNoLoad / rtt)} estimates how many
+ * requests are queued rather than being served. Small queues grow the limit, large
+ * queues or dropped requests shrink it. The no-load RTT is re-probed periodically so
+ * the limit follows changes in the backend.
+ * </p>
+ */
+public class VegasLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final int probeMultiplier;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double estimatedLimit;
+    private long rttNoLoadNanos;
+    private long probeCountdown;
+
+    /**
+     * Constructs a limit.
+     *
+     * @param initialLimit starting limit
+     * @param minLimit lower bound of the limit
+     * @param maxLimit upper bound of the limit
+     * @param smoothing weight of each new estimate, between 0 and 1
+     * @param probeMultiplier the no-load RTT is reset roughly every {@code probeMultiplier * limit} samples
+     */
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, int probeMultiplier) {
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.probeMultiplier = probeMultiplier;
+        this.probeCountdown = nextProbeCountdown(initialLimit);
+    }
+
+    /** Returns the current limit. */
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    /** Returns the current no-load RTT estimate in nanoseconds, 0 if unknown. */
+    public long getRttNoLoadNanos() {
+        return rttNoLoadNanos;
+    }
+
+    /**
+     * Feeds one completed request into the estimate.
+     *
+     * @param rttNanos request latency
+     * @param inFlight requests in flight when this one completed
+     * @param dropped whether the request was shed or timed out downstream
+     */
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) return;
+
+        lock.lock();
+        try {
+            double limit = estimatedLimit;
+
+            if (--probeCountdown <= 0) {
+                probeCountdown = nextProbeCountdown(limit);
+                rttNoLoadNanos = rttNanos;
+                return;
+            }
+            if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+                rttNoLoadNanos = rttNanos;
+                return;
+            }
+
+            double log = Math.max(1.0, Math.log10(limit));
+            double newLimit;
+            if (dropped) {
+                newLimit = limit - log;
+            } else if (inFlight * 2 < limit) {
+                // Application-limited: not enough load to learn anything about the limit
+                return;
+            } else {
+                int queueSize = (int) Math.ceil(limit * (1 - (double) rttNoLoadNanos / rttNanos));
+                if (queueSize <= log) {
+                    newLimit = limit + 6 * log;
+                } else if (queueSize < 3 * log) {
+                    newLimit = limit + log;
+                } else if (queueSize > 6 * log) {
+                    newLimit = limit - log;
+                } else {
+                    return;
+                }
+            }
+
+            newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            estimatedLimit = Math.max(minLimit, (1 - smoothing) * limit + smoothing * newLimit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long nextProbeCountdown(double limit) {
+        long base = (long) (probeMultiplier * Math.max(1, limit));
+        return base + ThreadLocalRandom.current().nextLong(Math.max(1, base / 2));
+    }
+}
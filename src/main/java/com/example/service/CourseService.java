@@ -1,10 +1,16 @@
 package com.example.service;
 
+// Change log for delta sync
+import com.example.changes.ChangeLogService;
 // Constants for common messages
 import com.example.constants.Constants;
 // Entity classes
 import com.example.entity.Course;
 import com.example.entity.Platform;
+// In-memory enrollment index
+import com.example.index.EnrollmentIndexService;
+// Incremental enrollment counters
+import com.example.stats.EnrollmentCounterService;
 // Repository interfaces
 import com.example.repo.CourseRepository;
 // Service for syncing platforms to MongoDB
@@ -23,6 +29,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -37,18 +44,30 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
     private final PlatformSyncService platformSyncService;
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final ChangeLogService changeLogService;
 
     /**
      * Constructor-based dependency injection.
      *
      * @param courseRepository Repository for Course entities
      * @param platformSyncService Service to sync Platform data to MongoDB
+     * @param enrollmentIndexService In-memory enrollment index updated after commit
+     * @param enrollmentCounterService Enrollment counters updated after commit
+     * @param changeLogService Change log recording course changes for delta sync
      */
     @Autowired
     public CourseService(CourseRepository courseRepository,
-                         PlatformSyncService platformSyncService) {
+                         PlatformSyncService platformSyncService,
+                         EnrollmentIndexService enrollmentIndexService,
+                         EnrollmentCounterService enrollmentCounterService,
+                         ChangeLogService changeLogService) {
         this.courseRepository = courseRepository;
         this.platformSyncService = platformSyncService;
+        this.enrollmentIndexService = enrollmentIndexService;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.changeLogService = changeLogService;
     }
 
     /**
@@ -58,6 +77,7 @@ public class CourseService {
      * @param size Number of courses per page
      * @return List of courses for the requested page
      */
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses(int page, int size) {
         logger.info("Fetching paginated courses");
 
@@ -76,6 +96,7 @@ public class CourseService {
      * @return Course entity if found
      * @throws EntityNotFoundException if course does not exist
      */
+    @Transactional(readOnly = true)
     public Course getCourseById(Long id) {
         logger.info("Fetching course");
 
@@ -95,6 +116,7 @@ public class CourseService {
      * @return Created course entity
      * @throws IllegalArgumentException if course title exists
      */
+    @Transactional
     public Course createCourse(Course course) {
         logger.info("Creating course");
 
@@ -105,6 +127,7 @@ public class CourseService {
 
         Course saved = courseRepository.save(course);
         logger.debug("Course created");
+        changeLogService.courseChanged(saved);
 
         if (saved.getPlatform() != null) {
             logger.info("Syncing platform to Mongo after course creation");
@@ -125,6 +148,7 @@ public class CourseService {
      * @throws EntityNotFoundException if course does not exist
      * @throws IllegalArgumentException if new title already exists
      */
+    @Transactional
     public Course updateCourse(Long id, Course courseDetails) {
         logger.info("Updating course");
 
@@ -143,6 +167,7 @@ public class CourseService {
         course.setTitle(courseDetails.getTitle());
         Course updated = courseRepository.save(course);
         logger.debug("Updated course");
+        changeLogService.courseChanged(updated);
 
         if (updated.getPlatform() != null) {
             logger.info("Syncing platform to Mongo after course update");
@@ -159,6 +184,7 @@ public class CourseService {
      * @param id Course ID to delete
      * @throws EntityNotFoundException if course does not exist
      */
+    @Transactional
     public void deleteCourse(Long id) {
         logger.info("Deleting course");
 
@@ -171,6 +197,9 @@ public class CourseService {
         Platform platform = course.getPlatform();
         courseRepository.delete(course);
         logger.debug("Deleted course");
+        enrollmentIndexService.courseDeleted(id);
+        enrollmentCounterService.courseDeleted(course);
+        changeLogService.courseChanged(course);
 
         if (platform != null) {
             logger.info("Syncing platform to Mongo after course deletion");
@@ -0,0 +1,231 @@
+package com.example.service;
+
+// Constants for messages
+import com.example.constants.Constants;
+// DTOs
+import com.example.dto.EnrollmentStatusDTO;
+import com.example.dto.EnrollmentStatusDTO.Status;
+// Exceptions
+import com.example.exceptions.QueueFullException;
+
+// Lifecycle annotations and JPA exception
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations and task execution
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Accepts enrollment requests into a bounded in-memory queue and applies
+ * them in micro-batches on a background consumer.
+ * <p>
+ * Each batch is applied through {@link UserService#applyEnrollmentBatch(Map)},
+ * so the join table is written in one transaction and every affected platform
+ * is synced once per batch instead of once per request.
+ * </p>
+ */
+@Service
+public class EnrollmentQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentQueueService.class);
+
+    /** Base path of the status endpoint exposed by the enrollment controller. */
+    public static final String STATUS_PATH = "/api/enrollments/requests/";
+
+    private final UserService userService;
+    private final BlockingQueue<EnrollmentStatusDTO> queue;
+    private final Map<String, EnrollmentStatusDTO> statuses = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final long batchWaitMs;
+    private final long statusRetentionMs;
+    private final TaskExecutor syncTaskExecutor;
+
+    private volatile boolean running = true;
+    private long lastEviction = System.nanoTime();
+
+    /**
+     * Constructor for EnrollmentQueueService.
+     *
+     * @param userService service applying enrollment batches
+     * @param syncTaskExecutor executor running the consumer loop
+     * @param capacity maximum number of queued requests before new ones are rejected
+     * @param batchSize maximum number of requests applied per batch
+     * @param batchWaitMs how long the consumer waits to fill a batch once the first request arrives
+     * @param statusRetentionMs how long completed statuses remain available for polling
+     */
+    public EnrollmentQueueService(UserService userService,
+                                  @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                                  @Value("${app.enrollment.async.queue-capacity:10000}") int capacity,
+                                  @Value("${app.enrollment.async.batch-size:200}") int batchSize,
+                                  @Value("${app.enrollment.async.batch-wait-ms:20}") long batchWaitMs,
+                                  @Value("${app.enrollment.async.status-retention-ms:600000}") long statusRetentionMs) {
+        this.userService = userService;
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.batchWaitMs = batchWaitMs;
+        this.statusRetentionMs = statusRetentionMs;
+    }
+
+    /** Starts the background consumer. */
+    @PostConstruct
+    public void start() {
+        syncTaskExecutor.execute(this::consume);
+    }
+
+    /** Stops the background consumer after its current poll. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Queues an enrollment request for asynchronous processing.
+     *
+     * @param userId ID of user to enroll
+     * @param courseIds set of course IDs to enroll the user in
+     * @return status of the accepted request
+     * @throws QueueFullException if the queue is at capacity
+     */
+    public EnrollmentStatusDTO submit(Long userId, Set<Long> courseIds) {
+        String requestId = UUID.randomUUID().toString();
+        Set<Long> requested = courseIds == null ? Collections.emptySet() : Set.copyOf(courseIds);
+        EnrollmentStatusDTO status = new EnrollmentStatusDTO(requestId, userId, requested, STATUS_PATH + requestId);
+
+        statuses.put(requestId, status);
+        if (!queue.offer(status)) {
+            statuses.remove(requestId);
+            logger.warn("Enrollment queue is full");
+            throw new QueueFullException("Enrollment queue is full, retry later");
+        }
+
+        logger.debug("Queued enrollment request, queue size {}", queue.size());
+        return status;
+    }
+
+    /**
+     * Returns the status of an accepted enrollment request.
+     *
+     * @param requestId ID returned when the request was accepted
+     * @return current status
+     * @throws EntityNotFoundException if the request is unknown or has expired
+     */
+    public EnrollmentStatusDTO getStatus(String requestId) {
+        EnrollmentStatusDTO status = statuses.get(requestId);
+        if (status == null) {
+            throw new EntityNotFoundException(Constants.NOT_FOUND + requestId);
+        }
+        return status;
+    }
+
+    /**
+     * Consumer loop: blocks for the first request, then drains up to a full
+     * batch and applies it.
+     */
+    private void consume() {
+        List<EnrollmentStatusDTO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                EnrollmentStatusDTO first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    evictExpiredIfDue();
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWaitMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    EnrollmentStatusDTO next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                applyBatch(batch);
+                evictExpiredIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Enrollment consumer failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Applies one batch. Requests are grouped by user, since each one
+     * replaces all of the user's enrollments: the user ends with the courses
+     * of their last valid request, matching what sequential processing would
+     * leave in the database.
+     *
+     * @param batch requests in arrival order
+     */
+    private void applyBatch(List<EnrollmentStatusDTO> batch) {
+        Map<Long, List<EnrollmentStatusDTO>> requestsByUser = new LinkedHashMap<>();
+        for (EnrollmentStatusDTO request : batch) {
+            requestsByUser.computeIfAbsent(request.getUserId(), id -> new ArrayList<>()).add(request);
+        }
+        Map<Long, List<Set<Long>>> courseIdsByUser = new LinkedHashMap<>();
+        requestsByUser.forEach((userId, requests) ->
+                courseIdsByUser.put(userId, requests.stream().map(EnrollmentStatusDTO::getCourseIds).toList()));
+
+        Map<Long, List<String>> failures;
+        try {
+            failures = userService.applyEnrollmentBatch(courseIdsByUser);
+        } catch (RuntimeException e) {
+            logger.error("Enrollment batch failed: {}", e.getMessage(), e);
+            batch.forEach(request -> complete(request, Status.FAILED, e.getMessage()));
+            return;
+        }
+
+        requestsByUser.forEach((userId, requests) -> {
+            List<String> userFailures = failures.get(userId);
+            for (int i = 0; i < requests.size(); i++) {
+                String failure = userFailures == null ? null : userFailures.get(i);
+                complete(requests.get(i), failure == null ? Status.APPLIED : Status.FAILED, failure);
+            }
+        });
+        logger.info("Applied enrollment batch of {} requests", batch.size());
+    }
+
+    /**
+     * Marks a request as completed.
+     *
+     * @param request request to update
+     * @param status final status
+     * @param message failure message, or null
+     */
+    private void complete(EnrollmentStatusDTO request, Status status, String message) {
+        request.setMessage(message);
+        request.setCompletedAt(Instant.now());
+        request.setStatus(status);
+        // Re-publish through the map so polling threads see the final state
+        statuses.put(request.getRequestId(), request);
+    }
+
+    /** Drops completed statuses older than the retention window, at most once per second. */
+    private void evictExpiredIfDue() {
+        long now = System.nanoTime();
+        if (now - lastEviction < TimeUnit.SECONDS.toNanos(1)) return;
+        lastEviction = now;
+
+        Instant cutoff = Instant.now().minusMillis(statusRetentionMs);
+        statuses.values().removeIf(s -> s.getCompletedAt() != null && s.getCompletedAt().isBefore(cutoff));
+    }
+}
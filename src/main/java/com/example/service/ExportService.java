@@ -0,0 +1,229 @@
+package com.example.service;
+
+// DTOs
+import com.example.dto.EnrollmentDTO;
+import com.example.dto.UserDTO;
+
+// Jackson
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// JPA and JDBC
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+// Hibernate stateless session and cursors
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, JDBC and transactions
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.util.LinkedHashSet;
+
+/**
+ * Full exports of users and enrollments as NDJSON (one JSON object per line).
+ * <p>
+ * Rows are read through a Hibernate {@link StatelessSession} with a
+ * forward-only cursor and written as they arrive, so neither a persistence
+ * context nor the result list grows with the table: memory stays flat no
+ * matter how many rows are exported. The cursor fetches
+ * {@code app.export.fetch-size} rows per round trip; on MySQL it streams row
+ * by row instead, as Connector/J otherwise buffers the whole result.
+ * </p>
+ * <p>
+ * The session runs on the connection of a read-only transaction, so with a
+ * replica configured the export reads from the replica like other reads.
+ * </p>
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    /** Users with their courses, one row per enrollment; a user's rows are adjacent. */
+    private static final String USERS_HQL =
+            "select u.id, u.name, u.email, c.id from User u left join u.courses c order by u.id, c.id";
+
+    private static final String ENROLLMENTS_HQL =
+            "select u.id, c.id, c.platform.id from User u join u.courses c order by u.id, c.id";
+
+    private final SessionFactory sessionFactory;
+    private final DataSource dataSource;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final boolean mysql;
+
+    /**
+     * Constructor for ExportService.
+     *
+     * @param entityManagerFactory JPA factory unwrapped to open stateless sessions
+     * @param dataSource datasource whose transaction-bound connection the sessions use
+     * @param transactionManager transaction manager for the read-only export transactions
+     * @param objectMapper the application's ObjectMapper
+     * @param fetchSize rows fetched per round trip (MySQL streams row by row instead)
+     */
+    public ExportService(EntityManagerFactory entityManagerFactory,
+                         DataSource dataSource,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.dataSource = dataSource;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.mysql = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
+
+    /**
+     * Writes every user with the IDs of their courses, in ID order.
+     *
+     * @param out stream to write to; closed when done
+     * @return number of users written
+     * @throws IOException if writing fails
+     */
+    public long exportUsers(OutputStream out) throws IOException {
+        logger.info("Exporting users");
+        long start = System.nanoTime();
+
+        ObjectWriter writer = lineWriter(UserDTO.class);
+        long count = readOnly(session -> {
+            long written = 0;
+            try (ScrollableResults<Object[]> rows = scroll(session, USERS_HQL);
+                 JsonGenerator generator = lineGenerator(out)) {
+                UserDTO current = null;
+                while (rows.next()) {
+                    Object[] row = rows.get();
+                    Long userId = (Long) row[0];
+                    if (current == null || !current.getId().equals(userId)) {
+                        if (current != null) {
+                            writeLine(writer, generator, current);
+                            written++;
+                        }
+                        current = new UserDTO(userId, (String) row[1], (String) row[2], new LinkedHashSet<>());
+                    }
+                    if (row[3] != null) {
+                        current.getCourseIds().add((Long) row[3]);
+                    }
+                }
+                if (current != null) {
+                    writeLine(writer, generator, current);
+                    written++;
+                }
+            }
+            return written;
+        });
+
+        logger.info("Exported {} users in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * Writes every enrollment with the platform of its course, in user and course order.
+     *
+     * @param out stream to write to; closed when done
+     * @return number of enrollments written
+     * @throws IOException if writing fails
+     */
+    public long exportEnrollments(OutputStream out) throws IOException {
+        logger.info("Exporting enrollments");
+        long start = System.nanoTime();
+
+        ObjectWriter writer = lineWriter(EnrollmentDTO.class);
+        long count = readOnly(session -> {
+            long written = 0;
+            try (ScrollableResults<Object[]> rows = scroll(session, ENROLLMENTS_HQL);
+                 JsonGenerator generator = lineGenerator(out)) {
+                while (rows.next()) {
+                    Object[] row = rows.get();
+                    writeLine(writer, generator, new EnrollmentDTO((Long) row[0], (Long) row[1], (Long) row[2]));
+                    written++;
+                }
+            }
+            return written;
+        });
+
+        logger.info("Exported {} enrollments in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    /** Export body run against a stateless session. */
+    @FunctionalInterface
+    private interface Export {
+        long write(StatelessSession session) throws IOException;
+    }
+
+    /**
+     * Runs an export in a read-only transaction, on a stateless session over
+     * the transaction's connection, so the routing datasource picks the replica.
+     *
+     * @param export export body
+     * @return number of records written
+     * @throws IOException if writing fails
+     */
+    private long readOnly(Export export) throws IOException {
+        try {
+            Long count = readOnlyTransaction.execute(status -> {
+                Connection connection = DataSourceUtils.getConnection(dataSource);
+                try (StatelessSession session = sessionFactory.withStatelessOptions()
+                        .connection(connection)
+                        .openStatelessSession()) {
+                    return export.write(session);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    DataSourceUtils.releaseConnection(connection, dataSource);
+                }
+            });
+            return count == null ? 0 : count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ScrollableResults<Object[]> scroll(StatelessSession session, String hql) {
+        return session.createQuery(hql, Object[].class)
+                .setReadOnly(true)
+                .setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    /** Generator writing root values without a separator; each line ends with its own newline. */
+    private JsonGenerator lineGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    /** Writer for one type that leaves flushing to the generator's buffer. */
+    private ObjectWriter lineWriter(Class<?> type) {
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private static void writeLine(ObjectWriter writer, JsonGenerator generator, Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.service;
+
+// Constants for messages
+import com.example.constants.Constants;
+// DTOs
+import com.example.dto.RecordingStatusDTO;
+// Custom Flight Recorder events
+import com.example.jfr.MappingEvent;
+import com.example.jfr.RepositoryCallEvent;
+import com.example.jfr.SyncEvent;
+
+// Lifecycle annotations and JPA exception
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+
+// JDK Flight Recorder
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Controls the service's JDK Flight Recorder recording: start, stop and dump
+ * on demand, optionally started at boot as an always-on rolling recording.
+ * <p>
+ * Recordings use one of the JDK's settings files ({@code default}, designed
+ * for continuous use at around 1% overhead, or {@code profile}) with the
+ * custom sync, repository and mapping events enabled. Only one recording is
+ * managed at a time; starting a new one closes a stopped predecessor.
+ * </p>
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    private static final String RECORDING_NAME = "demo";
+    private static final String[] CUSTOM_EVENTS = {SyncEvent.NAME, RepositoryCallEvent.NAME, MappingEvent.NAME};
+
+    private final boolean recordOnStartup;
+    private final String defaultSettings;
+    private final long defaultMaxAgeSeconds;
+    private final long defaultMaxSizeMb;
+    private final long defaultThresholdMs;
+
+    private Recording recording;
+    private String recordingSettings;
+
+    /**
+     * Constructor for FlightRecorderService.
+     *
+     * @param recordOnStartup whether to start a recording when the application starts
+     * @param defaultSettings JDK settings name used when none is given
+     * @param defaultMaxAgeSeconds how long recorded data is kept when not given
+     * @param defaultMaxSizeMb maximum recording size on disk when not given
+     * @param defaultThresholdMs minimum duration of custom events when not given
+     */
+    public FlightRecorderService(@Value("${app.jfr.record-on-startup:false}") boolean recordOnStartup,
+                                 @Value("${app.jfr.settings:default}") String defaultSettings,
+                                 @Value("${app.jfr.max-age-seconds:1800}") long defaultMaxAgeSeconds,
+                                 @Value("${app.jfr.max-size-mb:256}") long defaultMaxSizeMb,
+                                 @Value("${app.jfr.event-threshold-ms:0}") long defaultThresholdMs) {
+        this.recordOnStartup = recordOnStartup;
+        this.defaultSettings = defaultSettings;
+        this.defaultMaxAgeSeconds = defaultMaxAgeSeconds;
+        this.defaultMaxSizeMb = defaultMaxSizeMb;
+        this.defaultThresholdMs = defaultThresholdMs;
+    }
+
+    /** Starts the always-on recording if configured. */
+    @PostConstruct
+    public void startOnStartup() {
+        if (recordOnStartup) {
+            start(null, null, null, null);
+        }
+    }
+
+    /** Closes the recording on shutdown. */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Starts a recording. If one is already running it is left as is.
+     *
+     * @param settings JDK settings name ({@code default} or {@code profile}), or null for the configured one
+     * @param maxAgeSeconds how long recorded data is kept, or null for the configured value
+     * @param maxSizeMb maximum size on disk, or null for the configured value
+     * @param thresholdMs minimum duration of recorded custom events, or null for the configured value
+     * @return status of the running recording
+     * @throws IllegalArgumentException if the settings name is unknown
+     */
+    public synchronized RecordingStatusDTO start(String settings, Long maxAgeSeconds, Long maxSizeMb, Long thresholdMs) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            logger.info("Flight recording already running");
+            return getStatus();
+        }
+        close();
+
+        String settingsName = settings == null ? defaultSettings : settings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown recording settings: " + settingsName);
+        }
+
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(Duration.ofSeconds(maxAgeSeconds == null ? defaultMaxAgeSeconds : maxAgeSeconds));
+        started.setMaxSize((maxSizeMb == null ? defaultMaxSizeMb : maxSizeMb) * 1024 * 1024);
+        Duration threshold = Duration.ofMillis(thresholdMs == null ? defaultThresholdMs : thresholdMs);
+        for (String event : CUSTOM_EVENTS) {
+            started.enable(event).withThreshold(threshold);
+        }
+        started.start();
+
+        recording = started;
+        recordingSettings = settingsName;
+        logger.info("Flight recording started with {} settings", settingsName);
+        return getStatus();
+    }
+
+    /**
+     * Stops the recording. Its data stays available for {@link #dump()} until a new one is started.
+     *
+     * @return status of the stopped recording
+     * @throws EntityNotFoundException if no recording has been started
+     */
+    public synchronized RecordingStatusDTO stop() {
+        Recording current = requireRecording();
+        if (current.getState() == RecordingState.RUNNING) {
+            current.stop();
+            logger.info("Flight recording stopped");
+        }
+        return getStatus();
+    }
+
+    /**
+     * Writes the recorded data to a temporary file. A running recording keeps running.
+     *
+     * @return path of the {@code .jfr} file; the caller deletes it
+     * @throws EntityNotFoundException if no recording has been started
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized Path dump() throws IOException {
+        Recording current = requireRecording();
+        Path file = Files.createTempFile("demo-", ".jfr");
+        current.dump(file);
+        logger.info("Flight recording dumped, {} bytes", Files.size(file));
+        return file;
+    }
+
+    /**
+     * Returns the status of the current recording.
+     *
+     * @return recording status
+     * @throws EntityNotFoundException if no recording has been started
+     */
+    public synchronized RecordingStatusDTO getStatus() {
+        Recording current = requireRecording();
+        return new RecordingStatusDTO(
+                current.getName(),
+                current.getState().name(),
+                recordingSettings,
+                current.getStartTime(),
+                current.getSize(),
+                current.getMaxAge() == null ? 0 : current.getMaxAge().toSeconds(),
+                current.getMaxSize()
+        );
+    }
+
+    private Recording requireRecording() {
+        if (recording == null) {
+            throw new EntityNotFoundException(Constants.NO_RECORDING);
+        }
+        return recording;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.service;
 
+// Change log for delta sync
+import com.example.changes.ChangeLogService;
 // DTOs
 import com.example.dto.CourseDTO;
 import com.example.dto.PlatformDTO;
@@ -11,15 +13,21 @@ import com.example.entity.Platform;
 import com.example.mapper.PlatformMapper;
 // Constants for messages
 import com.example.constants.Constants;
-// MongoDB document and embedded classes
+// MongoDB documents
+import com.example.document.EnrollmentBucketDocument;
 import com.example.document.PlatformDocument;
-import com.example.document.PlatformDocument.CourseEmbed;
+// In-memory enrollment index
+import com.example.index.EnrollmentIndexService;
+// Incremental enrollment counters
+import com.example.stats.EnrollmentCounterService;
 // Repositories
 import com.example.repo.CourseRepository;
+import com.example.repo.EnrollmentBucketRepository;
 import com.example.repo.PlatformDocRepository;
 import com.example.repo.PlatformRepository;
 // Service to sync platform data to MongoDB
 import com.example.sync.PlatformSyncService;
+import com.example.sync.ReadModelMigrationService;
 
 // JPA exception
 import jakarta.persistence.EntityNotFoundException;
@@ -37,6 +45,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service layer for managing Platform entities and associated data.
@@ -52,6 +61,11 @@ public class PlatformService {
     private final PlatformDocRepository platformDocRepository;
     private final CourseRepository courseRepository;
     private final PlatformSyncService platformSyncService;
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final ReadModelMigrationService readModelMigrationService;
+    private final EnrollmentBucketRepository enrollmentBucketRepository;
+    private final ChangeLogService changeLogService;
 
     /**
      * Constructor for PlatformService.
@@ -60,15 +74,30 @@ public class PlatformService {
      * @param platformDocRepository Repository for Platform documents (MongoDB)
      * @param courseRepository Repository for Course entities (SQL)
      * @param platformSyncService Service for syncing platform data to MongoDB
+     * @param enrollmentIndexService In-memory enrollment index updated after commit
+     * @param enrollmentCounterService Enrollment counters updated after commit
+     * @param readModelMigrationService Migration of documents still keyed by string IDs
+     * @param enrollmentBucketRepository Repository for the enrollment buckets of large platforms
+     * @param changeLogService Change log recording platform and course changes for delta sync
      */
     public PlatformService(PlatformRepository platformRepository,
                            PlatformDocRepository platformDocRepository,
                            CourseRepository courseRepository,
-                           PlatformSyncService platformSyncService) {
+                           PlatformSyncService platformSyncService,
+                           EnrollmentIndexService enrollmentIndexService,
+                           EnrollmentCounterService enrollmentCounterService,
+                           ReadModelMigrationService readModelMigrationService,
+                           EnrollmentBucketRepository enrollmentBucketRepository,
+                           ChangeLogService changeLogService) {
         this.platformRepository = platformRepository;
         this.platformDocRepository = platformDocRepository;
         this.courseRepository = courseRepository;
         this.platformSyncService = platformSyncService;
+        this.enrollmentIndexService = enrollmentIndexService;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.readModelMigrationService = readModelMigrationService;
+        this.enrollmentBucketRepository = enrollmentBucketRepository;
+        this.changeLogService = changeLogService;
     }
 
     /**
@@ -78,6 +107,7 @@ public class PlatformService {
      * @param size number of items per page
      * @return list of platforms for the requested page
      */
+    @Transactional(readOnly = true)
     public List<Platform> getAllPlatforms(int page, int size) {
         logger.info("Fetching paginated platforms");
 
@@ -96,6 +126,7 @@ public class PlatformService {
      * @return platform entity if found
      * @throws EntityNotFoundException if platform not found
      */
+    @Transactional(readOnly = true)
     public Platform getPlatformById(Long id) {
         logger.info("Fetching platform by ID");
 
@@ -125,6 +156,7 @@ public class PlatformService {
 
         Platform saved = platformRepository.save(platform);
         logger.debug("Platform created successfully");
+        changeLogService.platformChanged(saved);
 
         platformSyncService.syncToMongo(saved);
         logger.info("Triggered async MongoDB sync");
@@ -155,10 +187,17 @@ public class PlatformService {
             existing.setCourses(existingCourses);
         }
 
-        // Remove courses no longer present
-        existingCourses.removeIf(course ->
-            updatedCourses.stream().noneMatch(updated -> updated.getId().equals(course.getId()))
-        );
+        // Remove courses no longer present (orphan removal deletes them)
+        Set<Long> removedCourseIds = new HashSet<>();
+        existingCourses.removeIf(course -> {
+            boolean removed = updatedCourses.stream().noneMatch(updated -> updated.getId().equals(course.getId()));
+            if (removed) {
+                removedCourseIds.add(course.getId());
+                enrollmentCounterService.courseDeleted(course);
+                changeLogService.courseChanged(course);
+            }
+            return removed;
+        });
 
         // Update existing or add new courses
         for (Course updatedCourse : updatedCourses) {
@@ -178,6 +217,10 @@ public class PlatformService {
 
         Platform updated = platformRepository.save(existing);
         logger.debug("Platform updated successfully");
+        changeLogService.platformChanged(updated);
+
+        removedCourseIds.forEach(enrollmentIndexService::courseDeleted);
+        enrollmentIndexService.coursesAssigned(id, updated.getCourses().stream().map(Course::getId).toList());
 
         platformSyncService.syncToMongo(updated);
         logger.info("Triggered async MongoDB sync");
@@ -201,6 +244,9 @@ public class PlatformService {
 
         platformRepository.delete(existing);
         logger.debug("Platform deleted from SQL");
+        enrollmentIndexService.platformDeleted(id);
+        enrollmentCounterService.platformDeleted(existing);
+        changeLogService.platformDeleted(existing);
 
         platformSyncService.deletePlatformFromMongo(id);
         logger.info("Triggered async MongoDB delete");
@@ -247,58 +293,27 @@ public class PlatformService {
     }
 
     /**
-     * Fetches users enrolled in a platform's courses from MongoDB document.
+     * Fetches users enrolled in a platform's courses from MongoDB document,
+     * or from its enrollment buckets if the platform is bucketed.
      *
      * @param platformDocId MongoDB document ID of platform
      * @return list of UserDTOs with enrolled course IDs
      * @throws EntityNotFoundException if platform document not found
      */
-    public List<UserDTO> getUsersByPlatformIdFromMongo(String platformDocId) {
+    public List<UserDTO> getUsersByPlatformIdFromMongo(Long platformDocId) {
         logger.info("Fetching users from MongoDB");
 
-        PlatformDocument doc = platformDocRepository.findById(platformDocId)
-                .orElseThrow(() -> {
-                    logger.warn("Platform document not found");
-                    return new EntityNotFoundException(Constants.NOT_FOUND + platformDocId);
-                });
-
-        List<CourseEmbed> courses = doc.getCourses();
-        if (courses == null || courses.isEmpty()) {
-            logger.debug("No courses found in platform document");
-            return Collections.emptyList();
+        PlatformDocument doc = findDocument(platformDocId);
+        if (!doc.isBucketed()) {
+            return PlatformMapper.toUserDTOs(doc);
         }
-
-        Map<String, Set<String>> userToCourseIds = new HashMap<>();
-
-        for (CourseEmbed course : courses) {
-            String courseId = course.getId();
-            List<PlatformDocument.UserEmbed> enrolledUsers = course.getEnrolledUsers();
-
-            if (enrolledUsers == null) continue;
-
-            for (PlatformDocument.UserEmbed user : enrolledUsers) {
-                userToCourseIds.computeIfAbsent(user.getId(), k -> new HashSet<>()).add(courseId);
-            }
+        // Documents written before buckets were stamped own all of the platform's buckets
+        try (Stream<EnrollmentBucketDocument> buckets = doc.getBucketStamp() == null
+                ? enrollmentBucketRepository.streamByPlatformIdOrderByCourseIdAscBucketNoAsc(platformDocId)
+                : enrollmentBucketRepository.streamByPlatformIdAndSyncStampOrderByCourseIdAscBucketNoAsc(
+                        platformDocId, doc.getBucketStamp())) {
+            return PlatformMapper.toUserDTOs(buckets::iterator);
         }
-
-        Map<String, PlatformDocument.UserEmbed> uniqueUsers = new HashMap<>();
-        for (CourseEmbed course : courses) {
-            if (course.getEnrolledUsers() == null) continue;
-            for (PlatformDocument.UserEmbed user : course.getEnrolledUsers()) {
-                uniqueUsers.putIfAbsent(user.getId(), user);
-            }
-        }
-
-        return uniqueUsers.values().stream()
-                .map(u -> new UserDTO(
-                        parseId(u.getId()),
-                        u.getName(),
-                        u.getEmail(),
-                        userToCourseIds.getOrDefault(u.getId(), Collections.emptySet())
-                                .stream()
-                                .map(this::parseId)
-                                .collect(Collectors.toSet())
-                )).toList();
     }
 
     /**
@@ -308,40 +323,27 @@ public class PlatformService {
      * @return list of CourseDTOs
      * @throws EntityNotFoundException if platform document not found
      */
-    public List<CourseDTO> getCoursesByPlatformIdFromMongo(String platformDocId) {
+    public List<CourseDTO> getCoursesByPlatformIdFromMongo(Long platformDocId) {
         logger.info("Fetching courses from MongoDB");
 
-        PlatformDocument doc = platformDocRepository.findById(platformDocId)
-                .orElseThrow(() -> {
-                    logger.warn("Platform document not found");
-                    return new EntityNotFoundException(Constants.NOT_FOUND + platformDocId);
-                });
-
-        List<CourseEmbed> courses = doc.getCourses();
-        if (courses == null) {
-            logger.debug("No embedded courses in platform document");
-            return Collections.emptyList();
-        }
-
-        return courses.stream()
-                .map(c -> new CourseDTO(
-                        parseId(c.getId()),
-                        c.getTitle()
-                )).toList();
+        return PlatformMapper.toCourseDTOs(findDocument(platformDocId));
     }
 
     /**
-     * Parses a string ID to Long, returns null on failure.
+     * Loads a platform document, migrating a legacy string-keyed one on the way.
      *
-     * @param idStr string representation of ID
-     * @return Long or null if parsing fails
+     * @param platformDocId MongoDB document ID of platform
+     * @return the platform document
+     * @throws EntityNotFoundException if platform document not found
      */
-    private Long parseId(String idStr) {
-        try {
-            return idStr == null ? null : Long.valueOf(idStr);
-        } catch (NumberFormatException e) {
-            logger.error("Failed to parse ID string");
-            return null;
+    private PlatformDocument findDocument(Long platformDocId) {
+        Optional<PlatformDocument> doc = platformDocRepository.findById(platformDocId);
+        if (doc.isEmpty() && readModelMigrationService.migrateLegacy(platformDocId)) {
+            doc = platformDocRepository.findById(platformDocId);
         }
+        return doc.orElseThrow(() -> {
+            logger.warn("Platform document not found");
+            return new EntityNotFoundException(Constants.NOT_FOUND + platformDocId);
+        });
     }
 }
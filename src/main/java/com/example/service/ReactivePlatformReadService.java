@@ -0,0 +1,247 @@
+package com.example.service;
+
+// DTOs
+import com.example.dto.CourseDTO;
+import com.example.dto.UserDTO;
+// Constants for messages
+import com.example.constants.Constants;
+// MongoDB documents and embedded classes
+import com.example.document.EnrollmentBucketDocument;
+import com.example.document.PlatformDocument;
+import com.example.document.PlatformDocument.CourseEmbed;
+// Migration of legacy string-keyed documents
+import com.example.sync.ReadModelMigrationService;
+
+// JPA exception
+import jakarta.persistence.EntityNotFoundException;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// BSON document
+import org.bson.Document;
+
+// Spring reactive MongoDB and service
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+// Reactor
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Non-blocking read service for the platform read model in MongoDB.
+ * <p>
+ * Counterpart of the Mongo reads in {@link PlatformService}, built on the reactive
+ * driver. Results are produced by server-side aggregations and streamed element
+ * by element, so the cursor is only advanced as fast as the client consumes.
+ * </p>
+ */
+@Service
+public class ReactivePlatformReadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactivePlatformReadService.class);
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final ReadModelMigrationService readModelMigrationService;
+    private final AggregationOptions aggregationOptions;
+
+    /**
+     * Constructor for ReactivePlatformReadService.
+     *
+     * @param reactiveMongoTemplate reactive template for MongoDB
+     * @param readModelMigrationService migration of documents still keyed by string IDs
+     * @param cursorBatchSize number of documents fetched per cursor round trip
+     */
+    public ReactivePlatformReadService(ReactiveMongoTemplate reactiveMongoTemplate,
+                                       ReadModelMigrationService readModelMigrationService,
+                                       @Value("${app.mongo.reactive.cursor-batch-size:500}") int cursorBatchSize) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.readModelMigrationService = readModelMigrationService;
+        this.aggregationOptions = AggregationOptions.builder()
+                .allowDiskUse(true)
+                .cursorBatchSize(cursorBatchSize)
+                .build();
+    }
+
+    /**
+     * Streams users enrolled in a platform's courses, de-duplicated by the server.
+     *
+     * @param platformDocId MongoDB document ID of platform
+     * @return flux of UserDTOs with enrolled course IDs
+     */
+    public Flux<UserDTO> streamUsersByPlatformId(Long platformDocId) {
+        logger.info("Streaming users from MongoDB");
+
+        return requireLayout(platformDocId)
+                .flatMapMany(layout -> {
+                    if (layout.isBucketed()) {
+                        return reactiveMongoTemplate.aggregate(usersFromBuckets(platformDocId, layout.getBucketStamp()),
+                                Document.class);
+                    }
+                    return layout.getSchemaVersion() >= 2
+                            ? reactiveMongoTemplate.aggregate(usersFromUserTable(platformDocId),
+                                    reactiveMongoTemplate.getCollectionName(PlatformDocument.class), Document.class)
+                            : reactiveMongoTemplate.aggregate(usersFromEmbeddedUsers(platformDocId), Document.class);
+                })
+                .map(this::toUserDTO);
+    }
+
+    /**
+     * Streams courses embedded in a platform's MongoDB document.
+     *
+     * @param platformDocId MongoDB document ID of platform
+     * @return flux of CourseDTOs
+     */
+    public Flux<CourseDTO> streamCoursesByPlatformId(Long platformDocId) {
+        logger.info("Streaming courses from MongoDB");
+
+        TypedAggregation<PlatformDocument> aggregation = newAggregation(PlatformDocument.class,
+                match(where("id").is(platformDocId)),
+                unwind("courses"),
+                replaceRoot("courses"),
+                project().andExclude("enrolledUsers", "userIds")
+        ).withOptions(aggregationOptions);
+
+        return requireLayout(platformDocId)
+                .thenMany(reactiveMongoTemplate.aggregate(aggregation, CourseEmbed.class))
+                .map(c -> new CourseDTO(c.getId(), c.getTitle()));
+    }
+
+    /**
+     * Version 1 documents: groups the users embedded in each course by ID.
+     *
+     * @param platformDocId MongoDB document ID of platform
+     * @return aggregation producing _id, name, email and courseIds
+     */
+    private TypedAggregation<PlatformDocument> usersFromEmbeddedUsers(Long platformDocId) {
+        return newAggregation(PlatformDocument.class,
+                match(where("id").is(platformDocId)),
+                unwind("courses"),
+                unwind("courses.enrolledUsers"),
+                group("courses.enrolledUsers.id")
+                        .first("courses.enrolledUsers.name").as("name")
+                        .first("courses.enrolledUsers.email").as("email")
+                        .addToSet("courses.id").as("courseIds")
+        ).withOptions(aggregationOptions);
+    }
+
+    /**
+     * Version 2 documents: turns the course user ID arrays into (user, course)
+     * pairs, appends the platform's user table with {@code $unionWith} and
+     * groups both by user ID. Linear in the number of enrollments.
+     *
+     * @param platformDocId MongoDB document ID of platform
+     * @return aggregation producing _id, name, email and courseIds
+     */
+    private Aggregation usersFromUserTable(Long platformDocId) {
+        String collection = reactiveMongoTemplate.getCollectionName(PlatformDocument.class);
+        Document matchPlatform = new Document("$match", new Document("_id", platformDocId));
+        return newAggregation(
+                stage(matchPlatform),
+                stage(new Document("$unwind", "$courses")),
+                stage(new Document("$unwind", "$courses.userIds")),
+                stage(new Document("$project", new Document("_id", "$courses.userIds")
+                        .append("courseId", "$courses._id"))),
+                stage(new Document("$unionWith", new Document("coll", collection)
+                        .append("pipeline", List.of(
+                                matchPlatform,
+                                new Document("$unwind", "$users"),
+                                new Document("$replaceRoot", new Document("newRoot", "$users")))))),
+                stage(new Document("$group", new Document("_id", "$_id")
+                        .append("name", new Document("$max", "$name"))
+                        .append("email", new Document("$max", "$email"))
+                        .append("courseIds", new Document("$addToSet", "$courseId"))))
+        ).withOptions(aggregationOptions);
+    }
+
+    /**
+     * Bucketed platforms: groups the users of the enrollment buckets named by
+     * the platform document by ID.
+     *
+     * @param platformDocId MongoDB document ID of platform
+     * @param bucketStamp stamp of the document's buckets, or null for documents
+     *                    written before buckets were stamped
+     * @return aggregation producing _id, name, email and courseIds
+     */
+    private TypedAggregation<EnrollmentBucketDocument> usersFromBuckets(Long platformDocId, Long bucketStamp) {
+        Criteria buckets = where("platformId").is(platformDocId);
+        if (bucketStamp != null) {
+            buckets = buckets.and("syncStamp").is(bucketStamp);
+        }
+        return newAggregation(EnrollmentBucketDocument.class,
+                match(buckets),
+                unwind("users"),
+                group("users.id")
+                        .first("users.name").as("name")
+                        .first("users.email").as("email")
+                        .addToSet("courseId").as("courseIds")
+        ).withOptions(aggregationOptions);
+    }
+
+    private static AggregationOperation stage(Document stage) {
+        return context -> stage;
+    }
+
+    /**
+     * Resolves the schema version and layout of a platform document, erroring before any
+     * element is emitted if it does not exist so the failure maps to a regular
+     * 404. A legacy string-keyed document is migrated first, on a
+     * blocking-friendly scheduler; legacy documents are version 1.
+     *
+     * @param platformDocId MongoDB document ID of platform
+     * @return the document with only schemaVersion, bucketed and bucketStamp loaded, or an
+     *         EntityNotFoundException error
+     */
+    private Mono<PlatformDocument> requireLayout(Long platformDocId) {
+        Query byId = query(where("id").is(platformDocId));
+        byId.fields().include("schemaVersion", "bucketed", "bucketStamp");
+        return reactiveMongoTemplate.findOne(byId, PlatformDocument.class)
+                .switchIfEmpty(Mono.fromCallable(() -> readModelMigrationService.migrateLegacy(platformDocId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(migrated -> {
+                            if (migrated) {
+                                return Mono.just(new PlatformDocument());
+                            }
+                            logger.warn("Platform document not found");
+                            return Mono.error(new EntityNotFoundException(Constants.NOT_FOUND + platformDocId));
+                        }));
+    }
+
+    /**
+     * Maps one $group result row to a UserDTO.
+     *
+     * @param row aggregation output with _id, name, email and courseIds
+     * @return UserDTO
+     */
+    private UserDTO toUserDTO(Document row) {
+        Collection<?> courseIds = row.get("courseIds", Collection.class);
+        return new UserDTO(
+                row.getLong("_id"),
+                row.getString("name"),
+                row.getString("email"),
+                courseIds == null ? null : courseIds.stream()
+                        .filter(Objects::nonNull)
+                        .map(id -> ((Number) id).longValue())
+                        .collect(Collectors.toSet())
+        );
+    }
+}
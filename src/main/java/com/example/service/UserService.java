@@ -1,5 +1,7 @@
 package com.example.service;
 
+// Change log for delta sync
+import com.example.changes.ChangeLogService;
 // Constants for messages
 import com.example.constants.Constants;
 // DTOs and mappers
@@ -8,15 +10,18 @@ import com.example.mapper.UserMapper;
 // Entities
 import com.example.entity.Course;
 import com.example.entity.User;
+// In-memory enrollment index
+import com.example.index.EnrollmentIndexService;
 // Repositories
 import com.example.repo.CourseRepository;
 import com.example.repo.UserRepository;
+// Incremental enrollment counters
+import com.example.stats.EnrollmentCounterService;
 // Sync service for platforms
 import com.example.sync.PlatformSyncService;
 
-// Exceptions and transactions
+// JPA exception
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 
 // Logging
 import org.slf4j.Logger;
@@ -28,6 +33,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -45,6 +51,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final PlatformSyncService platformSyncService;
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final ChangeLogService changeLogService;
 
     /**
      * Constructor for UserService.
@@ -52,14 +61,23 @@ public class UserService {
      * @param userRepository repository for User entities
      * @param courseRepository repository for Course entities
      * @param platformSyncService service to sync affected platforms
+     * @param enrollmentIndexService in-memory enrollment index updated after commit
+     * @param enrollmentCounterService enrollment counters updated after commit
+     * @param changeLogService change log recording enrollment changes for delta sync
      */
     @Autowired
     public UserService(UserRepository userRepository,
                        CourseRepository courseRepository,
-                       PlatformSyncService platformSyncService) {
+                       PlatformSyncService platformSyncService,
+                       EnrollmentIndexService enrollmentIndexService,
+                       EnrollmentCounterService enrollmentCounterService,
+                       ChangeLogService changeLogService) {
         this.userRepository = userRepository;
         this.courseRepository = courseRepository;
         this.platformSyncService = platformSyncService;
+        this.enrollmentIndexService = enrollmentIndexService;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.changeLogService = changeLogService;
     }
 
     /**
@@ -69,6 +87,7 @@ public class UserService {
      * @param size number of users per page
      * @return list of users in the requested page
      */
+    @Transactional(readOnly = true)
     public List<User> getAllUsers(int page, int size) {
         logger.info("Fetching paginated users");
 
@@ -87,6 +106,7 @@ public class UserService {
      * @return user entity if found
      * @throws EntityNotFoundException if user not found
      */
+    @Transactional(readOnly = true)
     public User getUserById(Long id) {
         logger.info("Fetching user by ID");
 
@@ -106,6 +126,7 @@ public class UserService {
      * @return created user entity
      * @throws IllegalArgumentException if email already exists
      */
+    @Transactional
     public User createUser(User user) {
         logger.info("Creating user");
 
@@ -116,6 +137,9 @@ public class UserService {
 
         User saved = userRepository.save(user);
         logger.debug("User created successfully");
+        enrollmentIndexService.userCoursesChanged(saved);
+        enrollmentCounterService.enrollmentsChanged(Collections.emptySet(), saved.getCourses());
+        changeLogService.enrollmentsChanged(saved.getId(), Collections.emptySet(), saved.getCourses());
 
         platformSyncService.syncAllAffectedPlatforms(saved);
         logger.info("Triggered platform sync after user creation");
@@ -134,6 +158,7 @@ public class UserService {
      * @throws EntityNotFoundException if user not found
      * @throws IllegalArgumentException if new email already exists on another user
      */
+    @Transactional
     public User updateUser(Long id, User userDetails) {
         logger.info("Updating user");
 
@@ -152,14 +177,23 @@ public class UserService {
         user.setName(userDetails.getName());
         user.setEmail(userDetails.getEmail());
 
+        Set<Course> originalCourses = user.getCourses() == null ? Set.of() : new HashSet<>(user.getCourses());
         if (userDetails.getCourses() != null) {
             user.setCourses(userDetails.getCourses());
         }
 
         User updated = userRepository.save(user);
         logger.debug("User updated successfully");
+        enrollmentIndexService.userCoursesChanged(updated);
+        enrollmentCounterService.enrollmentsChanged(originalCourses, updated.getCourses());
+        changeLogService.enrollmentsChanged(id, originalCourses, updated.getCourses());
 
-        platformSyncService.syncAllAffectedPlatforms(updated);
+        if (userDetails.getCourses() != null) {
+            platformSyncService.syncAllAffectedPlatforms(updated);
+        } else {
+            // Enrollments unchanged: only the name and email in the read model change
+            platformSyncService.syncUserProfile(updated);
+        }
         logger.info("Triggered platform sync after user update");
 
         return updated;
@@ -190,6 +224,9 @@ public class UserService {
 
         userRepository.deleteById(id);
         logger.debug("User deleted successfully");
+        enrollmentIndexService.userDeleted(id);
+        enrollmentCounterService.enrollmentsChanged(user.getCourses(), Collections.emptySet());
+        changeLogService.enrollmentsChanged(id, user.getCourses(), Collections.emptySet());
 
         return dto;
     }
@@ -237,6 +274,9 @@ public class UserService {
 
         User updated = userRepository.save(user);
         logger.debug("Course enrollments updated for user");
+        enrollmentIndexService.userCoursesChanged(updated);
+        enrollmentCounterService.enrollmentsChanged(originalCourses, updated.getCourses());
+        changeLogService.enrollmentsChanged(userId, originalCourses, updated.getCourses());
 
         Set<Course> allAffected = new HashSet<>(originalCourses);
         allAffected.addAll(user.getCourses());
@@ -246,4 +286,93 @@ public class UserService {
 
         return updated;
     }
+
+    /**
+     * Applies a micro-batch of enrollment requests in a single transaction.
+     * Users and courses are loaded with one query each, the join table is
+     * written through Hibernate's JDBC batching, and every affected platform
+     * is synced once for the whole batch.
+     * Requests referencing unknown users or courses are rejected individually
+     * and do not affect the rest of the batch.
+     * <p>
+     * Each request replaces the user's enrollments, so only the last valid
+     * request of a user is written; if the user's latest request is rejected,
+     * the one before it stands, as if the requests ran one after another.
+     * </p>
+     *
+     * @param courseIdsByUser requested course IDs keyed by user ID, in arrival order
+     * @return per user, a failure message for each request in the same order, or null where it was applied
+     */
+    @Transactional
+    public Map<Long, List<String>> applyEnrollmentBatch(Map<Long, List<Set<Long>>> courseIdsByUser) {
+        logger.info("Applying enrollment batch");
+
+        Map<Long, List<String>> failures = new HashMap<>();
+        if (courseIdsByUser == null || courseIdsByUser.isEmpty()) {
+            return failures;
+        }
+
+        Map<Long, User> usersById = userRepository.findAllById(courseIdsByUser.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, u -> u));
+
+        Set<Long> allCourseIds = courseIdsByUser.values().stream()
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        Map<Long, Course> coursesById = allCourseIds.isEmpty()
+                ? Collections.emptyMap()
+                : courseRepository.findAllById(allCourseIds).stream()
+                        .collect(Collectors.toMap(Course::getId, c -> c));
+
+        List<User> toSave = new ArrayList<>();
+        Set<Course> allAffected = new HashSet<>();
+
+        for (Map.Entry<Long, List<Set<Long>>> entry : courseIdsByUser.entrySet()) {
+            Long userId = entry.getKey();
+            List<Set<Long>> requests = entry.getValue();
+            List<String> userFailures = new ArrayList<>(Collections.nCopies(requests.size(), null));
+            failures.put(userId, userFailures);
+
+            User user = usersById.get(userId);
+            if (user == null) {
+                Collections.fill(userFailures, Constants.NOT_FOUND + userId);
+                continue;
+            }
+
+            Set<Long> courseIds = null;
+            for (int i = 0; i < requests.size(); i++) {
+                Set<Long> requested = requests.get(i) == null ? Collections.emptySet() : requests.get(i);
+                Set<Long> missingIds = requested.stream()
+                        .filter(id -> !coursesById.containsKey(id))
+                        .collect(Collectors.toSet());
+                if (missingIds.isEmpty()) {
+                    courseIds = requested;
+                } else {
+                    userFailures.set(i, Constants.NOT_FOUND + missingIds);
+                }
+            }
+            if (courseIds == null) {
+                continue;
+            }
+
+            Set<Course> originalCourses = new HashSet<>(user.getCourses());
+            user.getCourses().clear();
+            courseIds.forEach(id -> user.getCourses().add(coursesById.get(id)));
+            enrollmentCounterService.enrollmentsChanged(originalCourses, user.getCourses());
+            changeLogService.enrollmentsChanged(userId, originalCourses, user.getCourses());
+            allAffected.addAll(originalCourses);
+            allAffected.addAll(user.getCourses());
+            toSave.add(user);
+        }
+
+        userRepository.saveAll(toSave);
+        toSave.forEach(enrollmentIndexService::userCoursesChanged);
+        logger.debug("Applied enrollments of {} users", toSave.size());
+
+        platformSyncService.syncPlatformsByCourses(allAffected);
+        logger.info("Triggered platform sync after enrollment batch");
+
+        return failures;
+    }
 }
@@ -0,0 +1,363 @@
+package com.example.stats;
+
+// DTOs
+import com.example.dto.EnrollmentStatsDTO;
+// Constants for messages
+import com.example.constants.Constants;
+// Entities
+import com.example.entity.Course;
+import com.example.entity.CourseEnrollmentCount;
+import com.example.entity.Platform;
+// Exceptions
+import com.example.exceptions.ServiceOverloadedException;
+// Repositories
+import com.example.repo.CourseEnrollmentCountRepository;
+import com.example.repo.CourseRepository;
+import com.example.repo.PlatformRepository;
+
+// JPA exception and lifecycle annotations
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, task execution and transactions
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains per-course enrollment counts incrementally.
+ * <p>
+ * The services report enrollment changes, which are added to the in-memory
+ * {@link EnrollmentCounters} after their transaction commits. A background
+ * loop adds the pending deltas to the {@code course_enrollment_counts} table
+ * every {@code app.enrollment-counters.flush-interval-ms}. A stats read is a
+ * primary-key read of the persisted count (a sum over the platform's courses
+ * for platforms) plus this instance's unflushed delta, so counts written by
+ * other instances show up after their next flush. A lock keeps a flush from
+ * removing the delta between the two reads; it is a
+ * {@link ReentrantReadWriteLock}, so virtual threads do not pin their carrier.
+ * </p>
+ * <p>
+ * The table is filled from the join table only when it is empty on start, or
+ * when {@link #recount()} is triggered from the admin API. The fill runs on
+ * the sync executor, reads the join table without locking it and upserts the
+ * count of each course, so instances starting together write the same values.
+ * </p>
+ */
+@Service
+public class EnrollmentCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentCounterService.class);
+
+    private final CourseEnrollmentCountRepository countRepository;
+    private final CourseRepository courseRepository;
+    private final PlatformRepository platformRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor syncTaskExecutor;
+    private final long flushIntervalMs;
+
+    private final EnrollmentCounters counters = new EnrollmentCounters();
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean filling = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile boolean loaded;
+    private volatile Instant flushedAt;
+
+    /**
+     * Constructor for EnrollmentCounterService.
+     *
+     * @param countRepository repository for the persisted course counts
+     * @param courseRepository repository used to check that a course exists
+     * @param platformRepository repository used to check that a platform exists
+     * @param transactionManager transaction manager for flushes and fills
+     * @param syncTaskExecutor executor running the flush loop and fills
+     * @param flushIntervalMs pause between flushes
+     */
+    public EnrollmentCounterService(CourseEnrollmentCountRepository countRepository,
+                                    CourseRepository courseRepository,
+                                    PlatformRepository platformRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                                    @Value("${app.enrollment-counters.flush-interval-ms:5000}") long flushIntervalMs) {
+        this.countRepository = countRepository;
+        this.courseRepository = courseRepository;
+        this.platformRepository = platformRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    /** Starts the flush loop, and fills the counts in the background if the table is empty. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        syncTaskExecutor.execute(this::flushLoop);
+        syncTaskExecutor.execute(() -> {
+            try {
+                if (countRepository.count() > 0) {
+                    loaded = true;
+                    logger.info("Enrollment counters loaded");
+                } else {
+                    fill();
+                }
+            } catch (RuntimeException e) {
+                logger.error("Enrollment counters could not be loaded: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /** Stops the flush loop and flushes the remaining deltas. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    /**
+     * Starts recounting the persisted counts from the join table in the
+     * background, unless a recount is already running.
+     *
+     * @return true if a recount was started
+     */
+    public boolean recount() {
+        if (filling.get()) return false;
+        syncTaskExecutor.execute(() -> {
+            try {
+                fill();
+            } catch (RuntimeException e) {
+                logger.error("Enrollment counter recount failed: {}", e.getMessage(), e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Records that a user's enrollments changed from one set of courses to
+     * another; applied after commit.
+     *
+     * @param before courses before the change
+     * @param after courses after the change
+     */
+    public void enrollmentsChanged(Collection<Course> before, Collection<Course> after) {
+        Map<Long, Course> removed = byId(before);
+        Map<Long, Course> added = byId(after);
+        removed.keySet().removeIf(id -> added.remove(id) != null);
+        if (removed.isEmpty() && added.isEmpty()) return;
+
+        Map<Long, Long> platformOfRemoved = platformIds(removed);
+        Map<Long, Long> platformOfAdded = platformIds(added);
+        afterCommit(() -> {
+            platformOfRemoved.forEach((courseId, platformId) -> counters.add(courseId, platformId, -1));
+            platformOfAdded.forEach((courseId, platformId) -> counters.add(courseId, platformId, 1));
+        });
+    }
+
+    /**
+     * Deletes the count of a deleted course in the caller's transaction and
+     * drops its pending deltas after commit.
+     *
+     * @param course deleted course
+     */
+    public void courseDeleted(Course course) {
+        Long courseId = course.getId();
+        countRepository.deleteCount(courseId);
+        afterCommit(() -> {
+            flushLock.writeLock().lock();
+            try {
+                counters.discardCourse(courseId);
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Records that a platform and its courses were deleted.
+     *
+     * @param platform deleted platform with its courses
+     */
+    public void platformDeleted(Platform platform) {
+        if (platform.getCourses() != null) {
+            platform.getCourses().forEach(this::courseDeleted);
+        }
+    }
+
+    /**
+     * Returns the enrollment count of a course.
+     *
+     * @param courseId course ID
+     * @return course stats
+     * @throws EntityNotFoundException if the course does not exist
+     * @throws ServiceOverloadedException if the counts are still being filled
+     */
+    public EnrollmentStatsDTO getCourseStats(Long courseId) {
+        requireLoaded();
+        flushLock.readLock().lock();
+        try {
+            // A count only exists for an existing course, so the existence check is only needed without one
+            Optional<CourseEnrollmentCount> persisted = countRepository.findById(courseId);
+            if (persisted.isEmpty() && !courseRepository.existsById(courseId)) {
+                logger.warn(Constants.ENTITY_NOT_FOUND);
+                throw new EntityNotFoundException(Constants.NOT_FOUND + courseId);
+            }
+            long count = persisted.map(CourseEnrollmentCount::getEnrollments).orElse(0L) + counters.courseDelta(courseId);
+            return new EnrollmentStatsDTO(courseId, count, flushedAt);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the enrollment count of a platform, summed over its courses.
+     *
+     * @param platformId platform ID
+     * @return platform stats
+     * @throws EntityNotFoundException if the platform does not exist
+     * @throws ServiceOverloadedException if the counts are still being filled
+     */
+    public EnrollmentStatsDTO getPlatformStats(Long platformId) {
+        requireLoaded();
+        if (!platformRepository.existsById(platformId)) {
+            logger.warn(Constants.ENTITY_NOT_FOUND);
+            throw new EntityNotFoundException(Constants.NOT_FOUND + platformId);
+        }
+        flushLock.readLock().lock();
+        try {
+            long count = countRepository.sumForPlatform(platformId) + counters.platformDelta(platformId);
+            return new EnrollmentStatsDTO(platformId, count, flushedAt);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the pending deltas to the persisted counts.
+     */
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            EnrollmentCounters.Snapshot pending = counters.pending();
+            if (pending.isEmpty()) return;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                pending.courses().forEach((courseId, delta) -> {
+                    if (countRepository.increment(courseId, delta) == 0) {
+                        countRepository.insertIfCourseExists(courseId, delta);
+                    }
+                });
+                countRepository.deleteEmpty();
+            });
+            counters.flushed(pending);
+            flushedAt = Instant.now();
+            logger.debug("Flushed enrollment counters of {} courses", pending.courses().size());
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the persisted counts from the join table, course by course. Stats
+     * answer 503 while it runs. Pending deltas are dropped, since the count
+     * includes every committed change; changes committed while it runs may
+     * be counted twice.
+     */
+    private void fill() {
+        if (!filling.compareAndSet(false, true)) return;
+        flushLock.writeLock().lock();
+        boolean wasLoaded = loaded;
+        loaded = false;
+        try {
+            counters.flushed(counters.pending());
+            Integer courses = transactionTemplate.execute(status -> {
+                Map<Long, Long> counts = new HashMap<>();
+                countRepository.countEnrollments()
+                        .forEach(row -> counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue()));
+                counts.forEach((courseId, enrollments) -> {
+                    if (countRepository.setCount(courseId, enrollments) == 0) {
+                        countRepository.insertIfCourseExists(courseId, enrollments);
+                    }
+                });
+                List<Long> stale = countRepository.findAllCourseIds().stream()
+                        .filter(courseId -> !counts.containsKey(courseId))
+                        .toList();
+                countRepository.deleteAllByIdInBatch(stale);
+                return counts.size();
+            });
+            flushedAt = Instant.now();
+            wasLoaded = true;
+            logger.info("Enrollment counters filled for {} courses", courses);
+        } finally {
+            loaded = wasLoaded;
+            flushLock.writeLock().unlock();
+            filling.set(false);
+        }
+    }
+
+    /** Flush loop body, run until {@link #stop()}. */
+    private void flushLoop() {
+        while (running) {
+            try {
+                Thread.sleep(flushIntervalMs);
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Enrollment counter flush failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void requireLoaded() {
+        if (!loaded) {
+            throw new ServiceOverloadedException("Enrollment counters are not available", 5);
+        }
+    }
+
+    private static Map<Long, Course> byId(Collection<Course> courses) {
+        Map<Long, Course> byId = new HashMap<>();
+        if (courses != null) {
+            courses.forEach(course -> byId.put(course.getId(), course));
+        }
+        return byId;
+    }
+
+    /** Maps course IDs to platform IDs; the values may be null. */
+    private static Map<Long, Long> platformIds(Map<Long, Course> courses) {
+        Map<Long, Long> platformIds = new HashMap<>();
+        courses.forEach((id, course) -> platformIds.put(id, platformId(course)));
+        return platformIds;
+    }
+
+    private static Long platformId(Course course) {
+        return course.getPlatform() == null ? null : course.getPlatform().getId();
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
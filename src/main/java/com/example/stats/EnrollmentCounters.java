@@ -0,0 +1,142 @@
+package com.example.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-course and per-platform enrollment deltas not yet added to the
+ * persisted counts.
+ * <p>
+ * Deltas go to {@link LongAdder}s, which stripe contended updates across
+ * cells, so concurrent enrollments in one popular course do not serialize on
+ * a single counter. A flush takes the pending deltas with {@link #pending()},
+ * persists them and hands them back to {@link #flushed(Snapshot)}, which
+ * subtracts them; deltas added in between stay pending. Reads are a map
+ * lookup plus an adder sum. A caller adding a delta to a persisted total must
+ * keep {@link #flushed(Snapshot)} from running between the two reads.
+ * </p>
+ */
+public class EnrollmentCounters {
+
+    /**
+     * Pending deltas of a flush, per course and platform pair.
+     *
+     * @param pairs deltas keyed by course and platform
+     */
+    public record Snapshot(Map<Pair, Long> pairs) {
+
+        /** Deltas summed per course. */
+        public Map<Long, Long> courses() {
+            Map<Long, Long> courses = new HashMap<>();
+            pairs.forEach((pair, delta) -> courses.merge(pair.courseId(), delta, Long::sum));
+            return courses;
+        }
+
+        /** Whether the snapshot holds no deltas. */
+        public boolean isEmpty() {
+            return pairs.isEmpty();
+        }
+    }
+
+    /**
+     * A course with the platform it belonged to when the enrollment changed.
+     *
+     * @param courseId course ID
+     * @param platformId platform ID, or null
+     */
+    public record Pair(Long courseId, Long platformId) {}
+
+    private final ConcurrentHashMap<Pair, LongAdder> pairDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> courseDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> platformDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * Adds enrollments to a course and its platform.
+     *
+     * @param courseId course enrolled in
+     * @param platformId platform of the course, or null
+     * @param delta enrollments added (negative when removed)
+     */
+    public void add(Long courseId, Long platformId, long delta) {
+        if (delta == 0) return;
+        pairDeltas.computeIfAbsent(new Pair(courseId, platformId), pair -> new LongAdder()).add(delta);
+        courseDeltas.computeIfAbsent(courseId, id -> new LongAdder()).add(delta);
+        if (platformId != null) {
+            platformDeltas.computeIfAbsent(platformId, id -> new LongAdder()).add(delta);
+        }
+    }
+
+    /**
+     * Returns the pending delta of a course.
+     *
+     * @param courseId course to count
+     * @return enrollments added since the last flush
+     */
+    public long courseDelta(Long courseId) {
+        return sum(courseDeltas.get(courseId));
+    }
+
+    /**
+     * Returns the pending delta of the courses of a platform.
+     *
+     * @param platformId platform to count
+     * @return enrollments added since the last flush
+     */
+    public long platformDelta(Long platformId) {
+        return sum(platformDeltas.get(platformId));
+    }
+
+    /**
+     * Returns the pending, non-zero deltas. Course and platform deltas are
+     * both derived from the same per-pair sums, so a flush never includes an
+     * enrollment in a course's count but not in its platform's.
+     *
+     * @return deltas not yet flushed
+     */
+    public Snapshot pending() {
+        Map<Pair, Long> sums = new HashMap<>();
+        pairDeltas.forEach((pair, adder) -> {
+            long sum = adder.sum();
+            if (sum != 0) sums.put(pair, sum);
+        });
+        return new Snapshot(sums);
+    }
+
+    /**
+     * Removes flushed deltas. Deltas added since {@link #pending()} stay pending.
+     *
+     * @param flushed deltas now persisted
+     */
+    public void flushed(Snapshot flushed) {
+        flushed.pairs().forEach(this::subtract);
+    }
+
+    /**
+     * Drops the pending deltas of a deleted course.
+     *
+     * @param courseId deleted course
+     */
+    public void discardCourse(Long courseId) {
+        pairDeltas.forEach((pair, adder) -> {
+            if (pair.courseId().equals(courseId)) {
+                subtract(pair, adder.sum());
+            }
+        });
+    }
+
+    private void subtract(Pair pair, long delta) {
+        if (delta == 0) return;
+        // An add can be counted in its pair before it reaches the course and platform adders
+        pairDeltas.get(pair).add(-delta);
+        courseDeltas.computeIfAbsent(pair.courseId(), id -> new LongAdder()).add(-delta);
+        if (pair.platformId() != null) {
+            platformDeltas.computeIfAbsent(pair.platformId(), id -> new LongAdder()).add(-delta);
+        }
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+}
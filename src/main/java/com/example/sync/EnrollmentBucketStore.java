@@ -0,0 +1,124 @@
+package com.example.sync;
+
+// Document classes for MongoDB
+import com.example.document.EnrollmentBucketDocument;
+// Entities
+import com.example.entity.User;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations and MongoDB
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Writes the enrollment buckets of bucketed platforms.
+ * <p>
+ * A sync inserts a complete set of buckets under a fresh sync stamp, points
+ * the platform document at that stamp, and only then removes the platform's
+ * buckets carrying any other stamp. Readers follow the stamp in the document,
+ * so they see either the previous set or the new one, never a mix.
+ * </p>
+ */
+@Component
+public class EnrollmentBucketStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrollmentBucketStore.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Constructor for EnrollmentBucketStore.
+     *
+     * @param mongoTemplate template for the enrollment_buckets collection
+     */
+    public EnrollmentBucketStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Creates the index used to read and prune a platform's buckets, replacing
+     * the unstamped index of earlier versions, which would reject a second set.
+     * Failure is logged rather than fatal, so the service still starts while
+     * MongoDB is unreachable.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            var indexOps = mongoTemplate.indexOps(EnrollmentBucketDocument.class);
+            if (indexOps.getIndexInfo().stream().anyMatch(index -> index.getName().equals("platform_course_bucket"))) {
+                indexOps.dropIndex("platform_course_bucket");
+            }
+            indexOps.createIndex(new Index()
+                    .on("platformId", Sort.Direction.ASC)
+                    .on("syncStamp", Sort.Direction.ASC)
+                    .on("courseId", Sort.Direction.ASC)
+                    .on("bucketNo", Sort.Direction.ASC)
+                    .unique()
+                    .named("platform_stamp_course_bucket"));
+        } catch (RuntimeException e) {
+            logger.warn("Could not create enrollment bucket index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Inserts the buckets of one sync; they stay invisible to readers until
+     * the platform document names their stamp.
+     *
+     * @param buckets buckets built with one sync stamp
+     */
+    public void write(List<EnrollmentBucketDocument> buckets) {
+        if (buckets.isEmpty()) return;
+        mongoTemplate.bulkOps(BulkMode.UNORDERED, EnrollmentBucketDocument.class)
+                .insert(buckets)
+                .execute();
+    }
+
+    /**
+     * Removes the platform's buckets not written by the given sync. Call only
+     * after the platform document names that stamp.
+     *
+     * @param platformId platform ID
+     * @param syncStamp stamp of the buckets to keep
+     */
+    public void removeStale(Long platformId, long syncStamp) {
+        mongoTemplate.remove(query(where("platformId").is(platformId).and("syncStamp").ne(syncStamp)),
+                EnrollmentBucketDocument.class);
+    }
+
+    /**
+     * Removes all buckets of a platform.
+     *
+     * @param platformId platform ID
+     */
+    public void removeAll(Long platformId) {
+        mongoTemplate.remove(query(where("platformId").is(platformId)), EnrollmentBucketDocument.class);
+    }
+
+    /**
+     * Updates a user's name and email in every bucket of a platform.
+     *
+     * @param platformId platform ID
+     * @param user user with the new profile
+     * @return number of buckets containing the user
+     */
+    public long updateUser(Long platformId, User user) {
+        return mongoTemplate.updateMulti(
+                query(where("platformId").is(platformId).and("users.id").is(user.getId())),
+                new Update().set("users.$.name", user.getName()).set("users.$.email", user.getEmail()),
+                EnrollmentBucketDocument.class).getMatchedCount();
+    }
+}
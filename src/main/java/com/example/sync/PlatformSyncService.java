@@ -1,112 +1,266 @@
 package com.example.sync;
 
+// Leaderboards materialized from syncs
+import com.example.analytics.LeaderboardService;
 // Entities
 import com.example.entity.Course;
 import com.example.entity.Platform;
 import com.example.entity.User;
 // Document classes for MongoDB
+import com.example.document.EnrollmentBucketDocument;
 import com.example.document.PlatformDocument;
-import com.example.document.PlatformDocument.CourseEmbed;
-import com.example.document.PlatformDocument.UserEmbed;
+// Platform change feed
+// Flight Recorder event
+import com.example.jfr.SyncEvent;
+// Mapper utility
+import com.example.mapper.PlatformMapper;
 // Repositories
 import com.example.repo.PlatformDocRepository;
+import com.example.repo.PlatformRepository;
 import com.example.repo.UserRepository;
+// Bulkheads
+import com.example.resilience.BulkheadRegistry;
+import com.example.resilience.Lane;
 
-// Transaction management
+// Lifecycle annotations and transaction management
+import jakarta.annotation.PreDestroy;
 import jakarta.transaction.Transactional;
 
-// Spring stereotype
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring configuration, MongoDB, task execution, stereotype and transaction synchronization
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
 /**
  * Service responsible for synchronizing Platform data
  * between relational database and MongoDB documents.
+ * <p>
+ * Syncs requested within a transaction run once it has committed, one per
+ * platform, in the {@link Lane#SYNC} bulkhead. A sync that is rejected by the
+ * bulkhead or fails in MongoDB does not fail the SQL write: the platform is
+ * marked stale and synced again by a background loop every
+ * {@code app.sync.stale-retry-ms}. Writes of one platform are serialized
+ * within this instance, so overlapping syncs (a queue batch and an HTTP
+ * write, say) cannot remove each other's enrollment buckets.
+ * </p>
  */
 @Service
 public class PlatformSyncService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PlatformSyncService.class);
+
     private final PlatformDocRepository platformDocRepository;
+    private final PlatformRepository platformRepository;
     private final UserRepository userRepository;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ReadModelMigrationService readModelMigrationService;
+    private final MongoTemplate mongoTemplate;
+    private final EnrollmentBucketStore enrollmentBucketStore;
+    private final LeaderboardService leaderboardService;
+    private final TaskExecutor syncTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final long bucketThreshold;
+    private final int bucketSize;
+    private final long staleRetryMs;
+
+    private final Set<Long> stalePlatformIds = ConcurrentHashMap.newKeySet();
+    private final Lock[] platformLocks = new Lock[64];
+    private volatile boolean running = true;
 
     /**
      * Constructs a PlatformSyncService.
      *
      * @param platformDocRepository repository for platform documents in MongoDB
+     * @param platformRepository repository reloading stale platforms
      * @param userRepository repository for User entities
+     * @param bulkheadRegistry bulkheads; syncs run in the {@link Lane#SYNC} lane
+     * @param readModelMigrationService migration of documents still keyed by string IDs
+     * @param mongoTemplate template for in-place updates of platform documents
+     * @param enrollmentBucketStore writer of the enrollment buckets of large platforms
+     * @param leaderboardService leaderboards updated from every written document
+     * @param syncTaskExecutor executor running the stale platform loop
+     * @param transactionManager transaction manager for reloading stale platforms
+     * @param bucketThreshold enrollments above which a platform is stored in buckets
+     * @param bucketSize maximum number of users per enrollment bucket
+     * @param staleRetryMs pause between retries of platforms whose sync failed
      */
     public PlatformSyncService(PlatformDocRepository platformDocRepository,
-                               UserRepository userRepository) {
+                               PlatformRepository platformRepository,
+                               UserRepository userRepository,
+                               BulkheadRegistry bulkheadRegistry,
+                               ReadModelMigrationService readModelMigrationService,
+                               MongoTemplate mongoTemplate,
+                               EnrollmentBucketStore enrollmentBucketStore,
+                               LeaderboardService leaderboardService,
+                               @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.sync.bucket-threshold:50000}") long bucketThreshold,
+                               @Value("${app.sync.bucket-size:1000}") int bucketSize,
+                               @Value("${app.sync.stale-retry-ms:10000}") long staleRetryMs) {
         this.platformDocRepository = platformDocRepository;
+        this.platformRepository = platformRepository;
         this.userRepository = userRepository;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.readModelMigrationService = readModelMigrationService;
+        this.mongoTemplate = mongoTemplate;
+        this.enrollmentBucketStore = enrollmentBucketStore;
+        this.leaderboardService = leaderboardService;
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bucketThreshold = bucketThreshold;
+        this.bucketSize = bucketSize;
+        this.staleRetryMs = staleRetryMs;
+        Arrays.setAll(platformLocks, i -> new ReentrantLock());
+    }
+
+    /** Starts the loop retrying stale platforms. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        syncTaskExecutor.execute(this::staleLoop);
+    }
+
+    /** Stops the stale platform loop. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Returns the number of platforms whose last sync failed and awaits a retry.
+     *
+     * @return number of stale platforms
+     */
+    public int getStalePlatformCount() {
+        return stalePlatformIds.size();
     }
 
     /**
-     * Synchronizes a Platform entity and its related data to MongoDB.
-     * Embeds courses and enrolled users into a PlatformDocument.
+     * Synchronizes a Platform entity and its related data to MongoDB once the
+     * current transaction commits. Embeds courses and enrolled users into a
+     * PlatformDocument. Runs in the SYNC bulkhead lane; a rejected or failed
+     * sync marks the platform stale instead of failing the caller.
      *
      * @param platform platform entity to sync
      */
     @Transactional
     public void syncToMongo(Platform platform) {
         if (platform == null) return;
+        afterCommit(platform.getId(), () -> writeDocument(platform), true);
+    }
 
-        // Collect all course IDs for the platform
-        Set<Long> courseIds = platform.getCourses().stream()
-                .map(Course::getId)
-                .collect(Collectors.toSet());
-
-        // Fetch all users enrolled in these courses with a single query
-        List<User> users = userRepository.findAllByCoursesIdIn(courseIds);
-
-        // Map each course ID to a list of UserEmbed objects for enrolled users
-        Map<Long, List<UserEmbed>> usersByCourseId = new HashMap<>();
-        for (User user : users) {
-            for (Course course : user.getCourses()) {
-                Long cId = course.getId();
-                if (courseIds.contains(cId)) {
-                    usersByCourseId
-                        .computeIfAbsent(cId, k -> new ArrayList<>())
-                        .add(new UserEmbed(
-                            user.getId().toString(),
-                            user.getName(),
-                            user.getEmail()
-                        ));
-                }
-            }
+    /**
+     * Builds and saves the PlatformDocument for a platform. Platforms with more
+     * enrollments than the bucket threshold are written as a bucketed document
+     * plus enrollment buckets under a new sync stamp: the buckets are inserted
+     * first, the document then switches to their stamp, and the previous set
+     * is removed last, so readers see either the previous document and its
+     * buckets or the new ones.
+     * Recorded as a {@link SyncEvent} when Flight Recorder is running.
+     *
+     * @param platform platform entity to sync
+     */
+    private void writeDocument(Platform platform) {
+        Lock lock = lockFor(platform.getId());
+        lock.lock();
+        try {
+            writeDocumentLocked(platform);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        // Create embedded course objects with their respective enrolled users
-        List<CourseEmbed> courseEmbeds = platform.getCourses().stream()
-                .map(course -> new CourseEmbed(
-                        course.getId().toString(),
-                        course.getTitle(),
-                        usersByCourseId.getOrDefault(course.getId(), Collections.emptyList())
-                ))
-                .toList();
+    private void writeDocumentLocked(Platform platform) {
+        SyncEvent event = SyncEvent.start(platform.getId());
+        PlatformDocument doc = null;
+        boolean success = false;
+        try {
+            // Collect all course IDs for the platform
+            Set<Long> courseIds = platform.getCourses().stream()
+                    .map(Course::getId)
+                    .collect(Collectors.toSet());
 
-        // Construct and save the platform document with embedded data
-        PlatformDocument doc = new PlatformDocument(
-                platform.getName(),
-                courseEmbeds
-        );
+            // Fetch all users enrolled in these courses with a single query
+            List<User> users = userRepository.findAllByCoursesIdIn(courseIds);
 
-        doc.setId(String.valueOf(platform.getId()));
-        platformDocRepository.save(doc);
+            long enrollments = users.stream()
+                    .flatMap(u -> u.getCourses().stream())
+                    .filter(c -> courseIds.contains(c.getId()))
+                    .count();
+
+            if (enrollments > bucketThreshold) {
+                long syncStamp = ThreadLocalRandom.current().nextLong();
+                List<EnrollmentBucketDocument> buckets =
+                        PlatformMapper.toBuckets(platform, users, bucketSize, syncStamp);
+                enrollmentBucketStore.write(buckets);
+                doc = PlatformMapper.toBucketedDocument(platform, users, syncStamp);
+                platformDocRepository.save(doc);
+                enrollmentBucketStore.removeStale(platform.getId(), syncStamp);
+            } else {
+                // Build and save the platform document with embedded data
+                doc = PlatformMapper.toDocument(platform, users);
+                platformDocRepository.save(doc);
+                // Drops the buckets of a platform that shrank below the threshold
+                enrollmentBucketStore.removeAll(platform.getId());
+            }
+            leaderboardService.platformSynced(doc);
+            success = true;
+        } finally {
+            event.finish(doc, success);
+        }
     }
 
     /**
-     * Deletes a Platform document from MongoDB by platform ID.
+     * Deletes a Platform document from MongoDB by platform ID once the current
+     * transaction commits, including a legacy string-keyed copy that has not
+     * been migrated yet, its enrollment buckets and its leaderboard entries,
+     * and publishes the deletion.
      *
      * @param platformId ID of the platform to delete from MongoDB
      */
     @Transactional
     public void deletePlatformFromMongo(Long platformId) {
         if (platformId == null) return;
-        platformDocRepository.findById(String.valueOf(platformId))
-                .ifPresent(platformDocRepository::delete);
+        afterCommit(platformId, () -> removeDocument(platformId), true);
+    }
+
+    private void removeDocument(Long platformId) {
+        Lock lock = lockFor(platformId);
+        lock.lock();
+        try {
+            platformDocRepository.deleteById(platformId);
+            readModelMigrationService.deleteLegacy(platformId);
+            enrollmentBucketStore.removeAll(platformId);
+            leaderboardService.platformDeleted(platformId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lock lockFor(Long platformId) {
+        return platformLocks[Math.floorMod(platformId.hashCode(), platformLocks.length)];
     }
 
     /**
@@ -127,6 +281,48 @@ public class PlatformSyncService {
         platforms.forEach(this::syncToMongo);
     }
 
+    /**
+     * Propagates a change of a user's name or email to the platforms of the
+     * user's courses. Documents with a user table (schema version 2) are
+     * updated in place with a single positional update, bucketed platforms
+     * with one update of their buckets and a touch of the document, which
+     * puts the change on the platform event feed; older documents are rebuilt with
+     * {@link #syncToMongo(Platform)}.
+     *
+     * @param user user whose profile changed; enrollments must be unchanged
+     */
+    @Transactional
+    public void syncUserProfile(User user) {
+        if (user == null || user.getCourses() == null) return;
+
+        Set<Platform> platforms = user.getCourses().stream()
+                .map(Course::getPlatform)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Update profile = new Update()
+                .set("users.$.name", user.getName())
+                .set("users.$.email", user.getEmail());
+        for (Platform platform : platforms) {
+            // A full sync of the platform in the same transaction already covers the profile
+            afterCommit(platform.getId(), () -> {
+                long matched = mongoTemplate.updateFirst(
+                        query(where("id").is(platform.getId())
+                                .and("schemaVersion").gte(2)
+                                .and("users.id").is(user.getId())),
+                        profile, PlatformDocument.class).getMatchedCount();
+                if (matched == 0 && enrollmentBucketStore.updateUser(platform.getId(), user) > 0) {
+                    // Bucket writes are not on the platform event feed; a write to the document is
+                    matched = mongoTemplate.updateFirst(query(where("id").is(platform.getId())),
+                            new Update().currentDate("usersUpdatedAt"), PlatformDocument.class).getMatchedCount();
+                }
+                if (matched == 0) {
+                    writeDocument(platform);
+                }
+            }, false);
+        }
+    }
+
     /**
      * Synchronizes all platforms affected by a collection of courses.
      * Useful for bulk updates affecting multiple courses/platforms.
@@ -144,4 +340,88 @@ public class PlatformSyncService {
 
         platforms.forEach(this::syncToMongo);
     }
+
+    /**
+     * Runs a platform's sync once the current transaction commits, or right
+     * away outside a transaction. Within a transaction only the last full sync
+     * or delete per platform runs, as it writes the state at commit time.
+     *
+     * @param platformId platform the task writes
+     * @param task MongoDB writes for the platform
+     * @param replace whether the task supersedes one already pending for the platform
+     */
+    @SuppressWarnings("unchecked")
+    private void afterCommit(Long platformId, Runnable task, boolean replace) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            runGuarded(platformId, task);
+            return;
+        }
+
+        Map<Long, Runnable> pending = (Map<Long, Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Long, Runnable> tasks = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, tasks);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tasks.forEach(PlatformSyncService.this::runGuarded);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PlatformSyncService.this);
+                }
+            });
+            pending = tasks;
+        }
+        if (replace) {
+            pending.remove(platformId);
+            pending.put(platformId, task);
+        } else {
+            pending.putIfAbsent(platformId, task);
+        }
+    }
+
+    /**
+     * Runs a platform's sync in the SYNC lane; a rejection or failure marks
+     * the platform stale.
+     */
+    private void runGuarded(Long platformId, Runnable task) {
+        try {
+            bulkheadRegistry.get(Lane.SYNC).run(task);
+        } catch (RuntimeException e) {
+            if (stalePlatformIds.add(platformId)) {
+                logger.warn("Sync of platform {} failed, retrying later: {}", platformId, e.getMessage());
+            }
+        }
+    }
+
+    /** Stale platform loop body, run until {@link #stop()}. */
+    private void staleLoop() {
+        while (running) {
+            try {
+                Thread.sleep(staleRetryMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            for (Long platformId : List.copyOf(stalePlatformIds)) {
+                if (!running) return;
+                stalePlatformIds.remove(platformId);
+                try {
+                    // Read-write template: the primary has the state the failed sync was meant to write
+                    transactionTemplate.executeWithoutResult(status -> {
+                        Optional<Platform> platform = platformRepository.findById(platformId);
+                        bulkheadRegistry.get(Lane.SYNC).run(platform.isPresent()
+                                ? () -> writeDocument(platform.get())
+                                : () -> removeDocument(platformId));
+                    });
+                    logger.info("Resynced stale platform {}", platformId);
+                } catch (RuntimeException e) {
+                    stalePlatformIds.add(platformId);
+                    logger.debug("Retry of stale platform {} failed: {}", platformId, e.getMessage());
+                }
+            }
+        }
+    }
 }
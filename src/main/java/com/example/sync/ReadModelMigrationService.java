@@ -0,0 +1,291 @@
+package com.example.sync;
+
+// DTOs
+import com.example.dto.ReadModelMigrationDTO;
+// Document classes for MongoDB
+import com.example.document.PlatformDocument;
+// Repositories
+import com.example.repo.PlatformRepository;
+
+// MongoDB driver
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+
+// BSON
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring annotations, MongoDB and task execution
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Online migration of platform documents from string IDs to 64-bit integer IDs.
+ * <p>
+ * A background job walks the documents whose {@code _id} is still a string in
+ * batches, inserts a copy with numeric platform, course and user IDs and then
+ * deletes the original. While it runs, reads that miss a numeric document
+ * migrate the legacy one on demand through {@link #migrateLegacy(Long)}.
+ * If a sync already wrote the numeric document, the legacy one is simply
+ * dropped, since the sync is newer. The legacy document can also disappear
+ * because another reader, the job or a sync migrated or deleted it first, so
+ * a copy is only undone when the platform no longer exists in SQL.
+ * </p>
+ */
+@Service
+public class ReadModelMigrationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelMigrationService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final PlatformRepository platformRepository;
+    private final TransactionTemplate primaryRead;
+    private final TaskExecutor syncTaskExecutor;
+    private final boolean runOnStartup;
+    private final int batchSize;
+    private final long batchPauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong migrated = new AtomicLong();
+    private final AtomicLong superseded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean complete;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    /**
+     * Constructor for ReadModelMigrationService.
+     *
+     * @param mongoTemplate template for the platforms collection
+     * @param platformRepository repository checking whether a migrated platform still exists
+     * @param transactionManager transaction manager; the check runs in a read-write transaction on the primary
+     * @param syncTaskExecutor executor running the migration job
+     * @param runOnStartup whether to start the job once the application is ready
+     * @param batchSize legacy documents migrated per batch
+     * @param batchPauseMs pause between batches to limit the load on MongoDB
+     */
+    public ReadModelMigrationService(MongoTemplate mongoTemplate,
+                                     PlatformRepository platformRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Qualifier("syncTaskExecutor") TaskExecutor syncTaskExecutor,
+                                     @Value("${app.read-model.migration.run-on-startup:true}") boolean runOnStartup,
+                                     @Value("${app.read-model.migration.batch-size:200}") int batchSize,
+                                     @Value("${app.read-model.migration.batch-pause-ms:50}") long batchPauseMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.platformRepository = platformRepository;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.syncTaskExecutor = syncTaskExecutor;
+        this.runOnStartup = runOnStartup;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+    }
+
+    /** Starts the migration job once the application is ready, if enabled. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (runOnStartup) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the migration job unless it is already running.
+     *
+     * @return current migration status
+     */
+    public ReadModelMigrationDTO start() {
+        if (running.compareAndSet(false, true)) {
+            startedAt = Instant.now();
+            finishedAt = null;
+            syncTaskExecutor.execute(this::migrateAll);
+        }
+        return getStatus();
+    }
+
+    /**
+     * Returns the progress of the migration.
+     *
+     * @return migration status
+     */
+    public ReadModelMigrationDTO getStatus() {
+        return new ReadModelMigrationDTO(running.get(), complete, migrated.get(), superseded.get(), failed.get(),
+                startedAt, finishedAt);
+    }
+
+    /**
+     * Migrates the legacy document of one platform, if there is one.
+     * Called by readers that found no numeric document.
+     *
+     * @param platformId SQL ID of the platform
+     * @return whether a numeric document exists afterwards
+     */
+    public boolean migrateLegacy(Long platformId) {
+        if (complete || platformId == null) return false;
+        Document legacy = collection().find(Filters.eq("_id", String.valueOf(platformId))).first();
+        return legacy != null && migrate(legacy);
+    }
+
+    /**
+     * Deletes the legacy document of a platform, if there is one.
+     *
+     * @param platformId SQL ID of the platform
+     */
+    public void deleteLegacy(Long platformId) {
+        if (complete || platformId == null) return;
+        collection().deleteOne(Filters.eq("_id", String.valueOf(platformId)));
+    }
+
+    /** Job body: migrates batches of legacy documents until none are left. */
+    private void migrateAll() {
+        logger.info("Read model ID migration started");
+        try {
+            String lastId = "";
+            boolean skippedAny = false;
+            while (true) {
+                Bson legacyAfterLast = Filters.and(Filters.type("_id", BsonType.STRING), Filters.gt("_id", lastId));
+                List<Document> batch = collection().find(legacyAfterLast)
+                        .sort(Sorts.ascending("_id"))
+                        .limit(batchSize)
+                        .into(new ArrayList<>());
+                if (batch.isEmpty()) break;
+
+                for (Document legacy : batch) {
+                    skippedAny |= !migrate(legacy);
+                    lastId = legacy.getString("_id");
+                }
+                Thread.sleep(batchPauseMs);
+            }
+            complete = !skippedAny;
+            logger.info("Read model ID migration finished: {} migrated, {} superseded, {} failed",
+                    migrated.get(), superseded.get(), failed.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Read model ID migration failed: {}", e.getMessage(), e);
+        } finally {
+            finishedAt = Instant.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * Replaces one legacy document with its numeric copy.
+     *
+     * @param legacy document with a string _id
+     * @return whether a numeric document exists afterwards
+     */
+    private boolean migrate(Document legacy) {
+        Object legacyId = legacy.get("_id");
+        Document numeric = toNumericIds(legacy);
+        if (numeric == null) {
+            failed.incrementAndGet();
+            logger.warn("Platform document {} has non-numeric IDs, left unmigrated", legacyId);
+            return false;
+        }
+
+        MongoCollection<Document> collection = collection();
+        boolean inserted;
+        try {
+            collection.insertOne(numeric);
+            inserted = true;
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) throw e;
+            inserted = false;
+        }
+
+        collection.deleteOne(Filters.eq("_id", legacyId));
+
+        // The legacy document may have been removed by a concurrent migration or
+        // sync as well as by a platform delete; only the latter leaves no platform.
+        // Syncs delete documents after the SQL delete committed, so a copy inserted
+        // before that is removed by the sync and one inserted after it is seen here.
+        if (inserted && !platformExists(numeric.getLong("_id"))) {
+            collection.deleteOne(Filters.eq("_id", numeric.get("_id")));
+            return false;
+        }
+
+        (inserted ? migrated : superseded).incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Checks on the primary whether a platform exists; a replica could still
+     * show a platform whose delete has committed.
+     */
+    private boolean platformExists(Long platformId) {
+        return Boolean.TRUE.equals(primaryRead.execute(status -> platformRepository.existsById(platformId)));
+    }
+
+    /**
+     * Copies a platform document with its platform, course and user IDs
+     * converted to longs. Spring Data stores the {@code id} of the embedded
+     * courses and users as {@code _id} as well.
+     *
+     * @param legacy document to convert
+     * @return converted copy, or null if an ID is not numeric
+     */
+    private static Document toNumericIds(Document legacy) {
+        try {
+            Document numeric = withNumericId(legacy);
+
+            List<?> courses = legacy.getList("courses", Object.class);
+            if (courses != null) {
+                List<Document> numericCourses = new ArrayList<>(courses.size());
+                for (Object c : courses) {
+                    Document course = withNumericId((Document) c);
+
+                    List<?> users = course.getList("enrolledUsers", Object.class);
+                    if (users != null) {
+                        List<Document> numericUsers = new ArrayList<>(users.size());
+                        for (Object u : users) {
+                            numericUsers.add(withNumericId((Document) u));
+                        }
+                        course.put("enrolledUsers", numericUsers);
+                    }
+                    numericCourses.add(course);
+                }
+                numeric.put("courses", numericCourses);
+            }
+            return numeric;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Shallow copy with {@code _id} converted to a long, if present. */
+    private static Document withNumericId(Document source) {
+        Document copy = new Document(source);
+        Object id = source.get("_id");
+        if (id != null && !(id instanceof Long)) {
+            copy.put("_id", id instanceof Number n ? n.longValue() : Long.parseLong(id.toString()));
+        }
+        return copy;
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(PlatformDocument.class));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.timing;
+
+import java.util.Locale;
+
+/**
+ * Per-request accumulator of time spent in JDBC statements, MongoDB commands
+ * and response serialization.
+ * <p>
+ * An instance is bound to the request thread by {@link ServerTimingFilter};
+ * the JDBC and Mongo listeners and the JSON converter add to it through
+ * {@link #current()}. Work done on other threads (e.g. the reactive streaming
+ * endpoints or the enrollment consumer) finds no instance and is not counted.
+ * Instances are confined to one thread and are not thread-safe.
+ * </p>
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+
+    private int jdbcCount;
+    private long jdbcNanos;
+    private long jdbcStartNanos;
+    private int mongoCount;
+    private long mongoNanos;
+    private long serializationNanos;
+    private boolean headerWritten;
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Binds a new accumulator to the current thread.
+     *
+     * @return the new accumulator
+     */
+    static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /** Unbinds the accumulator from the current thread. */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the accumulator of the request handled by the current thread.
+     *
+     * @return the accumulator, or null outside a timed request
+     */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    /** Marks the start of a JDBC statement execution. */
+    public void jdbcStarted() {
+        jdbcStartNanos = System.nanoTime();
+    }
+
+    /** Marks the end of the JDBC statement execution started last. */
+    public void jdbcFinished() {
+        jdbcCount++;
+        jdbcNanos += System.nanoTime() - jdbcStartNanos;
+    }
+
+    /**
+     * Adds a completed MongoDB command.
+     *
+     * @param nanos command duration reported by the driver
+     */
+    public void mongoCommand(long nanos) {
+        mongoCount++;
+        mongoNanos += nanos;
+    }
+
+    /**
+     * Adds time spent serializing the response body.
+     *
+     * @param nanos serialization duration
+     */
+    public void serialization(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    /** Returns the number of JDBC statements executed. */
+    public int getJdbcCount() {
+        return jdbcCount;
+    }
+
+    /** Returns the number of MongoDB commands executed. */
+    public int getMongoCount() {
+        return mongoCount;
+    }
+
+    /** Returns the time spent in JDBC statements, in nanoseconds. */
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /** Returns the time spent in MongoDB commands, in nanoseconds. */
+    public long getMongoNanos() {
+        return mongoNanos;
+    }
+
+    /** Returns the time spent serializing the response body, in nanoseconds. */
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    /** Returns the elapsed time since the request started, in nanoseconds. */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /** Returns whether the Server-Timing header has already been added to the response. */
+    boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    /** Records that the Server-Timing header has been added to the response. */
+    void markHeaderWritten() {
+        headerWritten = true;
+    }
+
+    /**
+     * Formats the accumulated timings as a {@code Server-Timing} header value,
+     * e.g. {@code db;dur=12.4;desc="5 statements", mongo;dur=3.1;desc="1 commands", ser;dur=0.8, app;dur=4.0, total;dur=20.3}.
+     * {@code app} is the remainder of the total not spent in the other categories.
+     *
+     * @return header value
+     */
+    public String toHeaderValue() {
+        return headerValue(true);
+    }
+
+    /**
+     * Formats the timings as a {@code Server-Timing} header value without
+     * {@code ser}, for a body streamed before its serialization finished.
+     *
+     * @return header value
+     */
+    String toHeaderValueWithoutSerialization() {
+        return headerValue(false);
+    }
+
+    private String headerValue(boolean withSerialization) {
+        long total = elapsedNanos();
+        long app = Math.max(0, total - jdbcNanos - mongoNanos - serializationNanos);
+        return "db;dur=" + millis(jdbcNanos) + ";desc=\"" + jdbcCount + " statements\", "
+                + "mongo;dur=" + millis(mongoNanos) + ";desc=\"" + mongoCount + " commands\", "
+                + (withSerialization ? "ser;dur=" + millis(serializationNanos) + ", " : "")
+                + "app;dur=" + millis(app) + ", "
+                + "total;dur=" + millis(total);
+    }
+
+    /**
+     * Formats the accumulated timings as {@code key=value} pairs for the slow request log.
+     *
+     * @return log fields
+     */
+    public String toLogFields() {
+        long total = elapsedNanos();
+        return "total_ms=" + millis(total)
+                + " db_count=" + jdbcCount + " db_ms=" + millis(jdbcNanos)
+                + " mongo_count=" + mongoCount + " mongo_ms=" + millis(mongoNanos)
+                + " ser_ms=" + millis(serializationNanos);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.timing;
+
+// Jackson
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// MongoDB driver events
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+
+// datasource-proxy
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+// Spring annotations and Boot configuration
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request database time breakdown, enabled by {@code app.server-timing.enabled}.
+ * <p>
+ * JDBC statements are timed through the datasource proxy (see
+ * {@link com.example.config.DataSourceProxyConfig}), MongoDB commands through a
+ * driver command listener, and JSON serialization through
+ * {@link TimingJackson2HttpMessageConverter} (CBOR and Smile through the
+ * converters of {@link com.example.config.BinaryFormatConfig}). The totals are returned in the
+ * {@code Server-Timing} header of every response and logged for requests above
+ * {@code app.server-timing.slow-request-threshold-ms}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    /**
+     * Filter binding the per-request accumulator; runs first so the timing covers the whole chain.
+     *
+     * @param slowThresholdMs requests taking at least this long are logged
+     * @return filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${app.server-timing.slow-request-threshold-ms:500}") long slowThresholdMs) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(slowThresholdMs));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * JSON converter replacing Boot's default one, adding serialization time.
+     *
+     * @param objectMapper the application's ObjectMapper
+     * @param maxBufferBytes body size above which the body is streamed without serialization time
+     * @return converter
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${app.server-timing.max-buffer-bytes:262144}") int maxBufferBytes) {
+        return new TimingJackson2HttpMessageConverter(objectMapper, maxBufferBytes);
+    }
+
+    /**
+     * Adds each JDBC statement execution to the current request's timing.
+     *
+     * @return query listener picked up by the datasource proxy
+     */
+    @Bean
+    public QueryExecutionListener serverTimingQueryListener() {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) timing.jdbcStarted();
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) timing.jdbcFinished();
+            }
+        };
+    }
+
+    /**
+     * Adds each MongoDB command to the current request's timing. The driver
+     * calls the listener on the thread running the command, so only commands
+     * issued by the blocking client on the request thread are attributed.
+     *
+     * @return customizer registering the command listener on the Mongo clients
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer serverTimingMongoCustomizer() {
+        CommandListener listener = new CommandListener() {
+            @Override
+            public void commandSucceeded(CommandSucceededEvent event) {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) timing.mongoCommand(event.getElapsedTime(TimeUnit.NANOSECONDS));
+            }
+
+            @Override
+            public void commandFailed(CommandFailedEvent event) {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) timing.mongoCommand(event.getElapsedTime(TimeUnit.NANOSECONDS));
+            }
+        };
+        return builder -> builder.addCommandListener(listener);
+    }
+}
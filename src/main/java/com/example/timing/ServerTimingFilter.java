@@ -0,0 +1,59 @@
+package com.example.timing;
+
+// Jakarta Servlet
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Logging
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Web
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds a {@link RequestTiming} to each request, adds the {@code Server-Timing}
+ * header when the response body did not already do so, and logs one line for
+ * requests slower than the configured threshold.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    /** Name of the response header. */
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final long slowThresholdNanos;
+
+    /**
+     * Constructor for ServerTimingFilter.
+     *
+     * @param slowThresholdMs requests taking at least this long are logged
+     */
+    public ServerTimingFilter(long slowThresholdMs) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTiming.clear();
+            if (!timing.isHeaderWritten() && !response.isCommitted()) {
+                response.setHeader(HEADER, timing.toHeaderValue());
+            }
+            if (timing.elapsedNanos() >= slowThresholdNanos) {
+                logger.warn("Slow request method={} uri={} status={} {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), timing.toLogFields());
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.timing;
+
+// Spring HTTP
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffered body write shared by the timing message converters.
+ * <p>
+ * Within a timed request the body is serialized into a buffer first, so the
+ * {@code Server-Timing} header, which must precede the body, can include the
+ * serialization time. A body outgrowing the buffer limit is streamed instead:
+ * the header is sent without {@code ser} and the rest is written directly, so
+ * large responses are never held in memory. Outside a timed request (e.g.
+ * elements of a streaming response written from another thread) the body is
+ * written directly.
+ * </p>
+ */
+final class TimedBody {
+
+    /** Serializes a body to an output message. */
+    @FunctionalInterface
+    interface Writer {
+        void write(HttpOutputMessage outputMessage) throws IOException;
+    }
+
+    private TimedBody() {}
+
+    /**
+     * Writes a body, adding its serialization time to the current request's timing.
+     *
+     * @param outputMessage message to write to
+     * @param maxBufferBytes body size above which the body is streamed without {@code ser} in the header
+     * @param writer serializer of the body
+     * @throws IOException if writing fails
+     */
+    static void write(HttpOutputMessage outputMessage, int maxBufferBytes, Writer writer) throws IOException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null || timing.isHeaderWritten()) {
+            writer.write(outputMessage);
+            return;
+        }
+
+        SpillingBuffer body = new SpillingBuffer(outputMessage, timing, maxBufferBytes);
+        long start = System.nanoTime();
+        writer.write(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        // Still reported in the slow request log when the header went out without it
+        timing.serialization(System.nanoTime() - start);
+        if (body.isSpilled()) return;
+
+        outputMessage.getHeaders().set(ServerTimingFilter.HEADER, timing.toHeaderValue());
+        outputMessage.getHeaders().setContentLength(body.buffer.size());
+        timing.markHeaderWritten();
+        body.buffer.writeTo(outputMessage.getBody());
+    }
+
+    /** Buffer that switches to writing through once it would exceed its limit. */
+    private static final class SpillingBuffer extends OutputStream {
+        final FastByteArrayOutputStream buffer = new FastByteArrayOutputStream(1024);
+        private final HttpOutputMessage target;
+        private final RequestTiming timing;
+        private final int maxBytes;
+        private OutputStream direct;
+
+        SpillingBuffer(HttpOutputMessage target, RequestTiming timing, int maxBytes) {
+            this.target = target;
+            this.timing = timing;
+            this.maxBytes = maxBytes;
+        }
+
+        boolean isSpilled() {
+            return direct != null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out(1).write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out(len).write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (direct != null) direct.flush();
+        }
+
+        private OutputStream out(int len) throws IOException {
+            if (direct == null && buffer.size() + len > maxBytes) {
+                target.getHeaders().set(ServerTimingFilter.HEADER, timing.toHeaderValueWithoutSerialization());
+                timing.markHeaderWritten();
+                direct = target.getBody();
+                buffer.writeTo(direct);
+                buffer.reset();
+            }
+            return direct != null ? direct : buffer;
+        }
+    }
+}
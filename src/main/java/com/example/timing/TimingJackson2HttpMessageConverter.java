@@ -0,0 +1,44 @@
+package com.example.timing;
+
+// Jackson
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Spring HTTP
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that measures serialization time for the {@code Server-Timing} header.
+ * <p>
+ * Within a timed request the body is serialized into a buffer first, so the
+ * header, which must precede the body, can include the serialization time;
+ * bodies above the buffer limit are streamed without it (see {@link TimedBody}).
+ * Outside a timed request (e.g. elements of a streaming response written from
+ * another thread) it behaves exactly like {@link MappingJackson2HttpMessageConverter}.
+ * </p>
+ */
+public class TimingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final int maxBufferBytes;
+
+    /**
+     * Constructor for TimingJackson2HttpMessageConverter.
+     *
+     * @param objectMapper the application's ObjectMapper
+     * @param maxBufferBytes body size above which the body is streamed without serialization time
+     */
+    public TimingJackson2HttpMessageConverter(ObjectMapper objectMapper, int maxBufferBytes) {
+        super(objectMapper);
+        this.maxBufferBytes = maxBufferBytes;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        TimedBody.write(outputMessage, maxBufferBytes, message -> super.writeInternal(object, type, message));
+    }
+}
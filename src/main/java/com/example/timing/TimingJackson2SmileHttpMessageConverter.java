@@ -0,0 +1,38 @@
+package com.example.timing;
+
+// Jackson
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Spring HTTP
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Smile converter that measures serialization time for the {@code Server-Timing}
+ * header, like {@link TimingJackson2HttpMessageConverter} does for JSON.
+ */
+public class TimingJackson2SmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    private final int maxBufferBytes;
+
+    /**
+     * Constructor for TimingJackson2SmileHttpMessageConverter.
+     *
+     * @param objectMapper ObjectMapper backed by a {@code SmileFactory}
+     * @param maxBufferBytes body size above which the body is streamed without serialization time
+     */
+    public TimingJackson2SmileHttpMessageConverter(ObjectMapper objectMapper, int maxBufferBytes) {
+        super(objectMapper);
+        this.maxBufferBytes = maxBufferBytes;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        TimedBody.write(outputMessage, maxBufferBytes, message -> super.writeInternal(object, type, message));
+    }
+}
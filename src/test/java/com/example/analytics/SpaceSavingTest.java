@@ -0,0 +1,67 @@
+package com.example.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+    @Test
+    void countsAreExactWhileUnderCapacity() {
+        SpaceSaving<String> summary = new SpaceSaving<>(10);
+        summary.offer("a", 3);
+        summary.offer("b", 5);
+        summary.offer("a", 4);
+        summary.offer("c", 0);
+
+        List<SpaceSaving.Entry<String>> top = summary.top(5);
+        assertEquals(2, top.size());
+        assertEquals(new SpaceSaving.Entry<>("a", 7, 0), top.get(0));
+        assertEquals(new SpaceSaving.Entry<>("b", 5, 0), top.get(1));
+        assertEquals(12, summary.total());
+    }
+
+    @Test
+    void newKeyReplacesMinimumAndInheritsItsCountAsError() {
+        SpaceSaving<String> summary = new SpaceSaving<>(2);
+        summary.offer("a", 10);
+        summary.offer("b", 2);
+        summary.offer("c", 1);
+
+        assertEquals(2, summary.size());
+        assertEquals(List.of(new SpaceSaving.Entry<>("a", 10, 0), new SpaceSaving.Entry<>("c", 3, 2)), summary.top(2));
+    }
+
+    @Test
+    void heavyHittersAreTrackedWithinErrorBounds() {
+        SpaceSaving<Integer> summary = new SpaceSaving<>(50);
+        Map<Integer, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // Keys 0-4 take about half the weight, the rest spreads over 10,000 keys
+            int key = random.nextBoolean() ? random.nextInt(5) : 5 + random.nextInt(10_000);
+            summary.offer(key, 1);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        List<SpaceSaving.Entry<Integer>> top = summary.top(5);
+        for (SpaceSaving.Entry<Integer> entry : top) {
+            assertTrue(entry.key() < 5, "unexpected heavy hitter " + entry.key());
+            long trueCount = exact.get(entry.key());
+            assertTrue(entry.count() >= trueCount);
+            assertTrue(entry.count() - entry.error() <= trueCount);
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSaving<>(0));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.changes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.example.dto.ChangesDTO;
+import com.example.dto.EnrollmentDTO;
+import com.example.entity.ChangeLogEntry;
+import com.example.entity.ChangeLogEntry.EntityType;
+import com.example.entity.Course;
+import com.example.entity.Platform;
+import com.example.repo.ChangeLogRepository;
+import com.example.repo.CourseRepository;
+import com.example.repo.PlatformRepository;
+import com.example.repo.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ChangeLogServiceTest {
+
+    private static final String ALLOCATE = "UPDATE change_log_sequence";
+    private static final String LAST_ID = "SELECT last_id";
+
+    private final ChangeLogRepository changeLogRepository = mock(ChangeLogRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final ChangeLogService service = new ChangeLogService(changeLogRepository, mock(PlatformRepository.class),
+            mock(CourseRepository.class), userRepository, jdbcTemplate, entityManager,
+            mock(PlatformTransactionManager.class), new SyncTaskExecutor(), 100, Duration.ofDays(30), 60_000, true);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void transactionBatchTakesConsecutiveSequencesAfterFlushing() {
+        when(jdbcTemplate.update(startsWith(ALLOCATE), eq(3))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(startsWith(LAST_ID), eq(Long.class))).thenReturn(12L);
+        Platform platform = new Platform("platform");
+        platform.setId(1L);
+        platform.setCourses(new LinkedHashSet<>(List.of(course(10L, platform), course(11L, platform))));
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.platformChanged(platform);
+        service.platformChanged(platform);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        commit();
+
+        InOrder order = inOrder(entityManager, jdbcTemplate);
+        order.verify(entityManager).flush();
+        order.verify(jdbcTemplate).update(startsWith(ALLOCATE), eq(3));
+        List<Object[]> rows = insertedRows();
+        assertEquals(3, rows.size());
+        assertRow(rows.get(0), 10L, "PLATFORM", 1L);
+        assertRow(rows.get(1), 11L, "COURSE", 10L);
+        assertRow(rows.get(2), 12L, "COURSE", 11L);
+    }
+
+    @Test
+    void missingCounterRowIsCreatedBeforeAllocating() {
+        when(jdbcTemplate.update(startsWith(ALLOCATE), eq(1))).thenReturn(0, 1);
+        when(jdbcTemplate.queryForObject(startsWith(LAST_ID), eq(Long.class))).thenReturn(8L);
+
+        service.courseChanged(course(10L, null));
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(startsWith(ALLOCATE), eq(1));
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO change_log_sequence"));
+        order.verify(jdbcTemplate).update(startsWith(ALLOCATE), eq(1));
+        List<Object[]> rows = insertedRows();
+        assertEquals(1, rows.size());
+        assertRow(rows.get(0), 8L, "COURSE", 10L);
+    }
+
+    @Test
+    void tokensOutsideTheRetainedLogRequireAFullSync() {
+        when(changeLogRepository.findMinId()).thenReturn(5L);
+        when(changeLogRepository.findMaxId()).thenReturn(20L);
+
+        assertFullSync(service.getChanges("3", 10), "20");
+        assertFullSync(service.getChanges("21", 10), "20");
+        assertFullSync(service.getChanges(null, 10), "20");
+
+        ChangesDTO fromOldest = service.getChanges("4", 10);
+        assertFalse(fromOldest.isFullSyncRequired());
+        assertEquals("4", fromOldest.getToken());
+        verify(changeLogRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq(4L), any());
+    }
+
+    @Test
+    void malformedTokensAndLimitsAreRejected() {
+        when(changeLogRepository.findMaxId()).thenReturn(20L);
+
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges("abc", 10));
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges("-1", 10));
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges("1", 0));
+        assertThrows(IllegalArgumentException.class, () -> service.getChanges("1", 101));
+    }
+
+    @Test
+    void enrollmentChangesSplitIntoAddedAndRemovedByCurrentState() {
+        when(changeLogRepository.findMinId()).thenReturn(1L);
+        when(changeLogRepository.findMaxId()).thenReturn(4L);
+        List<ChangeLogEntry> entries = List.of(
+                entry(2L, 10L, 100L), entry(3L, 11L, 100L), entry(4L, 10L, 100L));
+        when(changeLogRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any())).thenReturn(entries);
+        when(userRepository.findEnrollments(any(), any())).thenReturn(List.<Object[]>of(new Object[]{100L, 10L, 1L}));
+
+        ChangesDTO changes = service.getChanges("1", 2);
+
+        assertEquals("3", changes.getToken());
+        assertTrue(changes.isHasMore());
+        assertEquals(1, changes.getEnrollments().size());
+        assertEnrollment(changes.getEnrollments().get(0), 10L, 1L);
+        assertEquals(1, changes.getRemovedEnrollments().size());
+        assertEnrollment(changes.getRemovedEnrollments().get(0), 11L, null);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> insertedRows() {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO change_log "), rows.capture(), any(int[].class));
+        return rows.getValue();
+    }
+
+    private static void assertRow(Object[] row, long id, String type, long entityId) {
+        assertEquals(id, row[0]);
+        assertEquals(type, row[1]);
+        assertEquals(entityId, row[2]);
+    }
+
+    private static void assertFullSync(ChangesDTO changes, String token) {
+        assertTrue(changes.isFullSyncRequired());
+        assertEquals(token, changes.getToken());
+    }
+
+    private static void assertEnrollment(EnrollmentDTO enrollment, Long courseId, Long platformId) {
+        assertEquals(100L, enrollment.getUserId());
+        assertEquals(courseId, enrollment.getCourseId());
+        assertEquals(platformId, enrollment.getPlatformId());
+    }
+
+    private static ChangeLogEntry entry(long id, long courseId, long userId) {
+        ChangeLogEntry entry = mock(ChangeLogEntry.class);
+        when(entry.getId()).thenReturn(id);
+        when(entry.getEntityType()).thenReturn(EntityType.ENROLLMENT);
+        when(entry.getEntityId()).thenReturn(courseId);
+        when(entry.getUserId()).thenReturn(userId);
+        return entry;
+    }
+
+    private static Course course(long id, Platform platform) {
+        Course course = new Course("course-" + id, platform);
+        course.setId(id);
+        return course;
+    }
+}
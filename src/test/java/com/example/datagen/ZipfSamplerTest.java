@@ -0,0 +1,51 @@
+package com.example.datagen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ZipfSamplerTest {
+
+    @Test
+    void probabilitiesFollowPowerLawAndSumToOne() {
+        ZipfSampler zipf = new ZipfSampler(1000, 1.0);
+
+        double sum = 0;
+        for (int k = 0; k < 1000; k++) {
+            sum += zipf.probability(k);
+        }
+
+        assertEquals(1.0, sum, 1e-9);
+        assertEquals(2.0, zipf.probability(0) / zipf.probability(1), 1e-9);
+        assertEquals(10.0, zipf.probability(0) / zipf.probability(9), 1e-9);
+    }
+
+    @Test
+    void samplesMatchProbabilitiesAndStayInRange() {
+        ZipfSampler zipf = new ZipfSampler(100, 1.2);
+        SplittableRandom rnd = new SplittableRandom(7);
+        int[] counts = new int[100];
+        int n = 200_000;
+
+        for (int i = 0; i < n; i++) {
+            int rank = zipf.sample(rnd);
+            assertTrue(rank >= 0 && rank < 100, "rank out of range: " + rank);
+            counts[rank]++;
+        }
+
+        assertEquals(zipf.probability(0), counts[0] / (double) n, 0.01);
+        assertEquals(zipf.probability(10), counts[10] / (double) n, 0.005);
+    }
+
+    @Test
+    void zeroExponentIsUniform() {
+        ZipfSampler zipf = new ZipfSampler(4, 0.0);
+
+        for (int k = 0; k < 4; k++) {
+            assertEquals(0.25, zipf.probability(k), 1e-12);
+        }
+    }
+}
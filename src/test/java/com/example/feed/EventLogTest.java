@@ -0,0 +1,49 @@
+package com.example.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class EventLogTest {
+
+    @Test
+    void returnsEventsAfterSequenceInOrder() {
+        EventLog<String> log = new EventLog<>(10);
+        for (int i = 0; i < 5; i++) {
+            log.append(sequence -> "e" + sequence);
+        }
+
+        assertEquals(5, log.latest());
+        assertEquals(List.of("e1", "e2", "e3", "e4", "e5"), log.after(0, 100));
+        assertEquals(List.of("e3", "e4"), log.after(2, 2));
+        assertEquals(List.of(), log.after(5, 100));
+    }
+
+    @Test
+    void reportsGapOnceEventsAreOverwritten() {
+        EventLog<String> log = new EventLog<>(3);
+        for (int i = 0; i < 7; i++) {
+            log.append(sequence -> "e" + sequence);
+        }
+
+        assertEquals(List.of("e5", "e6", "e7"), log.after(4, 100));
+        assertNull(log.after(3, 100));
+        assertNull(log.after(0, 100));
+        assertNull(log.after(8, 100));
+    }
+
+    @Test
+    void findsNewestRetainedMatch() {
+        EventLog<String> log = new EventLog<>(3);
+        for (int i = 0; i < 5; i++) {
+            log.append(sequence -> "e" + sequence % 2);
+        }
+
+        assertEquals(5, log.find("e1"::equals));
+        assertEquals(4, log.find("e0"::equals));
+        assertEquals(-1, log.find("e2"::equals));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+class EnrollmentIndexTest {
+
+    @Test
+    void membershipAndCountsFollowCoursesAndPlatforms() {
+        EnrollmentIndex index = new EnrollmentIndex();
+        index.add(1, 10, 100L);
+        index.add(2, 10, 100L);
+        index.add(2, 11, 100L);
+        index.add(3, 20, 200L);
+
+        assertTrue(index.isEnrolledInCourse(2, 11));
+        assertFalse(index.isEnrolledInCourse(1, 11));
+        assertTrue(index.isEnrolledInPlatform(1, 100));
+        assertFalse(index.isEnrolledInPlatform(3, 100));
+        assertEquals(2, index.countCourseUsers(10));
+        assertEquals(2, index.countPlatformUsers(100));
+        assertEquals(0, index.countCourseUsers(99));
+    }
+
+    @Test
+    void replacingCoursesKeepsPlatformSetsConsistent() {
+        EnrollmentIndex index = new EnrollmentIndex();
+        index.add(1, 10, 100L);
+        index.add(1, 11, 100L);
+        index.add(1, 20, 200L);
+
+        index.replaceUserCourses(1, Map.of(11L, 100L));
+        assertTrue(index.isEnrolledInPlatform(1, 100));
+        assertFalse(index.isEnrolledInPlatform(1, 200));
+        assertFalse(index.isEnrolledInCourse(1, 10));
+
+        index.removeUser(1);
+        assertEquals(0, index.countPlatformUsers(100));
+        assertEquals(0, index.stats().enrollments());
+    }
+
+    @Test
+    void movingAndRemovingCoursesUpdatesPlatforms() {
+        EnrollmentIndex index = new EnrollmentIndex();
+        index.add(1, 10, 100L);
+        index.add(2, 11, 100L);
+
+        index.moveCourse(10, 200L);
+        assertFalse(index.isEnrolledInPlatform(1, 100));
+        assertTrue(index.isEnrolledInPlatform(1, 200));
+
+        index.removeCourse(11);
+        assertEquals(0, index.countPlatformUsers(100));
+
+        index.removePlatform(200);
+        assertEquals(0, index.countCourseUsers(10));
+        assertEquals(0, index.stats().courses());
+    }
+
+    @Test
+    void setOperationsCombineCourses() {
+        EnrollmentIndex index = new EnrollmentIndex();
+        for (long user = 0; user < 10; user++) {
+            index.add(user, 1, 100L);
+            if (user % 2 == 0) index.add(user, 2, 100L);
+        }
+
+        assertEquals(5, index.combine(EnrollmentIndex.Operation.AND, List.of(1L, 2L)).getCardinality());
+        assertEquals(10, index.combine(EnrollmentIndex.Operation.OR, List.of(1L, 2L)).getCardinality());
+        RoaringBitmap odd = index.combine(EnrollmentIndex.Operation.ANDNOT, List.of(1L, 2L));
+        assertEquals(5, odd.getCardinality());
+        assertTrue(odd.contains(3));
+        assertEquals(5, index.combine(EnrollmentIndex.Operation.XOR, List.of(1L, 2L)).getCardinality());
+        assertEquals(0, index.combine(EnrollmentIndex.Operation.AND, List.of(1L, 99L)).getCardinality());
+    }
+
+    @Test
+    void userIdsUseTheFullUnsignedRange() {
+        EnrollmentIndex index = new EnrollmentIndex();
+        long large = 0xFFFF_FFFFL;
+        index.add(large, 1, null);
+
+        assertTrue(index.isEnrolledInCourse(large, 1));
+        RoaringBitmap users = index.combine(EnrollmentIndex.Operation.OR, List.of(1L));
+        assertEquals(large, EnrollmentIndex.toUserId(users.first()));
+        assertThrows(IllegalArgumentException.class, () -> index.add(large + 1, 1, null));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.example.document.EnrollmentBucketDocument;
+import com.example.document.PlatformDocument;
+import com.example.document.PlatformDocument.UserEmbed;
+import com.example.entity.Course;
+import com.example.entity.Platform;
+import com.example.entity.User;
+import org.junit.jupiter.api.Test;
+
+class PlatformMapperTest {
+
+    @Test
+    void bucketsSplitEachCourseInOrderUnderOneStamp() {
+        Platform platform = platform(1L);
+        Course large = course(10L, platform);
+        Course small = course(11L, platform);
+        Course empty = course(12L, platform);
+        platform.setCourses(new LinkedHashSet<>(List.of(large, small, empty)));
+        Course elsewhere = course(20L, platform(2L));
+        List<User> users = List.of(
+                user(100L, large, small),
+                user(101L, large, elsewhere),
+                user(102L, large),
+                user(103L, large),
+                user(104L, large));
+
+        List<EnrollmentBucketDocument> buckets = PlatformMapper.toBuckets(platform, users, 2, 42L);
+
+        assertEquals(4, buckets.size());
+        assertBucket(buckets.get(0), 10L, 0, List.of(100L, 101L));
+        assertBucket(buckets.get(1), 10L, 1, List.of(102L, 103L));
+        assertBucket(buckets.get(2), 10L, 2, List.of(104L));
+        assertBucket(buckets.get(3), 11L, 0, List.of(100L));
+        assertTrue(buckets.stream().allMatch(bucket -> bucket.getPlatformId() == 1L && bucket.getSyncStamp() == 42L));
+    }
+
+    @Test
+    void bucketedDocumentCountsEnrollmentsAndCarriesTheStamp() {
+        Platform platform = platform(1L);
+        Course first = course(10L, platform);
+        Course second = course(11L, platform);
+        platform.setCourses(new LinkedHashSet<>(List.of(first, second)));
+        List<User> users = List.of(user(100L, first, second), user(101L, first));
+
+        PlatformDocument doc = PlatformMapper.toBucketedDocument(platform, users, 42L);
+
+        assertTrue(doc.isBucketed());
+        assertEquals(42L, doc.getBucketStamp());
+        assertEquals(2L, doc.getUserCount());
+        assertEquals(3L, doc.getEnrollmentCount());
+        assertEquals(2, doc.getCourses().get(0).getEnrollmentCount());
+        assertEquals(1, doc.getCourses().get(1).getEnrollmentCount());
+    }
+
+    private static void assertBucket(EnrollmentBucketDocument bucket, long courseId, int bucketNo, List<Long> userIds) {
+        assertEquals(courseId, bucket.getCourseId());
+        assertEquals(bucketNo, bucket.getBucketNo());
+        assertEquals(userIds, bucket.getUsers().stream().map(UserEmbed::getId).toList());
+    }
+
+    private static Platform platform(long id) {
+        Platform platform = new Platform("platform-" + id);
+        platform.setId(id);
+        return platform;
+    }
+
+    private static Course course(long id, Platform platform) {
+        Course course = new Course("course-" + id, platform);
+        course.setId(id);
+        return course;
+    }
+
+    private static User user(long id, Course... courses) {
+        User user = new User("user-" + id, "user-" + id + "@example.com");
+        user.setId(id);
+        user.setCourses(new LinkedHashSet<>(List.of(courses)));
+        return user;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class VegasLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void growsWhileLatencyStaysAtBaseline() {
+        VegasLimit limit = new VegasLimit(10, 1, 200, 1.0, 1000);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(10 * MS, limit.getLimit(), false);
+        }
+
+        assertTrue(limit.getLimit() > 10, "limit should grow, was " + limit.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyShowsQueueing() {
+        VegasLimit limit = new VegasLimit(100, 1, 200, 1.0, 1000);
+        limit.onSample(10 * MS, 100, false);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(50 * MS, limit.getLimit(), false);
+        }
+
+        assertTrue(limit.getLimit() < 100, "limit should shrink, was " + limit.getLimit());
+    }
+
+    @Test
+    void shrinksOnDropsAndRespectsMinimum() {
+        VegasLimit limit = new VegasLimit(10, 5, 200, 1.0, 1000);
+        limit.onSample(10 * MS, 10, false);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(20 * MS, limit.getLimit(), true);
+        }
+
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    void ignoresSamplesWhenApplicationLimited() {
+        VegasLimit limit = new VegasLimit(50, 1, 200, 1.0, 1000);
+        limit.onSample(10 * MS, 1, false);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MS, 1, false);
+        }
+
+        assertEquals(50, limit.getLimit());
+    }
+
+    @Test
+    void limiterRejectsAboveLimit() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter("read", new VegasLimit(2, 1, 10, 1.0, 1000));
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(System.nanoTime(), false, false);
+        assertTrue(limiter.tryAcquire());
+    }
+}
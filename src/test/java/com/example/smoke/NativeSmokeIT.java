@@ -0,0 +1,194 @@
+package com.example.smoke;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Black-box smoke tests for the packaged service, run by failsafe in the
+ * {@code native} Maven profile against the native executable.
+ * <p>
+ * The process is started from {@code smoke.executable} (a native binary, or a
+ * jar which is launched with {@code java -jar}) with {@code smoke.app-args};
+ * alternatively {@code smoke.base-url} points the suite at an instance that is
+ * already running. Each test touches one piece of reflective machinery the
+ * native image needs metadata for: Jackson binding, Bean Validation, the JPA
+ * entities, the MongoDB read model and the JDBC proxy.
+ * </p>
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeSmokeIT {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private static final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+    private static Process process;
+    private static String baseUrl;
+
+    private static long platformId;
+    private static long courseId;
+    private static long userId;
+
+    @BeforeAll
+    static void startService() throws Exception {
+        String externalUrl = System.getProperty("smoke.base-url", "");
+        if (!externalUrl.isBlank()) {
+            baseUrl = externalUrl;
+            return;
+        }
+
+        String executable = System.getProperty("smoke.executable");
+        assertNotNull(executable, "Set smoke.executable or smoke.base-url");
+        int port = Integer.getInteger("smoke.port", 18090);
+        baseUrl = "http://localhost:" + port;
+
+        List<String> command = new ArrayList<>();
+        if (executable.endsWith(".jar")) {
+            command.addAll(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar"));
+        }
+        command.add(executable);
+        command.add("--server.port=" + port);
+        for (String arg : System.getProperty("smoke.app-args", "").trim().split("\\s+")) {
+            if (!arg.isEmpty()) command.add(arg);
+        }
+
+        File log = new File(System.getProperty("smoke.log", "target/native-smoke.log"));
+        process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(Long.getLong("smoke.startup-timeout-seconds", 120)).toNanos();
+        while (System.nanoTime() < deadline) {
+            assertTrue(process.isAlive(), "Service exited during startup, see " + log);
+            try {
+                get("/actuator/health");
+                return;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new IllegalStateException("Service did not start in time, see " + log);
+    }
+
+    @AfterAll
+    static void stopService() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    @Order(1)
+    void createsPlatformWithCourses() throws Exception {
+        HttpResponse<String> response = post("/api/platforms",
+                "{\"name\":\"smoke-platform-" + suffix + "\",\"courses\":[{\"title\":\"smoke-course-" + suffix + "\"}]}");
+
+        assertEquals(201, response.statusCode(), response.body());
+        assertTrue(response.headers().firstValue("Server-Timing").isPresent(), "Server-Timing header missing");
+
+        JsonNode platform = mapper.readTree(response.body()).path("responseEntity");
+        platformId = platform.path("id").asLong();
+        courseId = platform.path("courses").path(0).path("id").asLong();
+        assertTrue(platformId > 0 && courseId > 0, response.body());
+    }
+
+    @Test
+    @Order(2)
+    void rejectsInvalidPayload() throws Exception {
+        HttpResponse<String> response = post("/api/users", "{\"email\":\"missing-name@example.com\"}");
+
+        assertEquals(400, response.statusCode(), response.body());
+    }
+
+    @Test
+    @Order(3)
+    void createsAndEnrollsUser() throws Exception {
+        HttpResponse<String> created = post("/api/users",
+                "{\"name\":\"Smoke " + suffix + "\",\"email\":\"smoke-" + suffix + "@example.com\"}");
+        assertEquals(201, created.statusCode(), created.body());
+        userId = mapper.readTree(created.body()).path("responseEntity").path("id").asLong();
+
+        HttpResponse<String> enrolled = post("/api/users/" + userId + "/courses", "[" + courseId + "]");
+        assertEquals(200, enrolled.statusCode(), enrolled.body());
+
+        JsonNode courseIds = mapper.readTree(enrolled.body()).path("responseEntity").path("courseIds");
+        assertEquals(courseId, courseIds.path(0).asLong(), enrolled.body());
+    }
+
+    @Test
+    @Order(4)
+    void readsEnrollmentsFromMongoReadModel() throws Exception {
+        String path = "/api/platforms/" + platformId + "/users";
+        JsonNode users = null;
+
+        // The read model is written after the SQL commit; allow it a moment to catch up
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> response = get(path);
+            if (response.statusCode() == 200) {
+                users = mapper.readTree(response.body()).path("responseEntity");
+                if (users.size() > 0) break;
+            }
+            Thread.sleep(200);
+        }
+
+        assertNotNull(users, "Platform document not found");
+        assertEquals(userId, users.path(0).path("id").asLong());
+        assertEquals("smoke-" + suffix + "@example.com", users.path(0).path("email").asText());
+    }
+
+    @Test
+    @Order(5)
+    void returnsNotFoundForUnknownUser() throws Exception {
+        HttpResponse<String> response = get("/api/users/" + Long.MAX_VALUE);
+
+        assertEquals(404, response.statusCode(), response.body());
+    }
+
+    @Test
+    @Order(6)
+    void exposesPrometheusMetrics() throws Exception {
+        HttpResponse<String> response = get("/actuator/prometheus");
+
+        assertEquals(200, response.statusCode());
+        assertFalse(response.body().isEmpty());
+        assertTrue(response.body().contains("app_service_calls"), "service timer missing");
+    }
+
+    private static HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> post(String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class EnrollmentCountersTest {
+
+    @Test
+    void pendingDeltasAddToCourseAndPlatform() {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.add(10L, 100L, 1);
+        counters.add(10L, 100L, 1);
+        counters.add(11L, 100L, 1);
+        counters.add(20L, null, 1);
+        counters.add(11L, 100L, -1);
+
+        assertEquals(2, counters.courseDelta(10L));
+        assertEquals(0, counters.courseDelta(11L));
+        assertEquals(1, counters.courseDelta(20L));
+        assertEquals(2, counters.platformDelta(100L));
+        assertEquals(0, counters.platformDelta(999L));
+        assertEquals(Map.of(10L, 2L, 20L, 1L), counters.pending().courses());
+        assertEquals(Map.of(new EnrollmentCounters.Pair(10L, 100L), 2L, new EnrollmentCounters.Pair(20L, null), 1L),
+                counters.pending().pairs());
+    }
+
+    @Test
+    void flushRemovesFlushedDeltasAndKeepsLaterOnes() {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.add(10L, 100L, 3);
+        EnrollmentCounters.Snapshot pending = counters.pending();
+        counters.add(10L, 100L, 1);
+
+        counters.flushed(pending);
+
+        assertEquals(1, counters.courseDelta(10L));
+        assertEquals(1, counters.platformDelta(100L));
+        assertEquals(Map.of(10L, 1L), counters.pending().courses());
+    }
+
+    @Test
+    void discardDropsOnlyTheDeletedCourse() {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        counters.add(10L, 100L, 2);
+        counters.add(11L, 100L, 3);
+
+        counters.discardCourse(10L);
+
+        assertEquals(0, counters.courseDelta(10L));
+        assertEquals(3, counters.platformDelta(100L));
+        assertEquals(Map.of(11L, 3L), counters.pending().courses());
+        assertTrue(counters.pending().pairs().keySet().stream().noneMatch(pair -> pair.courseId() == 10L));
+    }
+
+    @Test
+    void concurrentAddsAreNotLostAcrossFlushes() throws InterruptedException {
+        EnrollmentCounters counters = new EnrollmentCounters();
+        int threads = 8;
+        int addsPerThread = 10_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < addsPerThread; i++) {
+                    counters.add(10L, 100L, 1);
+                }
+                done.countDown();
+            });
+        }
+
+        long persisted = 0;
+        while (done.getCount() > 0) {
+            EnrollmentCounters.Snapshot pending = counters.pending();
+            persisted += pending.courses().getOrDefault(10L, 0L);
+            counters.flushed(pending);
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals((long) threads * addsPerThread, persisted + counters.courseDelta(10L));
+        assertEquals((long) threads * addsPerThread, persisted + counters.platformDelta(100L));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.example.analytics.LeaderboardService;
+import com.example.document.EnrollmentBucketDocument;
+import com.example.document.PlatformDocument;
+import com.example.entity.Course;
+import com.example.entity.Platform;
+import com.example.entity.User;
+import com.example.repo.PlatformDocRepository;
+import com.example.repo.PlatformRepository;
+import com.example.repo.UserRepository;
+import com.example.resilience.BulkheadProperties;
+import com.example.resilience.BulkheadRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PlatformSyncServiceTest {
+
+    private final PlatformDocRepository platformDocRepository = mock(PlatformDocRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final EnrollmentBucketStore enrollmentBucketStore = mock(EnrollmentBucketStore.class);
+    private final LeaderboardService leaderboardService = mock(LeaderboardService.class);
+    private Platform platform;
+
+    @BeforeEach
+    void setUp() {
+        platform = new Platform("platform");
+        platform.setId(1L);
+        Course first = course(10L);
+        Course second = course(11L);
+        platform.setCourses(new LinkedHashSet<>(List.of(first, second)));
+        when(userRepository.findAllByCoursesIdIn(any())).thenReturn(List.of(
+                user(100L, first, second), user(101L, first), user(102L, second)));
+    }
+
+    @Test
+    void bucketedSyncSwitchesTheStampBeforeRemovingStaleBuckets() {
+        service(3).syncToMongo(platform);
+
+        ArgumentCaptor<List<EnrollmentBucketDocument>> buckets = ArgumentCaptor.captor();
+        ArgumentCaptor<PlatformDocument> doc = ArgumentCaptor.forClass(PlatformDocument.class);
+        InOrder order = inOrder(enrollmentBucketStore, platformDocRepository, leaderboardService);
+        order.verify(enrollmentBucketStore).write(buckets.capture());
+        order.verify(platformDocRepository).save(doc.capture());
+        long stamp = doc.getValue().getBucketStamp();
+        order.verify(enrollmentBucketStore).removeStale(1L, stamp);
+        order.verify(leaderboardService).platformSynced(doc.getValue());
+
+        assertTrue(doc.getValue().isBucketed());
+        assertEquals(2, buckets.getValue().size());
+        assertTrue(buckets.getValue().stream().allMatch(bucket -> bucket.getSyncStamp() == stamp));
+        verify(enrollmentBucketStore, never()).removeAll(any());
+    }
+
+    @Test
+    void embeddedSyncSavesTheDocumentBeforeDroppingBuckets() {
+        service(4).syncToMongo(platform);
+
+        InOrder order = inOrder(enrollmentBucketStore, platformDocRepository, leaderboardService);
+        order.verify(platformDocRepository).save(any(PlatformDocument.class));
+        order.verify(enrollmentBucketStore).removeAll(1L);
+        order.verify(leaderboardService).platformSynced(any());
+        verify(enrollmentBucketStore, never()).write(anyList());
+        verify(enrollmentBucketStore, never()).removeStale(eq(1L), anyLong());
+    }
+
+    private PlatformSyncService service(long bucketThreshold) {
+        return new PlatformSyncService(platformDocRepository, mock(PlatformRepository.class), userRepository,
+                new BulkheadRegistry(new BulkheadProperties()), mock(ReadModelMigrationService.class),
+                mock(MongoTemplate.class), enrollmentBucketStore, leaderboardService, new SyncTaskExecutor(),
+                mock(PlatformTransactionManager.class), bucketThreshold, 2, 10_000);
+    }
+
+    private Course course(long id) {
+        Course course = new Course("course-" + id, platform);
+        course.setId(id);
+        return course;
+    }
+
+    private static User user(long id, Course... courses) {
+        User user = new User("user-" + id, "user-" + id + "@example.com");
+        user.setId(id);
+        user.setCourses(Set.of(courses));
+        return user;
+    }
+}